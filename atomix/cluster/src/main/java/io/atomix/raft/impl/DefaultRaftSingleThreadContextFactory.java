@@ -16,16 +16,20 @@
 package io.atomix.raft.impl;
 
 import io.atomix.raft.RaftThreadContextFactory;
-import io.atomix.utils.concurrent.SingleThreadContext;
+import io.atomix.utils.concurrent.PrioritizedSingleThreadContext;
 import io.atomix.utils.concurrent.ThreadContext;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
+/**
+ * Creates a context which runs votes, polls and heartbeats before other pending tasks, such that
+ * they are not delayed by bulk replication or snapshot installation on the same thread.
+ */
 public class DefaultRaftSingleThreadContextFactory implements RaftThreadContextFactory {
 
   @Override
   public ThreadContext createContext(
       final ThreadFactory factory, final Consumer<Throwable> unCaughtExceptionHandler) {
-    return new SingleThreadContext(factory, unCaughtExceptionHandler);
+    return new PrioritizedSingleThreadContext(factory, unCaughtExceptionHandler);
   }
 }
@@ -60,6 +60,7 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.raft.zeebe.EntryValidator;
 import io.atomix.utils.concurrent.ComposableFuture;
+import io.atomix.utils.concurrent.PrioritizedSingleThreadContext;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
@@ -76,6 +77,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -97,6 +99,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   protected final RaftServerProtocol protocol;
   protected final RaftStorage storage;
   private final Logger log;
+  private final Executor priorityExecutor;
   private final RaftElectionConfig electionConfig;
   private final Set<RaftRoleChangeListener> roleChangeListeners = new CopyOnWriteArraySet<>();
   private final Set<Consumer<State>> stateChangeListeners = new CopyOnWriteArraySet<>();
@@ -111,6 +114,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   private final RaftReplicationMetrics replicationMetrics;
   private final MetaStore meta;
   private final RaftLog raftLog;
+  private final RaftLogFlusher logFlusher;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final LogCompactor logCompactor;
   private volatile State state = State.ACTIVE;
@@ -176,6 +180,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     threadContext =
         threadContextFactory.createContext(
             namedThreads(baseThreadName, log), this::onUncaughtException);
+    priorityExecutor =
+        threadContext instanceof PrioritizedSingleThreadContext
+            ? ((PrioritizedSingleThreadContext) threadContext)::executeWithPriority
+            : threadContext;
     // in order to set the partition id once in the raft thread
     threadContext.execute(() -> MDC.put("partitionId", Integer.toString(partitionId)));
 
@@ -206,6 +214,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
 
     replicationMetrics = new RaftReplicationMetrics(name);
     replicationMetrics.setAppendIndex(raftLog.getLastIndex());
+    logFlusher =
+        new RaftLogFlusher(
+            raftLog,
+            threadContext,
+            partitionConfig.getGroupCommitWindow(),
+            partitionConfig.getGroupCommitMaxSize(),
+            this::setLastWrittenIndex,
+            replicationMetrics);
     lastHeartbeat = System.currentTimeMillis();
 
     // Register protocol listeners.
@@ -263,15 +279,28 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     protocol.registerInstallHandler(request -> runOnContext(() -> role.onInstall(request)));
     protocol.registerReconfigureHandler(request -> runOnContext(() -> role.onReconfigure(request)));
     protocol.registerTransferHandler(request -> runOnContext(() -> role.onTransfer(request)));
-    protocol.registerAppendHandler(request -> runOnContext(() -> role.onAppend(request)));
-    protocol.registerPollHandler(request -> runOnContext(() -> role.onPoll(request)));
-    protocol.registerVoteHandler(request -> runOnContext(() -> role.onVote(request)));
+    // heartbeats, polls and votes are handled with priority, so that they're not delayed by bulk
+    // replication and followers don't time out and start elections while the leader is alive
+    protocol.registerAppendHandler(
+        request ->
+            request.entries().isEmpty()
+                ? runOnContext(priorityExecutor, () -> role.onAppend(request))
+                : runOnContext(() -> role.onAppend(request)));
+    protocol.registerPollHandler(
+        request -> runOnContext(priorityExecutor, () -> role.onPoll(request)));
+    protocol.registerVoteHandler(
+        request -> runOnContext(priorityExecutor, () -> role.onVote(request)));
   }
 
   private <R extends RaftResponse> CompletableFuture<R> runOnContext(
       final Supplier<CompletableFuture<R>> function) {
+    return runOnContext(threadContext, function);
+  }
+
+  private <R extends RaftResponse> CompletableFuture<R> runOnContext(
+      final Executor executor, final Supplier<CompletableFuture<R>> function) {
     final CompletableFuture<R> future = new CompletableFuture<>();
-    threadContext.execute(
+    executor.execute(
         () ->
             function
                 .get()
@@ -440,8 +469,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
       if (raftLog.shouldFlushExplicitly() && isLeader()) {
         // leader counts itself in quorum, so in order to commit the leader must persist
-        raftLog.flush();
-        setLastWrittenIndex(commitIndex);
+        logFlusher.flushUpTo(commitIndex);
       }
       final long configurationIndex = cluster.getConfiguration().index();
       if (configurationIndex > previousCommitIndex && configurationIndex <= commitIndex) {
@@ -887,6 +915,15 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return raftLog;
   }
 
+  /**
+   * Returns the flusher of the server log, which must be used to flush appended entries.
+   *
+   * @return The log flusher.
+   */
+  public RaftLogFlusher getLogFlusher() {
+    return logFlusher;
+  }
+
   /**
    * Returns the cluster service.
    *
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.impl;
+
+import io.atomix.raft.metrics.RaftReplicationMetrics;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Flushes the Raft log, coalescing the flushes of entries which are appended in quick succession
+ * into a single flush (group commit).
+ *
+ * <p>Entries which were appended on behalf of a request must only be acknowledged once they are
+ * flushed. Instead of flushing on every request, the acknowledgements are delayed until the group
+ * commit window elapsed, or enough entries were appended, and are then sent after a single flush
+ * which covers the entries of all of them. With a window of zero, every request is flushed and
+ * acknowledged immediately.
+ *
+ * <p>Independently of the window, a flush is skipped if the entries were already flushed by a
+ * previous one. All methods must be called from the Raft thread.
+ */
+public final class RaftLogFlusher {
+
+  private final RaftLog log;
+  private final ThreadContext threadContext;
+  private final Duration window;
+  private final int maxSize;
+  private final LongConsumer flushListener;
+  private final RaftReplicationMetrics metrics;
+
+  private final List<Runnable> pendingAcknowledgements = new ArrayList<>();
+  private long pendingSize;
+  private Scheduled scheduledFlush;
+  private long writtenIndex;
+  // entries up to this index were flushed by this flusher; entries written before it was created
+  // are flushed by its first flush
+  private long flushedIndex;
+
+  public RaftLogFlusher(
+      final RaftLog log,
+      final ThreadContext threadContext,
+      final Duration window,
+      final int maxSize,
+      final LongConsumer flushListener,
+      final RaftReplicationMetrics metrics) {
+    this.log = log;
+    this.threadContext = threadContext;
+    this.window = window;
+    this.maxSize = maxSize;
+    this.flushListener = flushListener;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Flushes the log if the entries up to the given index may not be flushed yet.
+   *
+   * @param index the index up to which the entries must be flushed
+   */
+  public void flushUpTo(final long index) {
+    writtenIndex = Math.max(writtenIndex, index);
+    if (index > flushedIndex || !pendingAcknowledgements.isEmpty()) {
+      flush();
+    }
+  }
+
+  /**
+   * Runs the given acknowledgement once the entries up to the given index are flushed.
+   * Acknowledgements run in the order in which they were passed.
+   *
+   * @param index the index of the last entry which was appended for this acknowledgement
+   * @param appendedSize the size of the entries which were appended for this acknowledgement, or
+   *     zero if none were appended
+   * @param acknowledgement the acknowledgement to run once the appended entries are flushed
+   */
+  public void acknowledgeWhenFlushed(
+      final long index, final int appendedSize, final Runnable acknowledgement) {
+    if (pendingAcknowledgements.isEmpty() && (appendedSize == 0 || !log.shouldFlushExplicitly())) {
+      acknowledgement.run();
+      return;
+    }
+
+    pendingAcknowledgements.add(acknowledgement);
+    pendingSize += appendedSize;
+    writtenIndex = Math.max(writtenIndex, index);
+
+    if (window.isZero() || pendingSize >= maxSize) {
+      flush();
+    } else if (scheduledFlush == null) {
+      scheduledFlush = threadContext.schedule(window, this::flush);
+    }
+  }
+
+  /** Flushes all appended entries, if not done yet, and runs the pending acknowledgements. */
+  public void flush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+      scheduledFlush = null;
+    }
+
+    // the flush covers all entries of the log, not only the ones which must be flushed now
+    final long lastIndex = Math.max(writtenIndex, log.getLastIndex());
+    if (log.shouldFlushExplicitly() && lastIndex > flushedIndex) {
+      log.flush();
+      metrics.observeFlush(lastIndex - flushedIndex);
+      flushedIndex = lastIndex;
+      flushListener.accept(lastIndex);
+    }
+
+    pendingSize = 0;
+    if (!pendingAcknowledgements.isEmpty()) {
+      final List<Runnable> acknowledgements = new ArrayList<>(pendingAcknowledgements);
+      pendingAcknowledgements.clear();
+      acknowledgements.forEach(Runnable::run);
+    }
+  }
+
+  /**
+   * Deletes the entries after the given index and flushes the truncated log. The entries appended
+   * before are flushed and acknowledged first, as they may be deleted.
+   *
+   * @param index the index after which to delete the entries
+   */
+  public void deleteAfter(final long index) {
+    flush();
+
+    log.deleteAfter(index);
+    log.flush();
+    writtenIndex = index;
+    flushedIndex = index;
+    flushListener.accept(index);
+  }
+
+  /**
+   * Resets the log to start at the given index. The entries appended before are flushed and
+   * acknowledged first, as they are deleted.
+   *
+   * @param index the index at which the log starts after the reset
+   */
+  public void reset(final long index) {
+    flush();
+
+    log.reset(index);
+    writtenIndex = index - 1;
+    flushedIndex = index - 1;
+  }
+}
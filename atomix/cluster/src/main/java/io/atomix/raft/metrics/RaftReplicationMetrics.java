@@ -16,6 +16,7 @@
 package io.atomix.raft.metrics;
 
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class RaftReplicationMetrics extends RaftMetrics {
 
@@ -39,6 +40,15 @@ public class RaftReplicationMetrics extends RaftMetrics {
           .name("partition_raft_append_index")
           .register();
 
+  private static final Histogram ENTRIES_PER_FLUSH =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The number of entries made durable by a single flush of the log")
+          .name("partition_raft_entries_per_flush")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024)
+          .register();
+
   public RaftReplicationMetrics(final String partitionName) {
     super(partitionName);
   }
@@ -50,4 +60,8 @@ public class RaftReplicationMetrics extends RaftMetrics {
   public void setAppendIndex(final long value) {
     APPEND_INDEX.labels(partitionGroupName, partition).set(value);
   }
+
+  public void observeFlush(final long flushedEntries) {
+    ENTRIES_PER_FLUSH.labels(partitionGroupName, partition).observe(flushedEntries);
+  }
 }
@@ -30,6 +30,8 @@ public class RaftPartitionConfig {
   private static final RoundRobinPartitionDistributor DEFAULT_PARTITION_DISTRIBUTOR =
       new RoundRobinPartitionDistributor();
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  private static final int DEFAULT_GROUP_COMMIT_MAX_SIZE = 4 * 1024 * 1024;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
@@ -41,6 +43,8 @@ public class RaftPartitionConfig {
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private PartitionDistributor partitionDistributor = DEFAULT_PARTITION_DISTRIBUTOR;
   private int preferSnapshotReplicationThreshold = DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD;
+  private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+  private int groupCommitMaxSize = DEFAULT_GROUP_COMMIT_MAX_SIZE;
 
   /**
    * Returns the Raft leader election timeout.
@@ -167,4 +171,33 @@ public class RaftPartitionConfig {
   public void setPreferSnapshotReplicationThreshold(final int preferSnapshotReplicationThreshold) {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
+
+  /**
+   * Returns the time for which a follower delays flushing appended entries, such that a single
+   * flush covers the entries of several append requests. Append requests are only acknowledged
+   * after their entries were flushed.
+   *
+   * @return the group commit window, or zero if entries are flushed on every append request
+   */
+  public Duration getGroupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  public void setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+  }
+
+  /**
+   * Returns the size of appended entries in bytes after which a follower flushes them, even if the
+   * group commit window did not elapse yet.
+   *
+   * @return the maximum size of entries to append before flushing them
+   */
+  public int getGroupCommitMaxSize() {
+    return groupCommitMaxSize;
+  }
+
+  public void setGroupCommitMaxSize(final int groupCommitMaxSize) {
+    this.groupCommitMaxSize = groupCommitMaxSize;
+  }
 }
@@ -407,6 +407,18 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets whether to preallocate the next log segment in the background, such that rolling over to
+     * a new segment doesn't wait for the segment file to be created.
+     *
+     * @param preallocateSegments whether to preallocate the next log segment
+     * @return the Raft partition group builder
+     */
+    public Builder withPreallocateSegments(final boolean preallocateSegments) {
+      config.getStorageConfig().setPreallocateSegments(preallocateSegments);
+      return this;
+    }
+
     /**
      * Sets the Raft snapshot store factory to use.
      *
@@ -508,6 +520,34 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the group commit window, i.e. the time for which followers delay flushing appended
+     * entries, such that a single flush covers the entries of several append requests. A window of
+     * zero flushes the entries of every append request immediately.
+     *
+     * @param groupCommitWindow the time to delay flushes
+     * @return this builder for chaining
+     */
+    public Builder withGroupCommitWindow(final Duration groupCommitWindow) {
+      checkNotNull(groupCommitWindow, "groupCommitWindow cannot be null");
+      checkArgument(!groupCommitWindow.isNegative(), "groupCommitWindow must not be negative");
+      config.getPartitionConfig().setGroupCommitWindow(groupCommitWindow);
+      return this;
+    }
+
+    /**
+     * Sets the size of appended entries after which followers flush them, even if the group commit
+     * window did not elapse yet.
+     *
+     * @param groupCommitMaxSize the maximum size of entries to append before flushing, in bytes
+     * @return this builder for chaining
+     */
+    public Builder withGroupCommitMaxSize(final int groupCommitMaxSize) {
+      checkArgument(groupCommitMaxSize > 0, "groupCommitMaxSize must be positive");
+      config.getPartitionConfig().setGroupCommitMaxSize(groupCommitMaxSize);
+      return this;
+    }
+
     @Override
     public RaftPartitionGroup build() {
       return new RaftPartitionGroup(config);
@@ -28,12 +28,14 @@ public class RaftStorageConfig {
   private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENTS = true;
 
   private String directory;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private boolean preallocateSegments = DEFAULT_PREALLOCATE_SEGMENTS;
 
   @Optional("SnapshotStoreFactory")
   private ReceivableSnapshotStoreFactory persistedSnapshotStoreFactory;
@@ -92,6 +94,27 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns whether the next log segment is preallocated in the background, such that rolling over
+   * to a new segment doesn't wait for the segment file to be created.
+   *
+   * @return whether to preallocate the next segment
+   */
+  public boolean shouldPreallocateSegments() {
+    return preallocateSegments;
+  }
+
+  /**
+   * Sets whether the next log segment is preallocated in the background.
+   *
+   * @param preallocateSegments whether to preallocate the next segment
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setPreallocateSegments(final boolean preallocateSegments) {
+    this.preallocateSegments = preallocateSegments;
+    return this;
+  }
+
   /**
    * Sets the partition data directory.
    *
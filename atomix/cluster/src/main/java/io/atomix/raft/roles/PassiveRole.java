@@ -19,6 +19,7 @@ package io.atomix.raft.roles;
 import io.atomix.raft.RaftError;
 import io.atomix.raft.RaftServer;
 import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.impl.RaftLogFlusher;
 import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -76,6 +77,8 @@ public class PassiveRole extends InactiveRole {
 
   @Override
   public CompletableFuture<Void> stop() {
+    // acknowledge the appends which are still waiting for their entries to be flushed
+    raft.getLogFlusher().flush();
     abortPendingSnapshots();
     if (snapshotListener != null) {
       raft.getPersistedSnapshotStore().removeSnapshotListener(snapshotListener);
@@ -95,10 +98,7 @@ public class PassiveRole extends InactiveRole {
   /** Truncates uncommitted entries from the log. */
   private void truncateUncommittedEntries() {
     if (role() == RaftServer.Role.PASSIVE && raft.getLog().getLastIndex() > raft.getCommitIndex()) {
-      raft.getLog().deleteAfter(raft.getCommitIndex());
-
-      raft.getLog().flush();
-      raft.setLastWrittenIndex(raft.getCommitIndex());
+      raft.getLogFlusher().deleteAfter(raft.getCommitIndex());
     }
 
     // to fix the edge case where we might have been stopped
@@ -118,7 +118,8 @@ public class PassiveRole extends InactiveRole {
    * @return the snapshot listener which will be installed
    */
   protected PersistedSnapshotListener createSnapshotListener() {
-    return new ResetWriterSnapshotListener(log, raft.getThreadContext(), raft.getLog());
+    return new ResetWriterSnapshotListener(
+        log, raft.getThreadContext(), raft.getLog(), raft.getLogFlusher());
   }
 
   private void addSnapshotListener() {
@@ -535,7 +536,7 @@ public class PassiveRole extends InactiveRole {
       // Reset the log to the previous index plus one.
       if (request.prevLogTerm() == 0) {
         log.debug("Reset first index to {}", request.prevLogIndex() + 1);
-        raft.getLog().reset(request.prevLogIndex() + 1);
+        raft.getLogFlusher().reset(request.prevLogIndex() + 1);
       }
 
       // Iterate through entries and append them.
@@ -547,7 +548,7 @@ public class PassiveRole extends InactiveRole {
 
         final boolean failedToAppend = tryToAppend(future, entry, index, lastEntry);
         if (failedToAppend) {
-          flush(lastLogIndex - 1, request.prevLogIndex());
+          flushUpTo(lastLogIndex - 1, request.prevLogIndex());
           return;
         }
 
@@ -569,17 +570,29 @@ public class PassiveRole extends InactiveRole {
       raft.notifyCommitListeners(commitIndex);
     }
 
-    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
-    flush(lastLogIndex, request.prevLogIndex());
+    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge;
+    // the flush may be delayed to share it with the following append requests
+    final long lastAppendedIndex = lastLogIndex;
+    final int appendedSize =
+        lastLogIndex > request.prevLogIndex() ? getAppendedSize(request, lastLogIndex) : 0;
+    raft.getLogFlusher()
+        .acknowledgeWhenFlushed(
+            lastAppendedIndex, appendedSize, () -> succeedAppend(lastAppendedIndex, future));
+  }
 
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+  private int getAppendedSize(final AppendRequest request, final long lastLogIndex) {
+    final int appendedEntries = (int) (lastLogIndex - request.prevLogIndex());
+    int appendedSize = 0;
+    for (final PersistedRaftRecord entry : request.entries().subList(0, appendedEntries)) {
+      appendedSize += entry.approximateSize();
+    }
+    // an empty entry still has to be flushed
+    return Math.max(appendedSize, 1);
   }
 
-  private void flush(final long lastWrittenIndex, final long previousEntryIndex) {
-    if (raft.getLog().shouldFlushExplicitly() && lastWrittenIndex > previousEntryIndex) {
-      raft.getLog().flush();
-      raft.setLastWrittenIndex(lastWrittenIndex);
+  private void flushUpTo(final long lastWrittenIndex, final long previousEntryIndex) {
+    if (lastWrittenIndex > previousEntryIndex) {
+      raft.getLogFlusher().flushUpTo(lastWrittenIndex);
     }
   }
 
@@ -601,9 +614,7 @@ public class PassiveRole extends InactiveRole {
         // If the last entry term doesn't match the leader's term for the same entry, truncate
         // the log and append the leader's entry.
         if (lastEntry.term() != entry.term()) {
-          raft.getLog().deleteAfter(index - 1);
-          raft.getLog().flush();
-          raft.setLastWrittenIndex(index - 1);
+          raft.getLogFlusher().deleteAfter(index - 1);
 
           failedToAppend = !appendEntry(index, entry, future);
         }
@@ -654,9 +665,7 @@ public class PassiveRole extends InactiveRole {
       // truncate
       // the log and append the leader's entry.
       if (existingEntry.term() != entry.term()) {
-        raft.getLog().deleteAfter(index - 1);
-        raft.getLog().flush();
-        raft.setLastWrittenIndex(index - 1);
+        raft.getLogFlusher().deleteAfter(index - 1);
 
         return appendEntry(index, entry, future);
       }
@@ -746,13 +755,18 @@ public class PassiveRole extends InactiveRole {
 
     private final ThreadContext threadContext;
     private final RaftLog raftLog;
+    private final RaftLogFlusher logFlusher;
     private final Logger log;
 
     ResetWriterSnapshotListener(
-        final Logger log, final ThreadContext threadContext, final RaftLog raftLog) {
+        final Logger log,
+        final ThreadContext threadContext,
+        final RaftLog raftLog,
+        final RaftLogFlusher logFlusher) {
       this.log = log;
       this.threadContext = threadContext;
       this.raftLog = raftLog;
+      this.logFlusher = logFlusher;
     }
 
     @Override
@@ -772,7 +786,7 @@ public class PassiveRole extends InactiveRole {
               "Delete existing log (lastIndex '{}') and replace with received snapshot (index '{}')",
               lastIndex,
               index);
-          raftLog.reset(index + 1);
+          logFlusher.reset(index + 1);
         }
       } else {
         threadContext.execute(() -> onNewSnapshot(persistedSnapshot));
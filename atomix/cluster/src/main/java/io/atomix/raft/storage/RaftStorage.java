@@ -57,6 +57,7 @@ public final class RaftStorage {
   private final boolean flushExplicitly;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
+  private final boolean preallocateSegments;
 
   private RaftStorage(
       final String prefix,
@@ -65,7 +66,8 @@ public final class RaftStorage {
       final long freeDiskSpace,
       final boolean flushExplicitly,
       final ReceivableSnapshotStore persistedSnapshotStore,
-      final int journalIndexDensity) {
+      final int journalIndexDensity,
+      final boolean preallocateSegments) {
     this.prefix = prefix;
     this.directory = directory;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +75,7 @@ public final class RaftStorage {
     this.flushExplicitly = flushExplicitly;
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
+    this.preallocateSegments = preallocateSegments;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -171,6 +174,7 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withFlushExplicitly(flushExplicitly)
         .withJournalIndexDensity(journalIndexDensity)
+        .withPreallocateSegments(preallocateSegments)
         .withLastWrittenIndex(lastWrittenIndex)
         .build();
   }
@@ -218,6 +222,7 @@ public final class RaftStorage {
     private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024;
     private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+    private static final boolean DEFAULT_PREALLOCATE_SEGMENTS = true;
 
     private String prefix = DEFAULT_PREFIX;
     private File directory = new File(DEFAULT_DIRECTORY);
@@ -226,6 +231,7 @@ public final class RaftStorage {
     private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+    private boolean preallocateSegments = DEFAULT_PREALLOCATE_SEGMENTS;
 
     private Builder() {}
 
@@ -316,6 +322,18 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the next log segment is preallocated in the background, such that rolling over
+     * to a new segment doesn't wait for the segment file to be created.
+     *
+     * @param preallocateSegments whether to preallocate the next segment
+     * @return the storage builder
+     */
+    public Builder withPreallocateSegments(final boolean preallocateSegments) {
+      this.preallocateSegments = preallocateSegments;
+      return this;
+    }
+
     /**
      * Builds the {@link RaftStorage} object.
      *
@@ -330,7 +348,8 @@ public final class RaftStorage {
           freeDiskSpace,
           flushExplicitly,
           persistedSnapshotStore,
-          journalIndexDensity);
+          journalIndexDensity,
+          preallocateSegments);
     }
   }
 }
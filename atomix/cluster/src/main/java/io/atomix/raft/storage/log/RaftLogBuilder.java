@@ -113,6 +113,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the next segment of the journal is preallocated in the background, such that
+   * rolling over to a new segment doesn't wait for the segment file to be created.
+   *
+   * @param preallocateSegments whether to preallocate the next segment
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPreallocateSegments(final boolean preallocateSegments) {
+    journalBuilder.withPreallocateSegments(preallocateSegments);
+    return this;
+  }
+
   public RaftLogBuilder withLastWrittenIndex(final long lastWrittenIndex) {
     journalBuilder.withLastWrittenIndex(lastWrittenIndex);
     return this;
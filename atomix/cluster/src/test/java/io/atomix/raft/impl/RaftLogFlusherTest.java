@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.DeterministicSingleThreadContext;
+import io.atomix.raft.metrics.RaftReplicationMetrics;
+import io.atomix.raft.storage.log.RaftLog;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jmock.lib.concurrent.DeterministicScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftLogFlusherTest {
+
+  private static final Duration WINDOW = Duration.ofMillis(10);
+
+  private final List<String> acknowledged = new ArrayList<>();
+  private final List<Long> flushedIndexes = new ArrayList<>();
+  private RaftLog log;
+  private DeterministicScheduler scheduler;
+  private RaftLogFlusher flusher;
+
+  @BeforeEach
+  void setUp() {
+    log = mock(RaftLog.class);
+    when(log.shouldFlushExplicitly()).thenReturn(true);
+
+    final var threadContext =
+        (DeterministicSingleThreadContext) DeterministicSingleThreadContext.createContext();
+    scheduler = threadContext.getDeterministicScheduler();
+    flusher =
+        new RaftLogFlusher(
+            log,
+            threadContext,
+            WINDOW,
+            100,
+            flushedIndexes::add,
+            mock(RaftReplicationMetrics.class));
+  }
+
+  @Test
+  void shouldFlushOnceForAppendsWithinWindow() {
+    // when
+    flusher.acknowledgeWhenFlushed(1, 10, () -> acknowledged.add("a"));
+    flusher.acknowledgeWhenFlushed(2, 10, () -> acknowledged.add("b"));
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    verify(log, never()).flush();
+
+    scheduler.tick(WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+    assertThat(acknowledged).containsExactly("a", "b");
+    assertThat(flushedIndexes).containsExactly(2L);
+    verify(log).flush();
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenMaxSizeIsReached() {
+    // when
+    flusher.acknowledgeWhenFlushed(1, 60, () -> acknowledged.add("a"));
+    flusher.acknowledgeWhenFlushed(2, 60, () -> acknowledged.add("b"));
+
+    // then
+    assertThat(acknowledged).containsExactly("a", "b");
+    verify(log).flush();
+
+    scheduler.tick(WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+    verify(log).flush();
+  }
+
+  @Test
+  void shouldFlushEveryAppendWithoutWindow() {
+    // given
+    flusher =
+        new RaftLogFlusher(
+            log,
+            DeterministicSingleThreadContext.createContext(),
+            Duration.ZERO,
+            100,
+            flushedIndexes::add,
+            mock(RaftReplicationMetrics.class));
+
+    // when
+    flusher.acknowledgeWhenFlushed(1, 10, () -> acknowledged.add("a"));
+    flusher.acknowledgeWhenFlushed(2, 10, () -> acknowledged.add("b"));
+
+    // then
+    assertThat(acknowledged).containsExactly("a", "b");
+    assertThat(flushedIndexes).containsExactly(1L, 2L);
+    verify(log, times(2)).flush();
+  }
+
+  @Test
+  void shouldAcknowledgeInOrderWhenNothingWasAppended() {
+    // given
+    flusher.acknowledgeWhenFlushed(1, 10, () -> acknowledged.add("a"));
+
+    // when
+    flusher.acknowledgeWhenFlushed(1, 0, () -> acknowledged.add("heartbeat"));
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    scheduler.tick(WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+    assertThat(acknowledged).containsExactly("a", "heartbeat");
+
+    flusher.acknowledgeWhenFlushed(1, 0, () -> acknowledged.add("next heartbeat"));
+    assertThat(acknowledged).containsExactly("a", "heartbeat", "next heartbeat");
+  }
+
+  @Test
+  void shouldNotFlushAgainIfAlreadyFlushed() {
+    // given
+    when(log.getLastIndex()).thenReturn(5L);
+    flusher.flushUpTo(3);
+
+    // when
+    flusher.flushUpTo(5);
+
+    // then
+    verify(log).flush();
+    assertThat(flushedIndexes).containsExactly(5L);
+  }
+
+  @Test
+  void shouldAcknowledgePendingAppendsBeforeTruncating() {
+    // given
+    flusher.acknowledgeWhenFlushed(3, 10, () -> acknowledged.add("a"));
+
+    // when
+    flusher.deleteAfter(1);
+
+    // then
+    assertThat(acknowledged).containsExactly("a");
+    assertThat(flushedIndexes).containsExactly(3L, 1L);
+    final var inOrder = inOrder(log);
+    inOrder.verify(log).flush();
+    inOrder.verify(log).deleteAfter(1);
+    inOrder.verify(log).flush();
+  }
+
+  @Test
+  void shouldFlushEntriesAppendedAfterTruncation() {
+    // given
+    flusher.flushUpTo(3);
+    flusher.deleteAfter(1);
+
+    // when
+    flusher.flushUpTo(2);
+
+    // then
+    assertThat(flushedIndexes).containsExactly(3L, 1L, 2L);
+  }
+}
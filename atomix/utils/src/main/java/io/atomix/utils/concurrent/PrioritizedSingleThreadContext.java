@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.utils.concurrent;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+/**
+ * Single threaded context which can execute latency-sensitive commands with priority.
+ *
+ * <p>A command executed via {@link #executeWithPriority(Runnable)} runs before any other command
+ * which is not started yet, i.e. it waits at most for the command which is currently running
+ * instead of for all commands which were submitted before it.
+ */
+public class PrioritizedSingleThreadContext extends SingleThreadContext {
+
+  private final Queue<Runnable> priorityCommands = new ConcurrentLinkedQueue<>();
+
+  public PrioritizedSingleThreadContext(
+      final ThreadFactory factory, final Consumer<Throwable> uncaughtExceptionObserver) {
+    super(factory, uncaughtExceptionObserver);
+  }
+
+  /**
+   * Executes the given command before all commands which were submitted but not started yet.
+   * Commands executed with priority run in the order in which they were submitted.
+   *
+   * @param command the command to execute
+   */
+  public void executeWithPriority(final Runnable command) {
+    priorityCommands.add(new WrappedRunnable(command));
+    // runs the command if no other command is submitted until then
+    super.execute(this::runPriorityCommands);
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    super.execute(
+        () -> {
+          runPriorityCommands();
+          command.run();
+        });
+  }
+
+  @Override
+  public Scheduled schedule(final Duration delay, final Runnable runnable) {
+    return super.schedule(
+        delay,
+        () -> {
+          runPriorityCommands();
+          runnable.run();
+        });
+  }
+
+  @Override
+  public Scheduled schedule(
+      final Duration delay, final Duration interval, final Runnable runnable) {
+    return super.schedule(
+        delay,
+        interval,
+        () -> {
+          runPriorityCommands();
+          runnable.run();
+        });
+  }
+
+  private void runPriorityCommands() {
+    Runnable command;
+    while ((command = priorityCommands.poll()) != null) {
+      try {
+        command.run();
+      } catch (final Throwable e) {
+        // already handled by the wrapped command, and must not prevent the other commands to run
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.utils.concurrent;
+
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PrioritizedSingleThreadContextTest {
+
+  private final Logger log = LoggerFactory.getLogger("thread");
+  private final List<Throwable> exceptions = new CopyOnWriteArrayList<>();
+  private final PrioritizedSingleThreadContext threadContext =
+      new PrioritizedSingleThreadContext(namedThreads("test", log), exceptions::add);
+
+  @After
+  public void tearDown() {
+    threadContext.close();
+  }
+
+  @Test
+  public void shouldExecuteCommandWithPriorityBeforePendingCommands() throws Exception {
+    // given
+    final CountDownLatch blocked = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(1);
+    final List<String> executed = new CopyOnWriteArrayList<>();
+    threadContext.execute(() -> awaitUninterruptibly(blocked));
+    threadContext.execute(() -> executed.add("first"));
+    threadContext.execute(
+        () -> {
+          executed.add("second");
+          done.countDown();
+        });
+
+    // when
+    threadContext.executeWithPriority(() -> executed.add("firstPriority"));
+    threadContext.executeWithPriority(() -> executed.add("secondPriority"));
+    blocked.countDown();
+
+    // then
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of("firstPriority", "secondPriority", "first", "second"), executed);
+  }
+
+  @Test
+  public void shouldExecuteCommandWithPriorityWithoutPendingCommands() throws Exception {
+    // given
+    final CountDownLatch executed = new CountDownLatch(1);
+
+    // when
+    threadContext.executeWithPriority(executed::countDown);
+
+    // then
+    assertTrue(executed.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void shouldExecutePendingCommandsIfCommandWithPriorityFails() throws Exception {
+    // given
+    final CountDownLatch blocked = new CountDownLatch(1);
+    final CountDownLatch executed = new CountDownLatch(1);
+    threadContext.execute(() -> awaitUninterruptibly(blocked));
+    threadContext.execute(executed::countDown);
+    final RuntimeException failure = new RuntimeException("expected");
+
+    // when
+    threadContext.executeWithPriority(
+        () -> {
+          throw failure;
+        });
+    blocked.countDown();
+
+    // then
+    assertTrue(executed.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of(failure), exceptions);
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
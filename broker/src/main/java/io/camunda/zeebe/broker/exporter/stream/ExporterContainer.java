@@ -11,6 +11,7 @@ import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
@@ -32,6 +33,7 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private ExporterRecordFilter recordFilter;
   private long position;
   private long lastUnacknowledgedPosition;
   private ExportersState exportersState;
@@ -123,10 +125,18 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
+  private boolean acceptRecord(
+      final RecordMetadata metadata, final RecordValueProperties valueProperties) {
+    return getRecordFilter().accept(metadata, valueProperties);
+  }
+
+  /** @return the evaluation of the exporter's current filter, which is set when it's configured */
+  ExporterRecordFilter getRecordFilter() {
     final Context.RecordFilter filter = context.getFilter();
-    return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType());
+    if (recordFilter == null || !recordFilter.isFilter(filter)) {
+      recordFilter = new ExporterRecordFilter(filter);
+    }
+    return recordFilter;
   }
 
   void configureExporter() throws Exception {
@@ -135,10 +145,13 @@ final class ExporterContainer implements Controller {
         () -> exporter.configure(context), exporter.getClass().getClassLoader());
   }
 
-  boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
+  boolean exportRecord(
+      final RecordMetadata rawMetadata,
+      final RecordValueProperties valueProperties,
+      final TypedRecord typedEvent) {
     try {
       if (position < typedEvent.getPosition()) {
-        if (acceptRecord(rawMetadata)) {
+        if (acceptRecord(rawMetadata, valueProperties)) {
           export(typedEvent);
         } else {
           updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
@@ -151,6 +164,32 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  /**
+   * Exports the records of the batch which this exporter accepts and didn't export yet.
+   *
+   * @return true if the batch was exported; false if it must be retried
+   */
+  boolean exportBatch(final LogRecordBatch batch) {
+    try {
+      if (position < batch.getPosition()) {
+        batch.filter(position, this::acceptRecord);
+        final var batchExporter = (BatchExporter) exporter;
+        ThreadContextUtil.runWithClassLoader(
+            () -> batchExporter.exportBatch(batch), exporter.getClass().getClassLoader());
+        lastUnacknowledgedPosition = batch.getPosition();
+      }
+      return true;
+    } catch (final Exception ex) {
+      context.getLogger().warn("Error on exporting batch {}", batch, ex);
+      return false;
+    }
+  }
+
+  /** @return true if the exporter receives the records in batches, see {@link BatchExporter} */
+  boolean isBatchExporter() {
+    return exporter instanceof BatchExporter;
+  }
+
   private void export(final Record<?> record) {
     ThreadContextUtil.runWithClassLoader(
         () -> exporter.export(record), exporter.getClass().getClassLoader());
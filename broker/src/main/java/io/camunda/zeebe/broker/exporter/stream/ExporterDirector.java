@@ -14,15 +14,12 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.EventFilter;
 import io.camunda.zeebe.engine.processing.streamprocessor.RecordValues;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedEventImpl;
-import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
-import io.camunda.zeebe.protocol.record.RecordType;
-import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
 import io.camunda.zeebe.util.health.HealthMonitorable;
@@ -36,14 +33,12 @@ import io.camunda.zeebe.util.sched.SchedulingHints;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
@@ -55,10 +50,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  // the number of records which are read in one actor job, before yielding to other jobs
+  private static final int MAX_RECORDS_PER_JOB = 100;
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
+  private final List<ExporterContainer> batchContainers;
   private final LogStream logStream;
   private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
@@ -67,7 +65,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final RetryStrategy exportingRetryStrategy;
   private final RetryStrategy recordWrapStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
+  private final RecordMetadata eventMetadata = new RecordMetadata();
+  private final RecordValueProperties valueProperties = new RecordValueProperties();
   private LogStreamReader logStreamReader;
+  private LogRecordBatch recordBatch;
+  private int batchContainerIndex;
   private EventFilter eventFilter;
   private ExportersState state;
 
@@ -92,7 +94,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     logStream = Objects.requireNonNull(context.getLogStream());
     partitionId = logStream.getPartitionId();
     metrics = new ExporterMetrics(partitionId);
-    recordExporter = new RecordExporter(metrics, containers, partitionId);
+    batchContainers =
+        containers.stream().filter(ExporterContainer::isBatchExporter).collect(Collectors.toList());
+    final List<ExporterContainer> recordContainers =
+        containers.stream().filter(c -> !c.isBatchExporter()).collect(Collectors.toList());
+    recordExporter = new RecordExporter(metrics, recordContainers, valueProperties, partitionId);
     exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
@@ -169,6 +175,24 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
               actor.close();
             }
           });
+
+      if (!batchContainers.isEmpty()) {
+        // batch exporters read their records with a separate reader, which is positioned
+        // independently of the one reading the next records
+        actor.runOnCompletionBlockingCurrentPhase(
+            logStream.newLogStreamReader(),
+            (reader, error) -> {
+              if (error == null) {
+                recordBatch = new LogRecordBatch(reader, partitionId);
+              } else {
+                LOG.error(
+                    "Unexpected error on retrieving reader from log {}",
+                    logStream.getLogName(),
+                    error);
+                actor.close();
+              }
+            });
+      }
     }
   }
 
@@ -207,6 +231,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (logStreamReader != null) {
       logStreamReader.close();
     }
+    if (recordBatch != null) {
+      recordBatch.close();
+    }
     logStream.removeRecordAvailableListener(this);
   }
 
@@ -277,25 +304,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
-
-    final List<Context.RecordFilter> recordFilters =
-        containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
-
-    final Map<RecordType, Boolean> acceptRecordTypes =
-        Arrays.stream(RecordType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
-
-    final Map<ValueType, Boolean> acceptValueTypes =
-        Arrays.stream(ValueType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
-
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
+    final List<ExporterRecordFilter> recordFilters =
+        containers.stream().map(ExporterContainer::getRecordFilter).collect(Collectors.toList());
+    return new ExporterEventFilter(recordFilters, valueProperties);
   }
 
   private void onFailure() {
@@ -352,38 +363,142 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterPositions(exportPositionsMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
+  private void skipEvent(final LoggedEvent currentEvent) {
     final long eventPosition = currentEvent.getPosition();
 
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
+    currentEvent.readMetadata(eventMetadata);
+    metrics.eventSkipped(eventMetadata.getValueType());
 
     // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
-    }
-
-    actor.submit(this::readNextEvent);
+    // acknowledged the last record we passed to it; batch exporters skip it with their next batch
+    recordExporter.updatePositionOnSkip(eventPosition);
+    addToBatch(eventPosition);
   }
 
+  /**
+   * Exports or skips the next records in a loop, up to {@link #MAX_RECORDS_PER_JOB} per job. Only
+   * if a record can't be exported at once, the rest of it is exported with retries, which continue
+   * reading afterwards. The records which were read are passed to the batch exporters at the end of
+   * the job.
+   */
   private void readNextEvent() {
-    if (shouldExport()) {
+    int readRecords = 0;
+    while (shouldExport()) {
+      if (readRecords == MAX_RECORDS_PER_JOB) {
+        if (tryExportBatch()) {
+          actor.submit(this::readNextEvent);
+        }
+        return;
+      }
+
       final LoggedEvent currentEvent = logStreamReader.next();
+      valueProperties.wrap(currentEvent);
+      readRecords++;
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
         inExportingPhase = true;
-        exportEvent(currentEvent);
+        if (!tryExportEvent(currentEvent)) {
+          return;
+        }
       } else {
-        skipRecord(currentEvent);
+        skipEvent(currentEvent);
       }
     }
+
+    tryExportBatch();
   }
 
   private boolean shouldExport() {
     return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
   }
 
+  /**
+   * Exports the event without retries, unless it fails.
+   *
+   * @return true if the event was exported; false if it is exported with retries
+   */
+  private boolean tryExportEvent(final LoggedEvent event) {
+    if (!recordExporter.hasContainers()) {
+      // only batch exporters, which read the records themselves
+      event.readMetadata(eventMetadata);
+      metrics.eventExported(eventMetadata.getValueType());
+      inExportingPhase = false;
+      addToBatch(event.getPosition());
+      return true;
+    }
+
+    try {
+      recordExporter.wrap(event);
+    } catch (final Exception e) {
+      exportEvent(event);
+      return false;
+    }
+
+    if (!recordExporter.export()) {
+      // continues with the exporters to which the event wasn't exported yet
+      retryExport(event);
+      return false;
+    }
+
+    onEventExported();
+    addToBatch(event.getPosition());
+    return true;
+  }
+
+  private void addToBatch(final long position) {
+    if (recordBatch != null) {
+      recordBatch.add(position);
+    }
+  }
+
+  /**
+   * Exports the records which were read since the last batch to the batch exporters, unless it
+   * fails.
+   *
+   * @return true if the batch was exported or is empty; false if it is exported with retries
+   */
+  private boolean tryExportBatch() {
+    if (recordBatch == null || recordBatch.isEmpty() || inExportingPhase || isClosed()) {
+      return true;
+    }
+
+    batchContainerIndex = 0;
+    if (exportBatch()) {
+      recordBatch.clear();
+      return true;
+    }
+
+    inExportingPhase = true;
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(this::exportBatch, this::isClosed);
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, recordBatch, throwable);
+            onFailure();
+          } else {
+            recordBatch.clear();
+            inExportingPhase = false;
+            actor.submit(this::readNextEvent);
+          }
+        });
+    return false;
+  }
+
+  /** Continues exporting the batch with the exporters which didn't export it yet. */
+  private boolean exportBatch() {
+    while (batchContainerIndex < batchContainers.size()) {
+      final ExporterContainer container = batchContainers.get(batchContainerIndex);
+      if (!container.exportBatch(recordBatch)) {
+        return false;
+      }
+
+      metrics.setLastExportedPosition(container.getId(), recordBatch.getPosition());
+      batchContainerIndex++;
+    }
+    return true;
+  }
+
   private void exportEvent(final LoggedEvent event) {
     final ActorFuture<Boolean> wrapRetryFuture =
         recordWrapStrategy.runWithRetry(
@@ -397,25 +512,34 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         wrapRetryFuture,
         (b, t) -> {
           assert t == null : "Throwable must be null";
+          retryExport(event);
+        });
+  }
 
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
+  private void retryExport(final LoggedEvent event) {
+    final long position = event.getPosition();
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+            onFailure();
+          } else {
+            onEventExported();
+            addToBatch(position);
+            actor.submit(this::readNextEvent);
+          }
         });
   }
 
+  private void onEventExported() {
+    metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+    inExportingPhase = false;
+  }
+
   private void clearExporterState() {
     final List<String> exporterIds =
         containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
@@ -467,6 +591,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     private final RecordValues recordValues = new RecordValues();
     private final RecordMetadata rawMetadata = new RecordMetadata();
     private final List<ExporterContainer> containers;
+    private final RecordValueProperties valueProperties;
     private final TypedEventImpl typedEvent;
     private final ExporterMetrics exporterMetrics;
 
@@ -476,8 +601,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     RecordExporter(
         final ExporterMetrics exporterMetrics,
         final List<ExporterContainer> containers,
+        final RecordValueProperties valueProperties,
         final int partitionId) {
       this.containers = containers;
+      this.valueProperties = valueProperties;
       typedEvent = new TypedEventImpl(partitionId);
       this.exporterMetrics = exporterMetrics;
     }
@@ -507,7 +634,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       while (exporterIndex < exportersCount) {
         final ExporterContainer container = containers.get(exporterIndex);
 
-        if (container.exportRecord(rawMetadata, typedEvent)) {
+        if (container.exportRecord(rawMetadata, valueProperties, typedEvent)) {
           exporterIndex++;
           exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
         } else {
@@ -521,39 +648,50 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     TypedEventImpl getTypedEvent() {
       return typedEvent;
     }
+
+    boolean hasContainers() {
+      return !containers.isEmpty();
+    }
+
+    void updatePositionOnSkip(final long eventPosition) {
+      for (final ExporterContainer container : containers) {
+        container.updatePositionOnSkipIfUpToDate(eventPosition);
+      }
+    }
   }
 
+  /**
+   * Applies if any exporter accepts the event. The filters are evaluated before the event is
+   * deserialized, on its metadata and on the properties of its value.
+   */
   private static class ExporterEventFilter implements EventFilter {
 
     private final RecordMetadata metadata = new RecordMetadata();
-    private final Map<RecordType, Boolean> acceptRecordTypes;
-    private final Map<ValueType, Boolean> acceptValueTypes;
+    private final List<ExporterRecordFilter> recordFilters;
+    private final RecordValueProperties valueProperties;
 
     ExporterEventFilter(
-        final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes) {
-      this.acceptRecordTypes = acceptRecordTypes;
-      this.acceptValueTypes = acceptValueTypes;
+        final List<ExporterRecordFilter> recordFilters,
+        final RecordValueProperties valueProperties) {
+      this.recordFilters = recordFilters;
+      this.valueProperties = valueProperties;
     }
 
+    /** Expects that the value properties wrap the given event. */
     @Override
     public boolean applies(final LoggedEvent event) {
       event.readMetadata(metadata);
-
-      final RecordType recordType = metadata.getRecordType();
-      final ValueType valueType = metadata.getValueType();
-
-      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
+      for (final ExporterRecordFilter recordFilter : recordFilters) {
+        if (recordFilter.accept(metadata, valueProperties)) {
+          return true;
+        }
+      }
+      return false;
     }
 
     @Override
     public String toString() {
-      return "ExporterEventFilter{"
-          + "acceptRecordTypes="
-          + acceptRecordTypes
-          + ", acceptValueTypes="
-          + acceptValueTypes
-          + '}';
+      return "ExporterEventFilter{" + "recordFilters=" + recordFilters + '}';
     }
   }
 }
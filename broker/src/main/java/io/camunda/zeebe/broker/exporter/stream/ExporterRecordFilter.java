@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+
+/**
+ * Evaluates the {@link RecordFilter} of an exporter on a record before it's deserialized, i.e. on
+ * its metadata and on the properties of its value which are read from the raw value.
+ *
+ * <p>The results of the filter are computed upfront for the record types, value types and BPMN
+ * element types, and cached for the intents and BPMN process ids. The value of a record is only
+ * read if the filter may reject any of its properties, i.e. if it overrides the respective method.
+ */
+final class ExporterRecordFilter {
+
+  // the cache is cleared when it's full, to bound the memory of arbitrary many processes
+  private static final int MAX_CACHED_BPMN_PROCESS_IDS = 10_000;
+
+  private final RecordFilter filter;
+  private final boolean[] acceptedRecordTypes;
+  private final boolean[] acceptedValueTypes;
+  private final boolean[] acceptedBpmnElementTypes;
+  private final boolean filtersIntents;
+  private final boolean filtersBpmnElementTypes;
+  private final boolean filtersBpmnProcessIds;
+  private final Map<Intent, Boolean> acceptedIntents = new HashMap<>();
+  private final Map<DirectBuffer, Boolean> acceptedBpmnProcessIds = new HashMap<>();
+
+  ExporterRecordFilter(final RecordFilter filter) {
+    this.filter = filter;
+
+    acceptedRecordTypes = new boolean[RecordType.values().length];
+    for (final RecordType recordType : RecordType.values()) {
+      acceptedRecordTypes[recordType.ordinal()] = filter.acceptType(recordType);
+    }
+
+    acceptedValueTypes = new boolean[ValueType.values().length];
+    for (final ValueType valueType : ValueType.values()) {
+      acceptedValueTypes[valueType.ordinal()] = filter.acceptValue(valueType);
+    }
+
+    filtersIntents = overrides(filter, "acceptIntent", Intent.class);
+    filtersBpmnProcessIds = overrides(filter, "acceptBpmnProcessId", String.class);
+
+    boolean rejectsBpmnElementType = false;
+    acceptedBpmnElementTypes = new boolean[BpmnElementType.values().length];
+    for (final BpmnElementType bpmnElementType : BpmnElementType.values()) {
+      final boolean accepted = filter.acceptBpmnElementType(bpmnElementType);
+      acceptedBpmnElementTypes[bpmnElementType.ordinal()] = accepted;
+      rejectsBpmnElementType |= !accepted;
+    }
+    filtersBpmnElementTypes = rejectsBpmnElementType;
+  }
+
+  /**
+   * @param metadata the metadata of the record
+   * @param properties the properties of the record's value
+   * @return true if the record is accepted by the filter
+   */
+  boolean accept(final RecordMetadata metadata, final RecordValueProperties properties) {
+    if (!acceptedRecordTypes[metadata.getRecordType().ordinal()]
+        || !acceptedValueTypes[metadata.getValueType().ordinal()]) {
+      return false;
+    }
+
+    if (filtersIntents && !acceptIntent(metadata.getIntent())) {
+      return false;
+    }
+
+    if (filtersBpmnElementTypes) {
+      final BpmnElementType bpmnElementType = properties.getBpmnElementType();
+      if (bpmnElementType != null && !acceptedBpmnElementTypes[bpmnElementType.ordinal()]) {
+        return false;
+      }
+    }
+
+    if (filtersBpmnProcessIds) {
+      final DirectBuffer bpmnProcessId = properties.getBpmnProcessId();
+      return bpmnProcessId == null || acceptBpmnProcessId(bpmnProcessId);
+    }
+
+    return true;
+  }
+
+  /** @return true if the filter accepts any record of the given record and value type */
+  boolean accept(final RecordType recordType, final ValueType valueType) {
+    return acceptedRecordTypes[recordType.ordinal()] && acceptedValueTypes[valueType.ordinal()];
+  }
+
+  /** @return true if this evaluates the given filter */
+  boolean isFilter(final RecordFilter filter) {
+    return this.filter == filter;
+  }
+
+  private boolean acceptIntent(final Intent intent) {
+    if (intent == null) {
+      return true;
+    }
+
+    Boolean accepted = acceptedIntents.get(intent);
+    if (accepted == null) {
+      accepted = filter.acceptIntent(intent);
+      acceptedIntents.put(intent, accepted);
+    }
+    return accepted;
+  }
+
+  private boolean acceptBpmnProcessId(final DirectBuffer bpmnProcessId) {
+    final Boolean cached = acceptedBpmnProcessIds.get(bpmnProcessId);
+    if (cached != null) {
+      return cached;
+    }
+
+    final boolean accepted = filter.acceptBpmnProcessId(BufferUtil.bufferAsString(bpmnProcessId));
+    if (acceptedBpmnProcessIds.size() == MAX_CACHED_BPMN_PROCESS_IDS) {
+      acceptedBpmnProcessIds.clear();
+    }
+    acceptedBpmnProcessIds.put(BufferUtil.cloneBuffer(bpmnProcessId), accepted);
+    return accepted;
+  }
+
+  private static boolean overrides(
+      final RecordFilter filter, final String methodName, final Class<?> parameterType) {
+    try {
+      return filter.getClass().getMethod(methodName, parameterType).getDeclaringClass()
+          != RecordFilter.class;
+    } catch (final NoSuchMethodException e) {
+      return true;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ExporterRecordFilter{" + "filter=" + filter + '}';
+  }
+}
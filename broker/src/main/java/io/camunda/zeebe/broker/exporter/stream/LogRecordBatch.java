@@ -0,0 +1,180 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.RecordValues;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedEventImpl;
+import io.camunda.zeebe.exporter.api.RecordBatch;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiPredicate;
+
+/**
+ * A block of the log which is passed to batch exporters. It doesn't hold any records, but reads
+ * them with its own reader whenever it's iterated, and wraps each of them in the same record view.
+ *
+ * <p>The same instance is reused for all blocks and all batch exporters; before it's passed to an
+ * exporter, the records which the exporter accepts are set.
+ */
+final class LogRecordBatch implements RecordBatch {
+
+  private final LogStreamReader reader;
+  private final TypedEventImpl typedEvent;
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final RecordValues recordValues = new RecordValues();
+  private final RecordValueProperties valueProperties = new RecordValueProperties();
+
+  private long fromPosition = -1;
+  private long toPosition = -1;
+  private int size;
+  private long exportedPosition;
+  private BiPredicate<RecordMetadata, RecordValueProperties> filter = (metadata, value) -> true;
+
+  LogRecordBatch(final LogStreamReader reader, final int partitionId) {
+    this.reader = reader;
+    typedEvent = new TypedEventImpl(partitionId);
+  }
+
+  /** Extends the block by the next record of the log, which was read after the block's last. */
+  void add(final long position) {
+    if (size == 0) {
+      fromPosition = position;
+    }
+    toPosition = position;
+    size++;
+  }
+
+  /** Starts the next block, which begins after the current one. */
+  void clear() {
+    size = 0;
+    fromPosition = -1;
+    toPosition = -1;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Sets the records of the block which are part of the batch.
+   *
+   * @param exportedPosition the position up to which the records were already exported
+   * @param filter the filter of the records which are accepted
+   */
+  void filter(
+      final long exportedPosition,
+      final BiPredicate<RecordMetadata, RecordValueProperties> filter) {
+    this.exportedPosition = exportedPosition;
+    this.filter = filter;
+  }
+
+  @Override
+  public long getPosition() {
+    return toPosition;
+  }
+
+  @Override
+  public Iterator<Record<?>> iterator() {
+    if (size == 0) {
+      return new RecordIterator(false);
+    }
+
+    final boolean found = reader.seek(fromPosition);
+    if (!found) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to find the record with position %d to export, but it doesn't exist",
+              fromPosition));
+    }
+    return new RecordIterator(true);
+  }
+
+  void close() {
+    reader.close();
+  }
+
+  @Override
+  public String toString() {
+    return "LogRecordBatch{"
+        + "fromPosition="
+        + fromPosition
+        + ", toPosition="
+        + toPosition
+        + ", size="
+        + size
+        + '}';
+  }
+
+  private final class RecordIterator implements Iterator<Record<?>> {
+
+    private boolean hasMoreRecords;
+    private boolean isNextRead;
+    private boolean hasNext;
+
+    private RecordIterator(final boolean hasMoreRecords) {
+      this.hasMoreRecords = hasMoreRecords;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!isNextRead) {
+        hasNext = readNext();
+        isNextRead = true;
+      }
+      return hasNext;
+    }
+
+    @Override
+    public Record<?> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      isNextRead = false;
+      return typedEvent;
+    }
+
+    private boolean readNext() {
+      while (hasMoreRecords && reader.hasNext()) {
+        final LoggedEvent event = reader.next();
+        final long position = event.getPosition();
+        if (position > toPosition) {
+          break;
+        }
+
+        if (position <= exportedPosition) {
+          continue;
+        }
+
+        event.readMetadata(metadata);
+        valueProperties.wrap(event);
+        if (!filter.test(metadata, valueProperties)) {
+          continue;
+        }
+
+        final UnifiedRecordValue value =
+            recordValues.readRecordValue(event, metadata.getValueType());
+        if (value != null) {
+          typedEvent.wrap(event, metadata, value);
+          return true;
+        }
+      }
+
+      hasMoreRecords = false;
+      return false;
+    }
+  }
+}
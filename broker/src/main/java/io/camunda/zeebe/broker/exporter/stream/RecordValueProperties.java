@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Reads the properties of a record value which exporters can filter on, without deserializing the
+ * value. Only the top level keys of the value are scanned, and the scan stops once all properties
+ * are found. The properties are read lazily, when they are accessed for the first time after the
+ * next record was wrapped.
+ */
+final class RecordValueProperties {
+
+  private static final DirectBuffer BPMN_PROCESS_ID_KEY = wrapString("bpmnProcessId");
+  private static final DirectBuffer BPMN_ELEMENT_TYPE_KEY = wrapString("bpmnElementType");
+  private static final BpmnElementType[] BPMN_ELEMENT_TYPES = BpmnElementType.values();
+  private static final DirectBuffer[] BPMN_ELEMENT_TYPE_NAMES =
+      new DirectBuffer[BPMN_ELEMENT_TYPES.length];
+
+  static {
+    for (final BpmnElementType type : BPMN_ELEMENT_TYPES) {
+      BPMN_ELEMENT_TYPE_NAMES[type.ordinal()] = wrapString(type.name());
+    }
+  }
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final UnsafeBuffer bpmnProcessId = new UnsafeBuffer();
+  private boolean hasBpmnProcessId;
+  private BpmnElementType bpmnElementType;
+  private LoggedEvent event;
+  private boolean isRead;
+
+  /** Wraps the value of the given record, whose properties are read on access. */
+  void wrap(final LoggedEvent event) {
+    this.event = event;
+    isRead = false;
+  }
+
+  /** @return the BPMN element type of the record value, or null if it has none */
+  BpmnElementType getBpmnElementType() {
+    read();
+    return bpmnElementType;
+  }
+
+  /**
+   * @return a view of the BPMN process id of the record value, which is only valid until the next
+   *     record is wrapped, or null if it has none
+   */
+  DirectBuffer getBpmnProcessId() {
+    read();
+    return hasBpmnProcessId ? bpmnProcessId : null;
+  }
+
+  private void read() {
+    if (isRead) {
+      return;
+    }
+
+    isRead = true;
+    hasBpmnProcessId = false;
+    bpmnElementType = null;
+    if (event == null) {
+      return;
+    }
+
+    try {
+      reader.wrap(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+      final int size = reader.readMapHeader();
+      for (int i = 0; i < size && (!hasBpmnProcessId || bpmnElementType == null); i++) {
+        final MsgPackToken keyToken = reader.readToken();
+        if (keyToken.getType() != MsgPackType.STRING) {
+          return;
+        }
+
+        final DirectBuffer key = keyToken.getValueBuffer();
+        if (key.equals(BPMN_PROCESS_ID_KEY)) {
+          final DirectBuffer value = readStringValue();
+          if (value == null) {
+            return;
+          }
+          bpmnProcessId.wrap(value);
+          hasBpmnProcessId = true;
+        } else if (key.equals(BPMN_ELEMENT_TYPE_KEY)) {
+          final DirectBuffer value = readStringValue();
+          if (value == null) {
+            return;
+          }
+          bpmnElementType = toBpmnElementType(value);
+        } else {
+          reader.skipValue();
+        }
+      }
+    } catch (final RuntimeException e) {
+      // the value can't be read, so it's treated as if it had none of the properties
+      hasBpmnProcessId = false;
+      bpmnElementType = null;
+    }
+  }
+
+  /** @return the next value if it's a string, or null if it isn't */
+  private DirectBuffer readStringValue() {
+    final MsgPackToken token = reader.readToken();
+    return token.getType() == MsgPackType.STRING ? token.getValueBuffer() : null;
+  }
+
+  private static BpmnElementType toBpmnElementType(final DirectBuffer name) {
+    for (int i = 0; i < BPMN_ELEMENT_TYPE_NAMES.length; i++) {
+      if (BPMN_ELEMENT_TYPE_NAMES[i].equals(name)) {
+        return BPMN_ELEMENT_TYPES[i];
+      }
+    }
+    return null;
+  }
+}
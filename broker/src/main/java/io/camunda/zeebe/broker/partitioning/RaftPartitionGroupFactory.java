@@ -77,7 +77,11 @@ final class RaftPartitionGroupFactory {
             .withMaxQuorumResponseTimeout(experimentalCfg.getRaft().getMaxQuorumResponseTimeout())
             .withMinStepDownFailureCount(experimentalCfg.getRaft().getMinStepDownFailureCount())
             .withPreferSnapshotReplicationThreshold(
-                experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold());
+                experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold())
+            .withGroupCommitWindow(experimentalCfg.getRaft().getGroupCommitWindow())
+            .withGroupCommitMaxSize(
+                (int) experimentalCfg.getRaft().getGroupCommitMaxSize().toBytes())
+            .withPreallocateSegments(experimentalCfg.getRaft().isPreallocateSegments());
 
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
 
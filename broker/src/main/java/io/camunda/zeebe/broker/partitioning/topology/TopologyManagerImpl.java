@@ -17,6 +17,7 @@ import io.camunda.zeebe.broker.PartitionListener;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.camunda.zeebe.protocol.record.PartitionHealthStatus;
 import io.camunda.zeebe.util.LogUtil;
 import io.camunda.zeebe.util.health.HealthStatus;
 import io.camunda.zeebe.util.sched.Actor;
@@ -263,6 +264,8 @@ public final class TopologyManagerImpl extends Actor
   public void onHealthChanged(final int partitionId, final HealthStatus status) {
     actor.run(
         () -> {
+          final PartitionHealthStatus previousStatus =
+              localBroker.getPartitionHealthStatuses().get(partitionId);
           if (status == HealthStatus.HEALTHY) {
             localBroker.setPartitionHealthy(partitionId);
           } else if (status == HealthStatus.UNHEALTHY) {
@@ -270,7 +273,11 @@ public final class TopologyManagerImpl extends Actor
           } else if (status == HealthStatus.DEAD) {
             localBroker.setPartitionDead(partitionId);
           }
-          publishTopologyChanges();
+
+          // every published change is gossiped to all members, so avoid publishing no changes
+          if (localBroker.getPartitionHealthStatuses().get(partitionId) != previousStatus) {
+            publishTopologyChanges();
+          }
         });
   }
 }
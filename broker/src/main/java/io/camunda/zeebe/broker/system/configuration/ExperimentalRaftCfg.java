@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class ExperimentalRaftCfg implements ConfigurationEntry {
 
@@ -15,11 +16,17 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  private static final DataSize DEFAULT_GROUP_COMMIT_MAX_SIZE = DataSize.ofMegabytes(4);
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENTS = true;
 
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
+  private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+  private DataSize groupCommitMaxSize = DEFAULT_GROUP_COMMIT_MAX_SIZE;
+  private boolean preallocateSegments = DEFAULT_PREALLOCATE_SEGMENTS;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -52,4 +59,28 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreferSnapshotReplicationThreshold(final int preferSnapshotReplicationThreshold) {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
+
+  public Duration getGroupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  public void setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+  }
+
+  public DataSize getGroupCommitMaxSize() {
+    return groupCommitMaxSize;
+  }
+
+  public void setGroupCommitMaxSize(final DataSize groupCommitMaxSize) {
+    this.groupCommitMaxSize = groupCommitMaxSize;
+  }
+
+  public boolean isPreallocateSegments() {
+    return preallocateSegments;
+  }
+
+  public void setPreallocateSegments(final boolean preallocateSegments) {
+    this.preallocateSegments = preallocateSegments;
+  }
 }
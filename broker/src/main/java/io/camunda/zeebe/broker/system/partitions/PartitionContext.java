@@ -11,6 +11,7 @@ import io.atomix.raft.RaftServer.Role;
 import io.atomix.raft.partition.RaftPartition;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessor;
+import io.camunda.zeebe.engine.state.ReplicaQueryService;
 import io.camunda.zeebe.util.health.HealthMonitor;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import java.util.List;
@@ -44,6 +45,8 @@ public interface PartitionContext {
 
   ExporterDirector getExporterDirector();
 
+  ReplicaQueryService getReplicaQueryService();
+
   boolean shouldProcess();
 
   @Deprecated // currently the implementation forwards this to other components inside the
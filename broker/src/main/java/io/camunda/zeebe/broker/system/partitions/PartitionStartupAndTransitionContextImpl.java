@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.ReplicaQueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.storage.atomix.AtomixLogStorage;
 import io.camunda.zeebe.snapshots.ConstructableSnapshotStore;
@@ -77,6 +78,7 @@ public class PartitionStartupAndTransitionContextImpl
   private ExporterDirector exporterDirector;
   private AtomixLogStorage logStorage;
   private QueryService queryService;
+  private ReplicaQueryService replicaQueryService;
 
   private long currentTerm;
   private Role currentRole;
@@ -236,6 +238,16 @@ public class PartitionStartupAndTransitionContextImpl
     this.queryService = queryService;
   }
 
+  @Override
+  public ReplicaQueryService getReplicaQueryService() {
+    return replicaQueryService;
+  }
+
+  @Override
+  public void setReplicaQueryService(final ReplicaQueryService replicaQueryService) {
+    this.replicaQueryService = replicaQueryService;
+  }
+
   @Override
   public boolean shouldProcess() {
     return partitionProcessingState.shouldProcess();
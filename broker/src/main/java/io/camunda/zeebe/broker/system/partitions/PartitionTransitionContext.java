@@ -19,6 +19,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.ReplicaQueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.storage.atomix.AtomixLogStorage;
 import io.camunda.zeebe.util.sched.ActorSchedulingService;
@@ -86,4 +87,8 @@ public interface PartitionTransitionContext extends PartitionContext {
   QueryService getQueryService();
 
   void setQueryService(QueryService queryService);
+
+  ReplicaQueryService getReplicaQueryService();
+
+  void setReplicaQueryService(ReplicaQueryService replicaQueryService);
 }
@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.partitioning.PartitionAdminAccess;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.camunda.zeebe.broker.system.monitoring.HealthMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessor;
+import io.camunda.zeebe.engine.state.ReplicaQueryService;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.CriticalComponentsHealthMonitor;
@@ -446,6 +447,14 @@ public final class ZeebePartition extends Actor
     return actor.call(() -> Optional.ofNullable(context.getExporterDirector()));
   }
 
+  /**
+   * @return the service to read the state of this partition, which is available on the leader and
+   *     on the followers; empty if the partition is inactive
+   */
+  public ActorFuture<Optional<ReplicaQueryService>> getReplicaQueryService() {
+    return actor.call(() -> Optional.ofNullable(context.getReplicaQueryService()));
+  }
+
   @Override
   public void onSnapshotReplicationStarted() {
     // When a snapshot is received, the follower stream processor and exporter should
@@ -11,22 +11,37 @@ import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.ReplicaQueryService;
+import io.camunda.zeebe.engine.state.query.ReplicaStateQueryService;
 import io.camunda.zeebe.engine.state.query.StateQueryService;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
 import org.agrona.CloseHelper;
 
+/**
+ * Installs the query services on the state of the partition. The services are installed on the
+ * leader and on the followers, and re-installed when the state is recreated, i.e. when the
+ * partition transitions away from the leader role.
+ */
 public final class QueryServicePartitionTransitionStep implements PartitionTransitionStep {
 
   @Override
   public ActorFuture<Void> prepareTransition(
       final PartitionTransitionContext context, final long term, final Role targetRole) {
     final var currentRole = context.getCurrentRole();
-    final QueryService queryService = context.getQueryService();
-    if (queryService != null && (currentRole == Role.LEADER || targetRole == Role.INACTIVE)) {
+    if (currentRole == Role.LEADER || targetRole == Role.INACTIVE) {
       try {
-        CloseHelper.close(queryService);
-        context.setQueryService(null);
+        final QueryService queryService = context.getQueryService();
+        if (queryService != null) {
+          CloseHelper.close(queryService);
+          context.setQueryService(null);
+        }
+
+        final ReplicaQueryService replicaQueryService = context.getReplicaQueryService();
+        if (replicaQueryService != null) {
+          CloseHelper.close(replicaQueryService);
+          context.setReplicaQueryService(null);
+        }
         return CompletableActorFuture.completed(null);
       } catch (final Exception e) {
         return CompletableActorFuture.completedExceptionally(e);
@@ -41,11 +56,18 @@ public final class QueryServicePartitionTransitionStep implements PartitionTrans
       final PartitionTransitionContext context, final long term, final Role targetRole) {
     final var currentRole = context.getCurrentRole();
 
-    if (targetRole != Role.INACTIVE
-        && (currentRole == Role.LEADER || context.getQueryService() == null)) {
+    if (targetRole != Role.INACTIVE) {
       try {
-        final var service = new StateQueryService(context.getZeebeDb());
-        context.setQueryService(service);
+        if (currentRole == Role.LEADER || context.getQueryService() == null) {
+          final var service = new StateQueryService(context.getZeebeDb());
+          context.setQueryService(service);
+        }
+
+        if (currentRole == Role.LEADER || context.getReplicaQueryService() == null) {
+          final var service =
+              new ReplicaStateQueryService(context.getPartitionId(), context.getZeebeDb());
+          context.setReplicaQueryService(service);
+        }
         return CompletableActorFuture.completed(null);
       } catch (final Exception e) {
         return CompletableActorFuture.completedExceptionally(e);
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.backpressure;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.agrona.BitUtil;
+import org.agrona.collections.Hashing;
+
+/**
+ * Tracks a value per in-flight request, identified by the pair {@code <streamId, requestId>}.
+ *
+ * <p>The requests are stored in a fixed-size table without allocating, where each request can be
+ * stored in one of {@link #MAX_PROBES} slots following its hash. A slot is claimed and released by
+ * compare-and-set on its value, so requests can be added and removed concurrently without locks.
+ * The ids of a request are written before its value is published, and are therefore visible to any
+ * thread which reads the value.
+ *
+ * <p>Only if all slots of a request are taken, e.g. because more requests are in flight than the
+ * table can hold, the request is stored in an overflow map instead.
+ */
+final class InFlightRequests<V> {
+
+  static final int DEFAULT_CAPACITY = 4096;
+  static final int MAX_PROBES = 8;
+
+  private static final Object CLAIMED = new Object();
+
+  private final int mask;
+  private final int[] streamIds;
+  private final long[] requestIds;
+  private final AtomicReferenceArray<Object> values;
+  private final Map<RequestId, V> overflow = new ConcurrentHashMap<>();
+
+  InFlightRequests() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  InFlightRequests(final int capacity) {
+    final int tableSize = BitUtil.findNextPositivePowerOfTwo(Math.max(capacity, MAX_PROBES));
+    mask = tableSize - 1;
+    streamIds = new int[tableSize];
+    requestIds = new long[tableSize];
+    values = new AtomicReferenceArray<>(tableSize);
+  }
+
+  /** Adds the value of the given request, which must be removed again once it's completed. */
+  void put(final int streamId, final long requestId, final V value) {
+    Objects.requireNonNull(value, "value");
+
+    final int home = hash(streamId, requestId);
+    for (int probe = 0; probe < MAX_PROBES; probe++) {
+      final int index = (home + probe) & mask;
+      if (values.get(index) == null && values.compareAndSet(index, null, CLAIMED)) {
+        streamIds[index] = streamId;
+        requestIds[index] = requestId;
+        values.set(index, value);
+        return;
+      }
+    }
+
+    overflow.put(new RequestId(streamId, requestId), value);
+  }
+
+  /** @return the value of the given request, or {@code null} if the request is not in flight */
+  @SuppressWarnings("unchecked")
+  V remove(final int streamId, final long requestId) {
+    final int home = hash(streamId, requestId);
+    for (int probe = 0; probe < MAX_PROBES; probe++) {
+      final int index = (home + probe) & mask;
+
+      Object value = values.get(index);
+      while (value != null && value != CLAIMED) {
+        if (streamIds[index] != streamId || requestIds[index] != requestId) {
+          break;
+        }
+
+        // only one thread can release the slot, another one may have removed the same request
+        if (values.compareAndSet(index, value, null)) {
+          return (V) value;
+        }
+        value = values.get(index);
+      }
+    }
+
+    return overflow.isEmpty() ? null : overflow.remove(new RequestId(streamId, requestId));
+  }
+
+  private int hash(final int streamId, final long requestId) {
+    return Hashing.hash(requestId * 31 + streamId, mask);
+  }
+
+  private static final class RequestId {
+    private final int streamId;
+    private final long requestId;
+
+    private RequestId(final int streamId, final long requestId) {
+      this.streamId = streamId;
+      this.requestId = requestId;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(streamId, requestId);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final RequestId that = (RequestId) o;
+      return streamId == that.streamId && requestId == that.requestId;
+    }
+  }
+}
@@ -34,6 +34,7 @@ final class ExporterContainerTest {
   private ExporterContainerRuntime runtime;
   private FakeExporter exporter;
   private ExporterContainer exporterContainer;
+  private final RecordValueProperties valueProperties = new RecordValueProperties();
 
   @BeforeEach
   void beforeEach(final @TempDir Path storagePath) throws ExporterLoadException {
@@ -113,7 +114,7 @@ final class ExporterContainerTest {
     final var recordMetadata = new RecordMetadata();
 
     // when
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
 
     // then
     assertThat(exporter.getRecord()).isNull();
@@ -131,7 +132,7 @@ final class ExporterContainerTest {
     final var recordMetadata = new RecordMetadata();
 
     // when
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
 
     // then
     assertThat(exporter.getRecord()).isNotNull();
@@ -150,12 +151,12 @@ final class ExporterContainerTest {
     final var mockedRecord = mock(TypedRecord.class);
     when(mockedRecord.getPosition()).thenReturn(1L);
     final var recordMetadata = new RecordMetadata();
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
 
     // when
     final var secondRecord = mock(TypedRecord.class);
     when(secondRecord.getPosition()).thenReturn(2L);
-    exporterContainer.exportRecord(recordMetadata, secondRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, secondRecord);
 
     // then
     assertThat(exporter.getRecord()).isNotNull();
@@ -175,7 +176,7 @@ final class ExporterContainerTest {
     final var mockedRecord = mock(TypedRecord.class);
     when(mockedRecord.getPosition()).thenReturn(1L);
     final var recordMetadata = new RecordMetadata();
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
 
     // when
     exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition());
@@ -198,7 +199,7 @@ final class ExporterContainerTest {
     final var mockedRecord = mock(TypedRecord.class);
     when(mockedRecord.getPosition()).thenReturn(1L);
     final var recordMetadata = new RecordMetadata();
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
 
     // when
     exporterContainer.updateLastExportedRecordPosition(-1);
@@ -221,9 +222,9 @@ final class ExporterContainerTest {
     final var mockedRecord = mock(TypedRecord.class);
     when(mockedRecord.getPosition()).thenReturn(1L);
     final var recordMetadata = new RecordMetadata();
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
     when(mockedRecord.getPosition()).thenReturn(2L);
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
 
     // when
     exporterContainer.updateLastExportedRecordPosition(2);
@@ -249,7 +250,7 @@ final class ExporterContainerTest {
     final var recordMetadata = new RecordMetadata();
 
     // when
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
 
     // then
     assertThat(exporter.getRecord()).isNull();
@@ -267,14 +268,14 @@ final class ExporterContainerTest {
     final var mockedRecord = mock(TypedRecord.class);
     when(mockedRecord.getPosition()).thenReturn(1L);
     final var recordMetadata = new RecordMetadata();
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
     exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition());
     awaitPreviousCall();
 
     // when
     exporter.getContext().setFilter(new AlwaysRejectingFilter());
     when(mockedRecord.getPosition()).thenReturn(2L);
-    exporterContainer.exportRecord(recordMetadata, mockedRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, mockedRecord);
 
     // then
     assertThat(exporter.getRecord()).isNotNull();
@@ -293,13 +294,13 @@ final class ExporterContainerTest {
     final var firstRecord = mock(TypedRecord.class);
     when(firstRecord.getPosition()).thenReturn(1L);
     final var recordMetadata = new RecordMetadata();
-    exporterContainer.exportRecord(recordMetadata, firstRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, firstRecord);
 
     // when
     final var secondRecord = mock(TypedRecord.class);
     when(secondRecord.getPosition()).thenReturn(2L);
     exporter.getContext().setFilter(new AlwaysRejectingFilter());
-    exporterContainer.exportRecord(recordMetadata, secondRecord);
+    exporterContainer.exportRecord(recordMetadata, valueProperties, secondRecord);
 
     // then
     assertThat(exporter.getRecord()).isNotNull();
@@ -21,16 +21,23 @@ import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.exporter.api.BatchExporter;
+import io.camunda.zeebe.exporter.api.RecordBatch;
 import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,6 +45,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -80,6 +88,17 @@ public final class ExporterDirectorTest {
     exporterDescriptors.add(descriptor);
   }
 
+  private TestBatchExporter createBatchExporter(final String exporterId) {
+    final TestBatchExporter exporter = new TestBatchExporter();
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Collections.emptyMap()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporterDescriptors.add(descriptor);
+    return exporter;
+  }
+
   private void startExporterDirector(final List<ExporterDescriptor> exporterDescriptors) {
     rule.startExporterDirector(exporterDescriptors);
   }
@@ -328,6 +347,107 @@ public final class ExporterDirectorTest {
         .contains(deploymentEvent, jobEvent);
   }
 
+  @Test
+  public void shouldApplyIntentFilter() {
+    // given
+    exporters
+        .get(0)
+        .onConfigure(
+            context ->
+                context.setFilter(
+                    new Context.RecordFilter() {
+                      @Override
+                      public boolean acceptType(final RecordType recordType) {
+                        return recordType == RecordType.EVENT;
+                      }
+
+                      @Override
+                      public boolean acceptValue(final ValueType valueType) {
+                        return valueType == ValueType.JOB;
+                      }
+
+                      @Override
+                      public boolean acceptIntent(final Intent intent) {
+                        return intent == JobIntent.COMPLETED;
+                      }
+                    }));
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long completedEvent = rule.writeEvent(JobIntent.COMPLETED, new JobRecord());
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long lastEvent = rule.writeEvent(JobIntent.COMPLETED, new JobRecord());
+
+    // then
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(completedEvent, lastEvent);
+    assertThat(exporters.get(1).getExportedRecords()).hasSize(4);
+  }
+
+  @Test
+  public void shouldApplyRecordValueFilter() {
+    // given
+    final Context.RecordFilter processFilter =
+        new Context.RecordFilter() {
+          @Override
+          public boolean acceptType(final RecordType recordType) {
+            return true;
+          }
+
+          @Override
+          public boolean acceptValue(final ValueType valueType) {
+            return true;
+          }
+
+          @Override
+          public boolean acceptBpmnElementType(final BpmnElementType bpmnElementType) {
+            return bpmnElementType != BpmnElementType.SEQUENCE_FLOW;
+          }
+
+          @Override
+          public boolean acceptBpmnProcessId(final String bpmnProcessId) {
+            return "process".equals(bpmnProcessId);
+          }
+        };
+    exporters.get(0).onConfigure(context -> context.setFilter(processFilter));
+    exporters.get(1).onConfigure(context -> context.setFilter(processFilter));
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long processEvent =
+        rule.writeEvent(
+            ProcessInstanceIntent.ELEMENT_ACTIVATED,
+            new ProcessInstanceRecord()
+                .setBpmnProcessId("process")
+                .setBpmnElementType(BpmnElementType.SERVICE_TASK));
+    rule.writeEvent(
+        ProcessInstanceIntent.ELEMENT_ACTIVATED,
+        new ProcessInstanceRecord()
+            .setBpmnProcessId("other-process")
+            .setBpmnElementType(BpmnElementType.SERVICE_TASK));
+    rule.writeEvent(
+        ProcessInstanceIntent.SEQUENCE_FLOW_TAKEN,
+        new ProcessInstanceRecord()
+            .setBpmnProcessId("process")
+            .setBpmnElementType(BpmnElementType.SEQUENCE_FLOW));
+    // records without these properties are not filtered by them
+    final long deploymentEvent = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(processEvent, deploymentEvent);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(processEvent, deploymentEvent);
+  }
+
   @Test
   public void shouldRetryExportingOnException() {
     // given
@@ -358,6 +478,98 @@ public final class ExporterDirectorTest {
         .containsExactly(eventPosition1, eventPosition2);
   }
 
+  @Test
+  public void shouldExportAllRecordsInOrder() {
+    // given
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final List<Long> positions = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      positions.add(writeEvent());
+    }
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == positions.size());
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactlyElementsOf(positions);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactlyElementsOf(positions);
+  }
+
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    final var batchExporter = createBatchExporter(EXPORTER_ID_2);
+    startExporterDirector(List.of(exporterDescriptors.get(0), exporterDescriptors.get(2)));
+
+    // when
+    final List<Long> positions = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      positions.add(writeEvent());
+    }
+
+    // then
+    waitUntil(() -> batchExporter.getExportedPositions().size() == positions.size());
+    assertThat(batchExporter.getExportedPositions()).containsExactlyElementsOf(positions);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactlyElementsOf(positions);
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(positions.get(positions.size() - 1)));
+  }
+
+  @Test
+  public void shouldApplyRecordFilterToBatches() {
+    // given
+    final var batchExporter = createBatchExporter(EXPORTER_ID_2);
+    batchExporter.onConfigure(
+        withFilter(Collections.singletonList(RecordType.EVENT), List.of(ValueType.JOB)));
+    startExporterDirector(List.of(exporterDescriptors.get(2)));
+
+    // when
+    writeEvent();
+    final long jobEvent = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long lastEvent = writeEvent();
+
+    // then
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(lastEvent));
+    assertThat(batchExporter.getExportedPositions()).containsExactly(jobEvent);
+  }
+
+  @Test
+  public void shouldRetryExportingBatchOnException() {
+    // given
+    final var batchExporter = createBatchExporter(EXPORTER_ID_2);
+    final AtomicLong failCount = new AtomicLong(2);
+    batchExporter.onExportBatch(
+        batch -> {
+          if (failCount.getAndDecrement() > 0) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+    startExporterDirector(List.of(exporterDescriptors.get(2)));
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> batchExporter.getExportedPositions().size() == 2);
+    assertThat(batchExporter.getExportedPositions())
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -608,4 +820,42 @@ public final class ExporterDirectorTest {
               }
             });
   }
+
+  private static final class TestBatchExporter implements BatchExporter {
+    private final List<Long> exportedPositions = new CopyOnWriteArrayList<>();
+    private Consumer<Context> onConfigure = context -> {};
+    private Consumer<RecordBatch> onExportBatch = batch -> {};
+    private Controller controller;
+
+    @Override
+    public void configure(final Context context) {
+      onConfigure.accept(context);
+    }
+
+    @Override
+    public void open(final Controller controller) {
+      this.controller = controller;
+    }
+
+    @Override
+    public void exportBatch(final RecordBatch batch) {
+      onExportBatch.accept(batch);
+      for (final Record<?> record : batch) {
+        exportedPositions.add(record.getPosition());
+      }
+      controller.updateLastExportedRecordPosition(batch.getPosition());
+    }
+
+    void onConfigure(final Consumer<Context> onConfigure) {
+      this.onConfigure = onConfigure;
+    }
+
+    void onExportBatch(final Consumer<RecordBatch> onExportBatch) {
+      this.onExportBatch = onExportBatch;
+    }
+
+    List<Long> getExportedPositions() {
+      return exportedPositions;
+    }
+  }
 }
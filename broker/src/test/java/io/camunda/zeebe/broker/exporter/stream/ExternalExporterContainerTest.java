@@ -112,7 +112,7 @@ final class ExternalExporterContainerTest {
     final var record = mock(TypedRecord.class);
     // set a high position to ensure we export it
     when(record.getPosition()).thenReturn(Long.MAX_VALUE);
-    container.exportRecord(mock(RecordMetadata.class), record);
+    container.exportRecord(new RecordMetadata(), new RecordValueProperties(), record);
 
     // then
     final var exporterInstance = (TclExporter) container.getExporter();
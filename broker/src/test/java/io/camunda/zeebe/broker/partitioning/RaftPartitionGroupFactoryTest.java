@@ -52,6 +52,18 @@ class RaftPartitionGroupFactoryTest {
     assertThat(config.getPartitionConfig().getHeartbeatInterval()).isEqualTo(expected);
   }
 
+  @Test
+  void shouldDisableSegmentPreallocation() {
+    // given
+    brokerCfg.getExperimental().getRaft().setPreallocateSegments(false);
+
+    // when
+    final var config = buildRaftPartitionGroup();
+
+    // then
+    assertThat(config.getStorageConfig().shouldPreallocateSegments()).isFalse();
+  }
+
   @Test
   void shouldSetRaftRequestTimeout() {
     // given
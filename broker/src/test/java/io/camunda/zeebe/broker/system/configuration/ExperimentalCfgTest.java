@@ -13,6 +13,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public class ExperimentalCfgTest {
 
@@ -109,4 +110,28 @@ public class ExperimentalCfgTest {
     // then
     assertThat(raft.getPreferSnapshotReplicationThreshold()).isEqualTo(10);
   }
+
+  @Test
+  public void shouldSetGroupCommitFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getGroupCommitWindow()).isEqualTo(Duration.ofMillis(5));
+    assertThat(raft.getGroupCommitMaxSize()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  public void shouldSetGroupCommitWindowFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.groupCommitWindow", "2ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getGroupCommitWindow()).isEqualTo(Duration.ofMillis(2));
+  }
 }
@@ -21,6 +21,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.ReplicaQueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.storage.atomix.AtomixLogStorage;
 import io.camunda.zeebe.util.health.HealthMonitor;
@@ -51,6 +52,7 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
   private BrokerCfg brokerCfg;
   private AsyncSnapshotDirector snapshotDirector;
   private QueryService queryService;
+  private ReplicaQueryService replicaQueryService;
   private ConcurrencyControl concurrencyControl;
 
   @Override
@@ -159,6 +161,16 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
     this.queryService = queryService;
   }
 
+  @Override
+  public ReplicaQueryService getReplicaQueryService() {
+    return replicaQueryService;
+  }
+
+  @Override
+  public void setReplicaQueryService(final ReplicaQueryService replicaQueryService) {
+    this.replicaQueryService = replicaQueryService;
+  }
+
   public void setBrokerCfg(final BrokerCfg brokerCfg) {
     this.brokerCfg = brokerCfg;
   }
@@ -9,11 +9,14 @@ package io.camunda.zeebe.broker.system.partitions.impl.steps;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.ReplicaQueryService;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -27,11 +30,15 @@ class QueryServicePartitionTransitionStepTest {
 
   private final ZeebeDb zeebeDb = mock(ZeebeDb.class);
   private final QueryService queryServiceFromPrevRole = mock(QueryService.class);
+  private final ReplicaQueryService replicaQueryServiceFromPrevRole =
+      mock(ReplicaQueryService.class);
 
   private QueryServicePartitionTransitionStep step;
 
   @BeforeEach
   void setup() {
+    // the state registers transaction listeners on its context
+    when(zeebeDb.createContext()).thenReturn(mock(TransactionContext.class));
 
     transitionContext.setZeebeDb(zeebeDb);
     step = new QueryServicePartitionTransitionStep();
@@ -43,12 +50,14 @@ class QueryServicePartitionTransitionStepTest {
     // given
     initializeContext(currentRole);
     final var existingQueryService = transitionContext.getQueryService();
+    final var existingReplicaQueryService = transitionContext.getReplicaQueryService();
 
     // when
     transitionTo(targetRole);
 
     // then
     assertThat(transitionContext.getQueryService()).isEqualTo(existingQueryService);
+    assertThat(transitionContext.getReplicaQueryService()).isEqualTo(existingReplicaQueryService);
   }
 
   @ParameterizedTest
@@ -62,6 +71,7 @@ class QueryServicePartitionTransitionStepTest {
 
     // then
     assertThat(transitionContext.getQueryService()).isNull();
+    assertThat(transitionContext.getReplicaQueryService()).isNull();
   }
 
   @ParameterizedTest
@@ -70,12 +80,16 @@ class QueryServicePartitionTransitionStepTest {
     // given
     initializeContext(currentRole);
     final var existingQueryService = transitionContext.getQueryService();
+    final var existingReplicaQueryService = transitionContext.getReplicaQueryService();
 
     // when
     transitionTo(targetRole);
 
     // then
     assertThat(transitionContext.getQueryService()).isNotNull().isNotEqualTo(existingQueryService);
+    assertThat(transitionContext.getReplicaQueryService())
+        .isNotNull()
+        .isNotEqualTo(existingReplicaQueryService);
   }
 
   @ParameterizedTest
@@ -91,6 +105,7 @@ class QueryServicePartitionTransitionStepTest {
 
     // then
     assertThat(transitionContext.getQueryService()).isNull();
+    assertThat(transitionContext.getReplicaQueryService()).isNull();
   }
 
   private static Stream<Arguments> provideTransitionsThatShouldDoNothing() {
@@ -127,6 +142,7 @@ class QueryServicePartitionTransitionStepTest {
     transitionContext.setCurrentRole(currentRole);
     if (currentRole != null && currentRole != Role.INACTIVE) {
       transitionContext.setQueryService(queryServiceFromPrevRole);
+      transitionContext.setReplicaQueryService(replicaQueryServiceFromPrevRole);
     }
   }
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.backpressure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public final class InFlightRequestsTest {
+
+  @Test
+  public void shouldRemoveAddedRequest() {
+    // given
+    final InFlightRequests<String> requests = new InFlightRequests<>();
+    requests.put(1, 10L, "a");
+    requests.put(2, 10L, "b");
+
+    // when
+    final String removed = requests.remove(1, 10L);
+
+    // then
+    assertThat(removed).isEqualTo("a");
+    assertThat(requests.remove(1, 10L)).isNull();
+    assertThat(requests.remove(2, 10L)).isEqualTo("b");
+  }
+
+  @Test
+  public void shouldNotRemoveUnknownRequest() {
+    // given
+    final InFlightRequests<String> requests = new InFlightRequests<>();
+    requests.put(1, 10L, "a");
+
+    // then
+    assertThat(requests.remove(1, 11L)).isNull();
+    assertThat(requests.remove(2, 10L)).isNull();
+  }
+
+  @Test
+  public void shouldStoreMoreRequestsThanCapacity() {
+    // given
+    final InFlightRequests<Long> requests = new InFlightRequests<>(16);
+    for (long requestId = 0; requestId < 1_000; requestId++) {
+      requests.put(1, requestId, requestId);
+    }
+
+    // then
+    for (long requestId = 0; requestId < 1_000; requestId++) {
+      assertThat(requests.remove(1, requestId)).isEqualTo(requestId);
+    }
+    assertThat(requests.remove(1, 0L)).isNull();
+  }
+
+  @Test
+  public void shouldReuseSlotsOfRemovedRequests() {
+    // given
+    final InFlightRequests<Long> requests = new InFlightRequests<>(16);
+
+    // when
+    for (long requestId = 0; requestId < 10_000; requestId++) {
+      requests.put(1, requestId, requestId);
+      requests.put(2, requestId, requestId);
+      assertThat(requests.remove(1, requestId)).isEqualTo(requestId);
+      assertThat(requests.remove(2, requestId)).isEqualTo(requestId);
+    }
+
+    // then
+    requests.put(1, 0L, 0L);
+    assertThat(requests.remove(1, 0L)).isZero();
+  }
+
+  @Test
+  public void shouldRemoveRequestsConcurrently() throws Exception {
+    // given
+    final int requestCount = 100_000;
+    final InFlightRequests<Long> requests = new InFlightRequests<>(64);
+    final ConcurrentLinkedQueue<Long> added = new ConcurrentLinkedQueue<>();
+    final AtomicInteger removed = new AtomicInteger();
+    final CountDownLatch producerDone = new CountDownLatch(1);
+
+    // when - one thread adds requests, while two others remove them
+    final var producer =
+        CompletableFuture.runAsync(
+            () -> {
+              for (long requestId = 0; requestId < requestCount; requestId++) {
+                requests.put(1, requestId, requestId);
+                added.add(requestId);
+              }
+              producerDone.countDown();
+            });
+    final Runnable consumer =
+        () -> {
+          while (producerDone.getCount() > 0 || !added.isEmpty()) {
+            final Long requestId = added.poll();
+            if (requestId != null) {
+              assertThat(requests.remove(1, requestId)).isEqualTo(requestId);
+              removed.incrementAndGet();
+            }
+          }
+        };
+    final var firstConsumer = CompletableFuture.runAsync(consumer);
+    final var secondConsumer = CompletableFuture.runAsync(consumer);
+
+    // then
+    CompletableFuture.allOf(producer, firstConsumer, secondConsumer).get(30, TimeUnit.SECONDS);
+    assertThat(removed).hasValue(requestCount);
+  }
+}
@@ -25,6 +25,9 @@ public final class ClientProperties {
   /** @see ZeebeClientBuilder#numJobWorkerExecutionThreads(int) */
   public static final String JOB_WORKER_EXECUTION_THREADS = "zeebe.client.worker.threads";
 
+  /** @see ZeebeClientBuilder#useVirtualThreadsForJobHandlers() */
+  public static final String JOB_WORKER_VIRTUAL_THREADS = "zeebe.client.worker.virtualThreads";
+
   /** @see ZeebeClientBuilder#defaultJobWorkerMaxJobsActive(int) */
   public static final String JOB_WORKER_MAX_JOBS_ACTIVE = "zeebe.client.worker.maxJobsActive";
 
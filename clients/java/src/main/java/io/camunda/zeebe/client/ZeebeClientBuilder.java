@@ -50,6 +50,18 @@ public interface ZeebeClientBuilder {
    */
   ZeebeClientBuilder numJobWorkerExecutionThreads(int numThreads);
 
+  /**
+   * Runs the job handlers of all job workers on virtual threads, one per job, instead of on the job
+   * worker execution threads. The execution threads (see {@link
+   * #numJobWorkerExecutionThreads(int)}) are then only used to poll for jobs. This allows job
+   * handlers which mostly block on I/O to work on many jobs concurrently; use {@link
+   * JobWorkerBuilderStep3#maxJobsActive(int)} and {@link
+   * JobWorkerBuilderStep3#maxConcurrentJobs(int)} to bound the concurrency per worker.
+   *
+   * <p>Requires a JVM which supports virtual threads; building the client fails otherwise.
+   */
+  ZeebeClientBuilder useVirtualThreadsForJobHandlers();
+
   /**
    * The name of the worker which is used when none is set for a job worker. Default is 'default'.
    */
@@ -27,6 +27,11 @@ public interface ZeebeClientConfiguration {
   /** @see ZeebeClientBuilder#numJobWorkerExecutionThreads(int) */
   int getNumJobWorkerExecutionThreads();
 
+  /** @see ZeebeClientBuilder#useVirtualThreadsForJobHandlers() */
+  default boolean isVirtualThreadsForJobHandlersEnabled() {
+    return false;
+  }
+
   /** @see ZeebeClientBuilder#defaultJobWorkerMaxJobsActive(int) */
   int getDefaultJobWorkerMaxJobsActive();
 
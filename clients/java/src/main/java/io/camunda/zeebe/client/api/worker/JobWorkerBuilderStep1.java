@@ -191,6 +191,46 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 backoffSupplier(BackoffSupplier backoffSupplier);
 
+    /**
+     * Enables adaptive activation of jobs. Instead of polling for new jobs once less than 30% of
+     * {@link #maxJobsActive(int)} jobs remain, the worker observes the latency of its polls and of
+     * the {@link JobHandler}, as well as the number of jobs it handles per time. From these it
+     * derives when to poll and how many jobs to activate, such that it neither runs out of jobs
+     * while waiting for the next poll, nor activates more jobs than it can handle before they time
+     * out. {@link #maxJobsActive(int)} remains the upper bound of activated jobs.
+     *
+     * <p>By default, adaptive activation is disabled.
+     *
+     * @param enabled true to enable adaptive activation
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 adaptiveActivation(boolean enabled);
+
+    /**
+     * Set the maximum number of jobs which the {@link JobHandler} of this worker works on
+     * concurrently. Activated jobs exceeding this limit wait until a job is handled, without
+     * blocking a thread. This is mostly useful when job handlers run on virtual threads (see {@link
+     * io.camunda.zeebe.client.ZeebeClientBuilder#useVirtualThreadsForJobHandlers()}), where the
+     * number of threads does not limit the concurrency.
+     *
+     * <p>By default, the concurrency is only limited by the number of job worker execution threads,
+     * or by {@link #maxJobsActive(int)} when using virtual threads.
+     *
+     * @param maxConcurrentJobs the maximum number of jobs handled concurrently, or 0 for no limit
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 maxConcurrentJobs(int maxConcurrentJobs);
+
+    /**
+     * Sets the metrics the worker reports to, e.g. the number of activated and handled jobs, the
+     * number of jobs waiting to be handled and the time the worker had no jobs to work on. By
+     * default, nothing is reported.
+     *
+     * @param metrics the metrics to report to
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 metrics(JobWorkerMetrics metrics);
+
     /**
      * Open the worker and start to work on available tasks.
      *
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.worker;
+
+/**
+ * The {@link JobWorker} reports its internal state through this interface, which allows to bridge
+ * it to any metrics library. All methods have a no-op default implementation, so only the metrics
+ * of interest need to be implemented.
+ *
+ * <p>The methods are called from the threads of the worker, including the threads executing the
+ * {@link JobHandler}, and should therefore be thread-safe and return quickly.
+ */
+public interface JobWorkerMetrics {
+
+  /**
+   * Called when jobs were activated for the worker.
+   *
+   * @param count the number of activated jobs
+   */
+  default void jobActivated(final int count) {}
+
+  /**
+   * Called when the job handler finished to work on a job, regardless of whether it succeeded.
+   *
+   * @param count the number of handled jobs
+   */
+  default void jobHandled(final int count) {}
+
+  /**
+   * Called whenever the number of jobs which are activated, but not yet picked up by the job
+   * handler, changes.
+   *
+   * @param depth the number of jobs waiting to be handled
+   */
+  default void queueDepth(final int depth) {}
+
+  /**
+   * Called whenever the number of jobs the job handler is currently working on changes.
+   *
+   * @param count the number of jobs which are being handled concurrently
+   */
+  default void handlerConcurrency(final int count) {}
+
+  /**
+   * Called when the worker receives a job after it had no job to work on, i.e. all previously
+   * activated jobs were handled and no new ones were activated yet.
+   *
+   * @param idleTimeMillis the time in milliseconds the worker had no job to work on
+   */
+  default void idleTime(final long idleTimeMillis) {}
+}
@@ -49,6 +49,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   private String gatewayAddress = DEFAULT_GATEWAY_ADDRESS;
   private int jobWorkerMaxJobsActive = 32;
   private int numJobWorkerExecutionThreads = 1;
+  private boolean useVirtualThreadsForJobHandlers = false;
   private String defaultJobWorkerName = "default";
   private Duration defaultJobTimeout = Duration.ofMinutes(5);
   private Duration defaultJobPollInterval = Duration.ofMillis(100);
@@ -71,6 +72,11 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return numJobWorkerExecutionThreads;
   }
 
+  @Override
+  public boolean isVirtualThreadsForJobHandlersEnabled() {
+    return useVirtualThreadsForJobHandlers;
+  }
+
   @Override
   public int getDefaultJobWorkerMaxJobsActive() {
     return jobWorkerMaxJobsActive;
@@ -147,6 +153,9 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
       numJobWorkerExecutionThreads(
           Integer.parseInt(properties.getProperty(ClientProperties.JOB_WORKER_EXECUTION_THREADS)));
     }
+    if (Boolean.parseBoolean(properties.getProperty(ClientProperties.JOB_WORKER_VIRTUAL_THREADS))) {
+      useVirtualThreadsForJobHandlers();
+    }
     if (properties.containsKey(ClientProperties.JOB_WORKER_MAX_JOBS_ACTIVE)) {
       defaultJobWorkerMaxJobsActive(
           Integer.parseInt(properties.getProperty(ClientProperties.JOB_WORKER_MAX_JOBS_ACTIVE)));
@@ -216,6 +225,12 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder useVirtualThreadsForJobHandlers() {
+    useVirtualThreadsForJobHandlers = true;
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder defaultJobWorkerName(final String workerName) {
     defaultJobWorkerName = workerName;
@@ -329,6 +344,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     appendProperty(sb, "gatewayAddress", gatewayAddress);
     appendProperty(sb, "jobWorkerMaxJobsActive", jobWorkerMaxJobsActive);
     appendProperty(sb, "numJobWorkerExecutionThreads", numJobWorkerExecutionThreads);
+    appendProperty(sb, "useVirtualThreadsForJobHandlers", useVirtualThreadsForJobHandlers);
     appendProperty(sb, "defaultJobWorkerName", defaultJobWorkerName);
     appendProperty(sb, "defaultJobTimeout", defaultJobTimeout);
     appendProperty(sb, "defaultJobPollInterval", defaultJobPollInterval);
@@ -108,6 +108,12 @@ public class ZeebeClientCloudBuilderImpl
     return this;
   }
 
+  @Override
+  public ZeebeClientCloudBuilderStep4 useVirtualThreadsForJobHandlers() {
+    innerBuilder.useVirtualThreadsForJobHandlers();
+    return this;
+  }
+
   @Override
   public ZeebeClientCloudBuilderStep4 defaultJobWorkerName(final String workerName) {
     innerBuilder.defaultJobWorkerName(workerName);
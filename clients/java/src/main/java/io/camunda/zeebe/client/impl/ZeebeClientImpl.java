@@ -63,6 +63,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -73,6 +74,7 @@ public final class ZeebeClientImpl implements ZeebeClient {
   private final GatewayStub asyncStub;
   private final ManagedChannel channel;
   private final ScheduledExecutorService executorService;
+  private final ExecutorService jobHandlerExecutor;
   private final List<Closeable> closeables = new CopyOnWriteArrayList<>();
   private final JobClient jobClient;
   private final CredentialsProvider credentialsProvider;
@@ -103,6 +105,7 @@ public final class ZeebeClientImpl implements ZeebeClient {
     this.channel = channel;
     asyncStub = gatewayStub;
     this.executorService = executorService;
+    jobHandlerExecutor = buildJobHandlerExecutor(config, executorService);
 
     if (config.getCredentialsProvider() != null) {
       credentialsProvider = config.getCredentialsProvider();
@@ -186,6 +189,23 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return Executors.newScheduledThreadPool(threadCount);
   }
 
+  private static ExecutorService buildJobHandlerExecutor(
+      final ZeebeClientConfiguration configuration,
+      final ScheduledExecutorService executorService) {
+    if (!configuration.isVirtualThreadsForJobHandlersEnabled()) {
+      return executorService;
+    }
+
+    try {
+      // virtual threads are only available on newer JVMs than the one the client is built for
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (final ReflectiveOperationException e) {
+      throw new ClientException(
+          "Expected to run job handlers on virtual threads, but the JVM does not support them", e);
+    }
+  }
+
   @Override
   public TopologyRequestStep1 newTopologyRequest() {
     return new TopologyRequestImpl(
@@ -209,9 +229,11 @@ public final class ZeebeClientImpl implements ZeebeClient {
         });
 
     executorService.shutdownNow();
+    jobHandlerExecutor.shutdownNow();
 
     try {
-      if (!executorService.awaitTermination(15, TimeUnit.SECONDS)) {
+      if (!executorService.awaitTermination(15, TimeUnit.SECONDS)
+          || !jobHandlerExecutor.awaitTermination(15, TimeUnit.SECONDS)) {
         throw new ClientException(
             "Timed out awaiting termination of job worker executor after 15 seconds");
       }
@@ -304,6 +326,7 @@ public final class ZeebeClientImpl implements ZeebeClient {
         jobClient,
         jsonMapper,
         executorService,
+        jobHandlerExecutor,
         closeables,
         credentialsProvider::shouldRetryRequest);
   }
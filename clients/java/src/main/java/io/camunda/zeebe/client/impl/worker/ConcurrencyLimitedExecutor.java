@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.impl.Loggers;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+
+/**
+ * Limits the number of tasks which run concurrently on the delegate executor. Tasks exceeding the
+ * limit are queued, and submitted to the delegate as soon as a running task completes. No thread is
+ * blocked while waiting for a free slot, which makes it suitable to limit the concurrency of job
+ * handlers running on a thread-per-task executor, e.g. one using virtual threads.
+ *
+ * <p>If the delegate rejects a task, the task stays queued and is submitted again with the next
+ * task which is executed or completes.
+ */
+public final class ConcurrencyLimitedExecutor implements Executor {
+
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+
+  private final Executor delegate;
+  private final int maxConcurrency;
+  private final Deque<Runnable> pendingTasks = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger runningTasks = new AtomicInteger();
+
+  public ConcurrencyLimitedExecutor(final Executor delegate, final int maxConcurrency) {
+    this.delegate = delegate;
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  @Override
+  public void execute(final Runnable task) {
+    pendingTasks.add(task);
+    tryDispatch();
+  }
+
+  /** @return the number of tasks which are currently running on the delegate */
+  public int getRunningTasks() {
+    return runningTasks.get();
+  }
+
+  /** @return the number of tasks which wait for a free slot */
+  public int getPendingTasks() {
+    return pendingTasks.size();
+  }
+
+  private void tryDispatch() {
+    while (!pendingTasks.isEmpty()) {
+      final int running = runningTasks.get();
+      if (running >= maxConcurrency) {
+        // the next completing task will dispatch the pending ones
+        return;
+      }
+
+      if (!runningTasks.compareAndSet(running, running + 1)) {
+        continue;
+      }
+
+      final Runnable task = pendingTasks.poll();
+      if (task == null) {
+        // another thread dispatched the pending task in the meantime
+        runningTasks.decrementAndGet();
+        continue;
+      }
+
+      try {
+        delegate.execute(() -> runTask(task));
+      } catch (final RejectedExecutionException e) {
+        // keep the task in its place, instead of dropping it
+        pendingTasks.addFirst(task);
+        runningTasks.decrementAndGet();
+        LOG.warn("Failed to submit task, will retry with the next task", e);
+        return;
+      }
+    }
+  }
+
+  private void runTask(final Runnable task) {
+    try {
+      task.run();
+    } finally {
+      runningTasks.decrementAndGet();
+      tryDispatch();
+    }
+  }
+}
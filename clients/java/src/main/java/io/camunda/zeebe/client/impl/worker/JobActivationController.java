@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides when the {@link JobWorkerImpl} should poll for new jobs and how many jobs it should
+ * activate, and keeps track of the worker's queue to report it to the {@link JobWorkerMetrics}.
+ *
+ * <p>In static mode, the worker activates up to {@code maxJobsActive} jobs and polls again once 30%
+ * of them remain.
+ *
+ * <p>In adaptive mode, the controller observes how long a poll takes, how long the handler takes
+ * per job and how many jobs the worker handles per time while it is busy. Following Little's law,
+ * the worker needs {@code throughput * (pollLatency + handlerLatency)} remaining jobs at the time
+ * it polls to not run dry before the new jobs arrive; this is used as the activation threshold. The
+ * worker then prefetches up to twice as many jobs, bounded by {@code maxJobsActive} and by the
+ * number of jobs it can handle within half of the job timeout, such that buffered jobs do not time
+ * out before they are handled. Until the first observations are made, the static mode is used.
+ */
+public final class JobActivationController {
+
+  private static final float STATIC_ACTIVATION_THRESHOLD = 0.3f;
+  private static final double SMOOTHING_FACTOR = 0.2;
+  private static final int PREFETCH_FACTOR = 2;
+
+  private final int maxJobsActive;
+  private final long jobTimeoutNanos;
+  private final boolean isAdaptive;
+  private final JobWorkerMetrics metrics;
+  private final LongSupplier nanoClock;
+
+  // observations, smoothed by an exponentially weighted moving average; 0 if not yet observed
+  private double pollLatencyNanos;
+  private double handlerLatencyNanos;
+  private double jobIntervalNanos;
+
+  // queue state
+  private int queuedJobs;
+  private int activeJobs;
+  private long pollStartedNanos;
+  private long lastJobHandledNanos;
+  private boolean isBusySinceLastJobHandled;
+  private long idleSinceNanos;
+
+  public JobActivationController(
+      final int maxJobsActive,
+      final long jobTimeoutMillis,
+      final boolean isAdaptive,
+      final JobWorkerMetrics metrics) {
+    this(maxJobsActive, jobTimeoutMillis, isAdaptive, metrics, System::nanoTime);
+  }
+
+  JobActivationController(
+      final int maxJobsActive,
+      final long jobTimeoutMillis,
+      final boolean isAdaptive,
+      final JobWorkerMetrics metrics,
+      final LongSupplier nanoClock) {
+    this.maxJobsActive = maxJobsActive;
+    jobTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(jobTimeoutMillis);
+    this.isAdaptive = isAdaptive;
+    this.metrics = metrics;
+    this.nanoClock = nanoClock;
+    idleSinceNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * @param remainingJobs the number of jobs the worker still has to work on
+   * @return true if the worker should poll for new jobs
+   */
+  public synchronized boolean shouldPoll(final int remainingJobs) {
+    return remainingJobs <= getActivationThreshold();
+  }
+
+  /**
+   * @param remainingJobs the number of jobs the worker still has to work on
+   * @return the number of jobs the worker should activate with its next poll
+   */
+  public synchronized int getMaxJobsToActivate(final int remainingJobs) {
+    return Math.max(getTargetJobs() - remainingJobs, 1);
+  }
+
+  public synchronized void onPollStarted() {
+    pollStartedNanos = nanoClock.getAsLong();
+  }
+
+  /** @param activatedJobs the number of jobs activated by the poll */
+  public synchronized void onPollCompleted(final int activatedJobs) {
+    // polls without jobs are long polls which are held back by the gateway until jobs are available
+    // or the request timed out, so their latency says nothing about how long it takes to get jobs
+    if (activatedJobs > 0) {
+      pollLatencyNanos = smooth(pollLatencyNanos, nanoClock.getAsLong() - pollStartedNanos);
+      metrics.jobActivated(activatedJobs);
+    }
+  }
+
+  /** Called when an activated job is handed over to be executed by the job handler. */
+  public synchronized void onJobQueued() {
+    if (activeJobs == 0) {
+      metrics.idleTime(TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - idleSinceNanos));
+    }
+
+    activeJobs += 1;
+    queuedJobs += 1;
+    metrics.queueDepth(queuedJobs);
+  }
+
+  /** @return the time at which the job handler started to work on the job */
+  public synchronized long onJobStarted() {
+    queuedJobs -= 1;
+    metrics.queueDepth(queuedJobs);
+    metrics.handlerConcurrency(activeJobs - queuedJobs);
+    return nanoClock.getAsLong();
+  }
+
+  /** @param startedNanos the time at which the job handler started to work on the job */
+  public synchronized void onJobHandled(final long startedNanos) {
+    final long now = nanoClock.getAsLong();
+    handlerLatencyNanos = smooth(handlerLatencyNanos, now - startedNanos);
+
+    // the time between two handled jobs only tells the throughput if the worker was busy in between
+    if (isBusySinceLastJobHandled) {
+      jobIntervalNanos = smooth(jobIntervalNanos, now - lastJobHandledNanos);
+    }
+
+    activeJobs -= 1;
+    metrics.handlerConcurrency(activeJobs - queuedJobs);
+    lastJobHandledNanos = now;
+    isBusySinceLastJobHandled = activeJobs > 0;
+    if (activeJobs == 0) {
+      idleSinceNanos = now;
+    }
+
+    metrics.jobHandled(1);
+  }
+
+  /** @return the number of jobs which are activated, but not yet picked up by the job handler */
+  public synchronized int getQueuedJobs() {
+    return queuedJobs;
+  }
+
+  synchronized int getActivationThreshold() {
+    if (!hasObservations()) {
+      return Math.round(maxJobsActive * STATIC_ACTIVATION_THRESHOLD);
+    }
+
+    return Math.min((int) Math.ceil(getJobsInFlight()), getTargetJobs() - 1);
+  }
+
+  synchronized int getTargetJobs() {
+    if (!hasObservations()) {
+      return maxJobsActive;
+    }
+
+    final double prefetchedJobs = getJobsInFlight() * PREFETCH_FACTOR;
+    final double jobsWithinTimeout = jobTimeoutNanos / 2.0 / jobIntervalNanos;
+    final int targetJobs = (int) Math.ceil(Math.min(prefetchedJobs, jobsWithinTimeout));
+    return Math.max(1, Math.min(targetJobs, maxJobsActive));
+  }
+
+  private double getJobsInFlight() {
+    return (pollLatencyNanos + handlerLatencyNanos) / jobIntervalNanos;
+  }
+
+  private boolean hasObservations() {
+    return isAdaptive && pollLatencyNanos > 0 && handlerLatencyNanos > 0 && jobIntervalNanos > 0;
+  }
+
+  private static double smooth(final double average, final long sample) {
+    if (average <= 0) {
+      return sample;
+    }
+    return average + SMOOTHING_FACTOR * (sample - average);
+  }
+}
@@ -28,6 +28,7 @@ import io.camunda.zeebe.client.api.worker.JobWorker;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
+import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest.Builder;
@@ -35,6 +36,7 @@ import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
@@ -43,11 +45,13 @@ public final class JobWorkerBuilderImpl
 
   public static final BackoffSupplier DEFAULT_BACKOFF_SUPPLIER =
       BackoffSupplier.newBackoffBuilder().build();
+  private static final JobWorkerMetrics NOOP_METRICS = new JobWorkerMetrics() {};
   private static final Duration DEADLINE_OFFSET = Duration.ofSeconds(10);
   private final GatewayStub gatewayStub;
   private final JobClient jobClient;
   private final JsonMapper jsonMapper;
   private final ScheduledExecutorService executorService;
+  private final Executor jobHandlerExecutor;
   private final List<Closeable> closeables;
   private final Predicate<Throwable> retryPredicate;
   private String jobType;
@@ -59,6 +63,9 @@ public final class JobWorkerBuilderImpl
   private Duration requestTimeout;
   private List<String> fetchVariables;
   private BackoffSupplier backoffSupplier;
+  private boolean isAdaptiveActivation;
+  private int maxConcurrentJobs;
+  private JobWorkerMetrics metrics;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -66,12 +73,14 @@ public final class JobWorkerBuilderImpl
       final JobClient jobClient,
       final JsonMapper jsonMapper,
       final ScheduledExecutorService executorService,
+      final Executor jobHandlerExecutor,
       final List<Closeable> closeables,
       final Predicate<Throwable> retryPredicate) {
     this.gatewayStub = gatewayStub;
     this.jobClient = jobClient;
     this.jsonMapper = jsonMapper;
     this.executorService = executorService;
+    this.jobHandlerExecutor = jobHandlerExecutor;
     this.closeables = closeables;
 
     timeout = configuration.getDefaultJobTimeout().toMillis();
@@ -80,6 +89,7 @@ public final class JobWorkerBuilderImpl
     pollInterval = configuration.getDefaultJobPollInterval();
     requestTimeout = configuration.getDefaultRequestTimeout();
     backoffSupplier = DEFAULT_BACKOFF_SUPPLIER;
+    metrics = NOOP_METRICS;
     this.retryPredicate = retryPredicate;
   }
 
@@ -147,6 +157,24 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 adaptiveActivation(final boolean enabled) {
+    isAdaptiveActivation = enabled;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 maxConcurrentJobs(final int maxConcurrentJobs) {
+    this.maxConcurrentJobs = maxConcurrentJobs;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -154,6 +182,8 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("timeout", timeout, 0L);
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
+    ensureNotNull("metrics", metrics);
+    ensureGreaterThan("maxConcurrentJobs", maxConcurrentJobs, -1);
 
     final Builder requestBuilder =
         ActivateJobsRequest.newBuilder()
@@ -173,10 +203,13 @@ public final class JobWorkerBuilderImpl
     final JobPoller jobPoller =
         new JobPoller(gatewayStub, requestBuilder, jsonMapper, deadline, retryPredicate);
 
+    final JobActivationController activationController =
+        new JobActivationController(maxJobsActive, timeout, isAdaptiveActivation, metrics);
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
-            maxJobsActive,
+            activationController,
             executorService,
+            newJobHandlerExecutor(),
             pollInterval,
             jobRunnableFactory,
             jobPoller,
@@ -184,4 +217,11 @@ public final class JobWorkerBuilderImpl
     closeables.add(jobWorker);
     return jobWorker;
   }
+
+  private Executor newJobHandlerExecutor() {
+    if (maxConcurrentJobs > 0) {
+      return new ConcurrencyLimitedExecutor(jobHandlerExecutor, maxConcurrentJobs);
+    }
+    return jobHandlerExecutor;
+  }
 }
@@ -22,6 +22,7 @@ import io.camunda.zeebe.client.impl.Loggers;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -37,10 +38,12 @@ import org.slf4j.Logger;
  * on construction. If a poll does not provide any new jobs, another poll is scheduled with a delay
  * using the {@code pollInterval}.
  *
- * <p>If a poll successfully provides jobs, the worker submits each job to the job handler. Every
+ * <p>If a poll successfully provides jobs, the worker submits each job to the job handler, which
+ * runs on the {@code jobHandlerExecutor}; polling always happens on the {@code executor}. Every
  * time a job is completed, the worker checks if it still has enough jobs to work on. If not, it
- * will poll for new jobs. To determine what is considered enough jobs it compares its number of
- * {@code remainingJobs} with the {@code activationThreshold}.
+ * will poll for new jobs. To determine what is considered enough jobs it asks the {@link
+ * JobActivationController} with its number of {@code remainingJobs}, which also determines how many
+ * jobs are activated by the next poll.
  *
  * <p>If a poll fails with an error response, a retry is scheduled with a delay using the {@code
  * retryDelaySupplier} to ask for a new {@code pollInterval}. By default this retry delay supplier
@@ -56,12 +59,12 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       "Expected to supply retry delay, but an exception was thrown. Falling back to default backoff supplier";
 
   // job queue state
-  private final int maxJobsActive;
-  private final int activationThreshold;
+  private final JobActivationController activationController;
   private final AtomicInteger remainingJobs;
 
   // job execution facilities
   private final ScheduledExecutorService executor;
+  private final Executor jobHandlerExecutor;
   private final JobRunnableFactory jobHandlerFactory;
   private final long initialPollInterval;
   private final BackoffSupplier backoffSupplier;
@@ -74,17 +77,18 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private volatile long pollInterval;
 
   public JobWorkerImpl(
-      final int maxJobsActive,
+      final JobActivationController activationController,
       final ScheduledExecutorService executor,
+      final Executor jobHandlerExecutor,
       final Duration pollInterval,
       final JobRunnableFactory jobHandlerFactory,
       final JobPoller jobPoller,
       final BackoffSupplier backoffSupplier) {
-    this.maxJobsActive = maxJobsActive;
-    activationThreshold = Math.round(maxJobsActive * 0.3f);
+    this.activationController = activationController;
     remainingJobs = new AtomicInteger(0);
 
     this.executor = executor;
+    this.jobHandlerExecutor = jobHandlerExecutor;
     this.jobHandlerFactory = jobHandlerFactory;
     initialPollInterval = pollInterval.toMillis();
     this.backoffSupplier = backoffSupplier;
@@ -130,7 +134,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private boolean shouldPoll(final int remainingJobs) {
-    return acquiringJobs.get() && remainingJobs <= activationThreshold;
+    return acquiringJobs.get() && activationController.shouldPoll(remainingJobs);
   }
 
   private void tryPoll() {
@@ -166,7 +170,8 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       schedulePoll();
       return;
     }
-    final int maxJobsToActivate = maxJobsActive - actualRemainingJobs;
+    final int maxJobsToActivate = activationController.getMaxJobsToActivate(actualRemainingJobs);
+    activationController.onPollStarted();
     jobPoller.poll(
         maxJobsToActivate,
         this::handleJob,
@@ -178,6 +183,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private void onPollSuccess(final JobPoller jobPoller, final int activatedJobs) {
     // first release, then lookup remaining jobs, to allow handleJobFinished() to poll
     releaseJobPoller(jobPoller);
+    activationController.onPollCompleted(activatedJobs);
     final int actualRemainingJobs = remainingJobs.addAndGet(activatedJobs);
     pollInterval = initialPollInterval;
     if (actualRemainingJobs <= 0) {
@@ -208,10 +214,16 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private void handleJob(final ActivatedJob job) {
-    executor.execute(jobHandlerFactory.create(job, this::handleJobFinished));
+    activationController.onJobQueued();
+    jobHandlerExecutor.execute(
+        () -> {
+          final long startedNanos = activationController.onJobStarted();
+          jobHandlerFactory.create(job, () -> handleJobFinished(startedNanos)).run();
+        });
   }
 
-  private void handleJobFinished() {
+  private void handleJobFinished(final long startedNanos) {
+    activationController.onJobHandled(startedNanos);
     final int actualRemainingJobs = remainingJobs.decrementAndGet();
     if (!isPollScheduled.get() && shouldPoll(actualRemainingJobs)) {
       tryPoll();
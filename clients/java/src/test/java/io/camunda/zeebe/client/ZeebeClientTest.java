@@ -57,6 +57,7 @@ public final class ZeebeClientTest extends ClientTest {
       assertThat(configuration.getGatewayAddress()).isEqualTo("0.0.0.0:26500");
       assertThat(configuration.getDefaultJobWorkerMaxJobsActive()).isEqualTo(32);
       assertThat(configuration.getNumJobWorkerExecutionThreads()).isEqualTo(1);
+      assertThat(configuration.isVirtualThreadsForJobHandlersEnabled()).isFalse();
       assertThat(configuration.getDefaultJobWorkerName()).isEqualTo("default");
       assertThat(configuration.getDefaultJobTimeout()).isEqualTo(Duration.ofMinutes(5));
       assertThat(configuration.getDefaultJobPollInterval()).isEqualTo(Duration.ofMillis(100));
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Test;
+
+public final class ConcurrencyLimitedExecutorTest {
+
+  private final ExecutorService delegate = Executors.newCachedThreadPool();
+
+  @After
+  public void tearDown() {
+    delegate.shutdownNow();
+  }
+
+  @Test
+  public void shouldQueueTasksExceedingLimit() {
+    // given
+    final List<Runnable> submittedTasks = new ArrayList<>();
+    final ConcurrencyLimitedExecutor executor =
+        new ConcurrencyLimitedExecutor(submittedTasks::add, 2);
+
+    // when
+    executor.execute(() -> {});
+    executor.execute(() -> {});
+    executor.execute(() -> {});
+
+    // then
+    assertThat(submittedTasks).hasSize(2);
+    assertThat(executor.getRunningTasks()).isEqualTo(2);
+    assertThat(executor.getPendingTasks()).isEqualTo(1);
+
+    // when
+    submittedTasks.get(0).run();
+
+    // then
+    assertThat(submittedTasks).hasSize(3);
+    assertThat(executor.getRunningTasks()).isEqualTo(2);
+    assertThat(executor.getPendingTasks()).isZero();
+  }
+
+  @Test
+  public void shouldNotExceedLimitUnderConcurrentLoad() throws InterruptedException {
+    // given
+    final int limit = 4;
+    final int taskCount = 1_000;
+    final ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(delegate, limit);
+    final AtomicInteger concurrentTasks = new AtomicInteger();
+    final AtomicInteger maxConcurrentTasks = new AtomicInteger();
+    final CountDownLatch completedTasks = new CountDownLatch(taskCount);
+
+    // when
+    for (int i = 0; i < taskCount; i++) {
+      executor.execute(
+          () -> {
+            final int concurrent = concurrentTasks.incrementAndGet();
+            maxConcurrentTasks.accumulateAndGet(concurrent, Math::max);
+            concurrentTasks.decrementAndGet();
+            completedTasks.countDown();
+          });
+    }
+
+    // then
+    assertThat(completedTasks.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxConcurrentTasks.get()).isLessThanOrEqualTo(limit);
+    Awaitility.await().untilAsserted(() -> assertThat(executor.getRunningTasks()).isZero());
+  }
+
+  @Test
+  public void shouldReleaseSlotWhenTaskFails() {
+    // given
+    final ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(Runnable::run, 1);
+    final AtomicInteger executedTasks = new AtomicInteger();
+
+    // when
+    try {
+      executor.execute(
+          () -> {
+            throw new IllegalStateException("expected");
+          });
+    } catch (final IllegalStateException e) {
+      // expected
+    }
+    executor.execute(executedTasks::incrementAndGet);
+
+    // then
+    assertThat(executedTasks).hasValue(1);
+    assertThat(executor.getRunningTasks()).isZero();
+  }
+
+  @Test
+  public void shouldKeepTaskWhichWasRejected() {
+    // given
+    final List<String> executedTasks = new ArrayList<>();
+    final AtomicInteger rejectedTasks = new AtomicInteger();
+    final ConcurrencyLimitedExecutor executor =
+        new ConcurrencyLimitedExecutor(
+            task -> {
+              if (rejectedTasks.getAndIncrement() == 0) {
+                throw new RejectedExecutionException("expected");
+              }
+              task.run();
+            },
+            1);
+
+    // when
+    executor.execute(() -> executedTasks.add("first"));
+    executor.execute(() -> executedTasks.add("second"));
+
+    // then
+    assertThat(executedTasks).containsExactly("first", "second");
+    assertThat(executor.getRunningTasks()).isZero();
+    assertThat(executor.getPendingTasks()).isZero();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public final class JobActivationControllerTest {
+
+  private static final int MAX_JOBS_ACTIVE = 100;
+  private static final long JOB_TIMEOUT = Duration.ofMinutes(5).toMillis();
+
+  private final RecordingMetrics metrics = new RecordingMetrics();
+  private long now = 1;
+
+  @Test
+  public void shouldUseStaticThresholdWhenNotAdaptive() {
+    // given
+    final JobActivationController controller = newController(false);
+    handleJobs(controller, 10, 10, 50);
+
+    // then
+    assertThat(controller.getActivationThreshold()).isEqualTo(30);
+    assertThat(controller.getTargetJobs()).isEqualTo(MAX_JOBS_ACTIVE);
+    assertThat(controller.shouldPoll(30)).isTrue();
+    assertThat(controller.shouldPoll(31)).isFalse();
+    assertThat(controller.getMaxJobsToActivate(30)).isEqualTo(70);
+  }
+
+  @Test
+  public void shouldUseStaticThresholdUntilObserved() {
+    // given
+    final JobActivationController controller = newController(true);
+
+    // then
+    assertThat(controller.getActivationThreshold()).isEqualTo(30);
+    assertThat(controller.getTargetJobs()).isEqualTo(MAX_JOBS_ACTIVE);
+  }
+
+  @Test
+  public void shouldSizeActivationByThroughputAndLatency() {
+    // given
+    final JobActivationController controller = newController(true);
+
+    // when - a poll takes 10ms, and a job is handled every 1ms and takes 1ms
+    handleJobs(controller, 10, 1, 20);
+
+    // then - 11 jobs are needed to bridge a poll, and twice as many are prefetched
+    assertThat(controller.getActivationThreshold()).isEqualTo(11);
+    assertThat(controller.getTargetJobs()).isEqualTo(22);
+    assertThat(controller.shouldPoll(11)).isTrue();
+    assertThat(controller.shouldPoll(12)).isFalse();
+    assertThat(controller.getMaxJobsToActivate(11)).isEqualTo(11);
+  }
+
+  @Test
+  public void shouldNotActivateMoreThanMaxJobsActive() {
+    // given
+    final JobActivationController controller = newController(true);
+
+    // when - a poll takes 1s, while a job is handled every 1ms
+    handleJobs(controller, 1_000, 1, 20);
+
+    // then
+    assertThat(controller.getTargetJobs()).isEqualTo(MAX_JOBS_ACTIVE);
+    assertThat(controller.getActivationThreshold()).isEqualTo(MAX_JOBS_ACTIVE - 1);
+  }
+
+  @Test
+  public void shouldNotActivateMoreJobsThanHandledWithinTimeout() {
+    // given
+    final JobActivationController controller = newController(true);
+
+    // when - a poll and a job take a minute each, such that only 2.5 jobs fit into half of the
+    // timeout, while 4 would be prefetched otherwise
+    handleJobs(controller, 60_000, 60_000, 5);
+
+    // then
+    assertThat(controller.getTargetJobs()).isEqualTo(3);
+    assertThat(controller.getActivationThreshold()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldReportQueueDepth() {
+    // given
+    final JobActivationController controller = newController(true);
+
+    // when
+    controller.onJobQueued();
+    controller.onJobQueued();
+    final long startedNanos = controller.onJobStarted();
+    controller.onJobHandled(startedNanos);
+
+    // then
+    assertThat(metrics.queueDepths).containsExactly(1, 2, 1);
+    assertThat(controller.getQueuedJobs()).isEqualTo(1);
+    assertThat(metrics.handledJobs).hasValue(1);
+  }
+
+  @Test
+  public void shouldReportIdleTime() {
+    // given
+    final JobActivationController controller = newController(true);
+    handleJobs(controller, 10, 1, 1);
+    metrics.idleTimes.clear();
+
+    // when
+    advanceMillis(25);
+    controller.onJobQueued();
+
+    // then
+    assertThat(metrics.idleTimes).containsExactly(25L);
+  }
+
+  private JobActivationController newController(final boolean isAdaptive) {
+    return new JobActivationController(
+        MAX_JOBS_ACTIVE, JOB_TIMEOUT, isAdaptive, metrics, () -> now);
+  }
+
+  private void handleJobs(
+      final JobActivationController controller,
+      final long pollLatencyMillis,
+      final long handlerLatencyMillis,
+      final int jobCount) {
+    controller.onPollStarted();
+    advanceMillis(pollLatencyMillis);
+    for (int i = 0; i < jobCount; i++) {
+      controller.onJobQueued();
+    }
+    controller.onPollCompleted(jobCount);
+
+    // jobs are handled one after another
+    for (int i = 0; i < jobCount; i++) {
+      final long startedNanos = controller.onJobStarted();
+      advanceMillis(handlerLatencyMillis);
+      controller.onJobHandled(startedNanos);
+    }
+  }
+
+  private void advanceMillis(final long millis) {
+    now += TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  private static final class RecordingMetrics implements JobWorkerMetrics {
+    private final AtomicInteger handledJobs = new AtomicInteger();
+    private final List<Integer> queueDepths = new ArrayList<>();
+    private final List<Long> idleTimes = new ArrayList<>();
+
+    @Override
+    public void jobHandled(final int count) {
+      handledJobs.addAndGet(count);
+    }
+
+    @Override
+    public void queueDepth(final int depth) {
+      queueDepths.add(depth);
+    }
+
+    @Override
+    public void idleTime(final long idleTimeMillis) {
+      idleTimes.add(idleTimeMillis);
+    }
+  }
+}
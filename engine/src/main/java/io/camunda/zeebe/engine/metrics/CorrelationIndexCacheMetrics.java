@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class CorrelationIndexCacheMetrics {
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("message_correlation_cache_lookups_total")
+          .help("Number of lookups by message name and correlation key in the correlation cache")
+          .labelNames("partition", "cache", "result")
+          .register();
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("message_correlation_cache_size")
+          .help("Number of cached message name and correlation key combinations")
+          .labelNames("partition", "cache")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Gauge.Child size;
+
+  public CorrelationIndexCacheMetrics(final int partitionId, final String cacheName) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    hits = LOOKUPS.labels(partitionIdLabel, cacheName, "hit");
+    misses = LOOKUPS.labels(partitionIdLabel, cacheName, "miss");
+    size = SIZE.labels(partitionIdLabel, cacheName);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+
+  public void setSize(final int entries) {
+    size.set(entries);
+  }
+}
@@ -136,6 +136,15 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<ProcessIn
         final var terminatingContext = stateTransitionBehavior.transitionToTerminating(context);
         processor.onTerminate(element, terminatingContext);
         break;
+      case TERMINATE_CHILD_ELEMENTS:
+        // the container is already terminating and continues with its remaining child instances
+        processor.onTerminate(
+            element,
+            context.copy(
+                context.getElementInstanceKey(),
+                context.getRecordValue(),
+                ProcessInstanceIntent.ELEMENT_TERMINATING));
+        break;
       default:
         throw new BpmnProcessingException(
             context,
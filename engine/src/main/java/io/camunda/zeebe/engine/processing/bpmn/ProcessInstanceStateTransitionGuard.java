@@ -62,10 +62,13 @@ public final class ProcessInstanceStateTransitionGuard {
             ProcessInstanceIntent.ELEMENT_ACTIVATED,
             ProcessInstanceIntent.ELEMENT_COMPLETING);
 
+      case TERMINATE_CHILD_ELEMENTS:
+        return hasElementInstanceWithState(context, ProcessInstanceIntent.ELEMENT_TERMINATING);
+
       default:
         return Either.left(
             String.format(
-                "Expected the check of the preconditions of a command with intent [activate,complete,terminate] but the intent was '%s'",
+                "Expected the check of the preconditions of a command with intent [activate,complete,terminate,terminate child elements] but the intent was '%s'",
                 context.getIntent()));
     }
   }
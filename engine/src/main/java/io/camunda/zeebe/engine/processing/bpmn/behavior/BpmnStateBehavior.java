@@ -19,7 +19,6 @@ import io.camunda.zeebe.engine.state.immutable.ZeebeState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
 public final class BpmnStateBehavior {
@@ -96,15 +95,6 @@ public final class BpmnStateBehavior {
     return elementInstanceState.getInstance(context.getFlowScopeKey());
   }
 
-  public List<BpmnElementContext> getChildInstances(final BpmnElementContext context) {
-    return elementInstanceState.getChildren(context.getElementInstanceKey()).stream()
-        .map(
-            childInstance ->
-                context.copy(
-                    childInstance.getKey(), childInstance.getValue(), childInstance.getState()))
-        .collect(Collectors.toList());
-  }
-
   public BpmnElementContext getFlowScopeContext(final BpmnElementContext context) {
     final var flowScope = getFlowScopeInstance(context);
     return context.copy(flowScope.getKey(), flowScope.getValue(), flowScope.getState());
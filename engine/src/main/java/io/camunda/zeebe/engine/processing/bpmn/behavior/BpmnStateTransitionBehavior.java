@@ -29,9 +29,13 @@ import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.util.Either;
 import java.util.Arrays;
 import java.util.function.Function;
+import org.agrona.collections.MutableInteger;
 
 public final class BpmnStateTransitionBehavior {
 
+  /** The maximum number of child instances which are terminated by a single command. */
+  static final int TERMINATE_CHILD_INSTANCES_BATCH_SIZE = 100;
+
   private static final String ALREADY_MIGRATED_ERROR_MSG =
       "The Processor for the element type %s is already migrated no need to call %s again this is already done in the BpmnStreamProcessor for you. Happy to help :) ";
   private static final String NO_PROCESS_FOUND_MESSAGE =
@@ -317,21 +321,44 @@ public final class BpmnStateTransitionBehavior {
   }
 
   /**
-   * Terminate all child instances of the given scope.
+   * Terminate the child instances of the given scope.
+   *
+   * <p>If the scope itself is terminating, at most {@link #TERMINATE_CHILD_INSTANCES_BATCH_SIZE}
+   * child instances are terminated at once, to bound the size of the follow-up batch. If more child
+   * instances remain, a {@link ProcessInstanceIntent#TERMINATE_CHILD_ELEMENTS} command for the
+   * scope is written after the ones of the child instances. When it is processed, the child
+   * instances of the current batch are terminating and the scope continues with the next batch.
    *
    * @param context the scope to terminate the child instances of
    * @return {@code true} if the scope has no active child instances
    */
   public boolean terminateChildInstances(final BpmnElementContext context) {
+    final var isScopeTerminating = context.getIntent() == ProcessInstanceIntent.ELEMENT_TERMINATING;
+    final var terminatedChildInstances = new MutableInteger();
 
-    stateBehavior.getChildInstances(context).stream()
-        .filter(child -> ProcessInstanceLifecycle.canTerminate(child.getIntent()))
-        .forEach(
-            childInstanceContext ->
-                commandWriter.appendFollowUpCommand(
-                    childInstanceContext.getElementInstanceKey(),
-                    ProcessInstanceIntent.TERMINATE_ELEMENT,
-                    childInstanceContext.getRecordValue()));
+    elementInstanceState.forEachChild(
+        context.getElementInstanceKey(),
+        childInstance -> {
+          if (!ProcessInstanceLifecycle.canTerminate(childInstance.getState())) {
+            return true;
+          }
+
+          if (isScopeTerminating
+              && terminatedChildInstances.get() == TERMINATE_CHILD_INSTANCES_BATCH_SIZE) {
+            commandWriter.appendFollowUpCommand(
+                context.getElementInstanceKey(),
+                ProcessInstanceIntent.TERMINATE_CHILD_ELEMENTS,
+                context.getRecordValue());
+            return false;
+          }
+
+          commandWriter.appendFollowUpCommand(
+              childInstance.getKey(),
+              ProcessInstanceIntent.TERMINATE_ELEMENT,
+              childInstance.getValue());
+          terminatedChildInstances.increment();
+          return true;
+        });
 
     final var elementInstance = stateBehavior.getElementInstance(context);
     final var activeChildInstances = elementInstance.getNumberOfActiveElementInstances();
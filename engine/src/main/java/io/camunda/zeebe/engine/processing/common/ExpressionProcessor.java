@@ -17,10 +17,13 @@ import io.camunda.zeebe.el.ResultType;
 import io.camunda.zeebe.model.bpmn.util.time.Interval;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -380,7 +383,10 @@ public final class ExpressionProcessor {
 
   private static class VariableStateEvaluationContext implements EvaluationContext {
 
-    private final DirectBuffer variableNameBuffer = new UnsafeBuffer();
+    // the names are interned, as the same names are looked up by every evaluation of an expression
+    private static final int MAX_VARIABLE_NAMES = 10_000;
+
+    private final Map<String, DirectBuffer> variableNames = new HashMap<>();
 
     private final VariablesLookup lookup;
 
@@ -394,9 +400,20 @@ public final class ExpressionProcessor {
     public DirectBuffer getVariable(final String variableName) {
       ensureGreaterThan("variable scope key", variableScopeKey, 0);
 
-      variableNameBuffer.wrap(variableName.getBytes());
+      return lookup.getVariable(variableScopeKey, getVariableNameBuffer(variableName));
+    }
 
-      return lookup.getVariable(variableScopeKey, variableNameBuffer);
+    private DirectBuffer getVariableNameBuffer(final String variableName) {
+      DirectBuffer variableNameBuffer = variableNames.get(variableName);
+      if (variableNameBuffer == null) {
+        if (variableNames.size() >= MAX_VARIABLE_NAMES) {
+          variableNames.clear();
+        }
+
+        variableNameBuffer = BufferUtil.wrapString(variableName);
+        variableNames.put(variableName, variableNameBuffer);
+      }
+      return variableNameBuffer;
     }
   }
 
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.deployment.model.element;
 
+import io.camunda.zeebe.el.Expression;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.model.bpmn.util.time.Timer;
@@ -25,6 +26,8 @@ public class ExecutableCatchEventElement extends ExecutableFlowNode
   private ExecutableError error;
   private boolean interrupting;
   private BiFunction<ExpressionProcessor, Long, Either<Failure, Timer>> timerFactory;
+  private TimerDefinitionType timerDefinitionType;
+  private Expression timerExpression;
 
   private boolean isConnectedToEventBasedGateway;
 
@@ -61,9 +64,18 @@ public class ExecutableCatchEventElement extends ExecutableFlowNode
     return timerFactory;
   }
 
-  public void setTimerFactory(
-      final BiFunction<ExpressionProcessor, Long, Either<Failure, Timer>> timerFactory) {
-    this.timerFactory = timerFactory;
+  public void setTimer(final TimerDefinitionType type, final Expression expression) {
+    timerDefinitionType = type;
+    timerExpression = expression;
+    timerFactory = type.createTimerFactory(expression);
+  }
+
+  public TimerDefinitionType getTimerDefinitionType() {
+    return timerDefinitionType;
+  }
+
+  public Expression getTimerExpression() {
+    return timerExpression;
   }
 
   @Override
@@ -11,6 +11,8 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.agrona.DirectBuffer;
@@ -33,6 +35,10 @@ public class ExecutableProcess extends ExecutableFlowElementContainer {
     return flowElements.get(id);
   }
 
+  public Collection<AbstractFlowElement> getFlowElements() {
+    return Collections.unmodifiableCollection(flowElements.values());
+  }
+
   /** convenience function for transformation */
   public <T extends ExecutableFlowElement> T getElementById(
       final String id, final Class<T> expectedType) {
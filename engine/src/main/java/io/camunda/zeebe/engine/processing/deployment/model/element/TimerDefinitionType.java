@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model.element;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.model.bpmn.util.time.RepeatingInterval;
+import io.camunda.zeebe.model.bpmn.util.time.TimeDateTimer;
+import io.camunda.zeebe.model.bpmn.util.time.Timer;
+import io.camunda.zeebe.protocol.record.value.ErrorType;
+import io.camunda.zeebe.util.Either;
+import java.time.format.DateTimeParseException;
+import java.util.function.BiFunction;
+
+/** The kind of a timer event definition, which decides how its expression is evaluated. */
+public enum TimerDefinitionType {
+  DURATION {
+    @Override
+    public BiFunction<ExpressionProcessor, Long, Either<Failure, Timer>> createTimerFactory(
+        final Expression expression) {
+      return (expressionProcessor, scopeKey) ->
+          expressionProcessor
+              .evaluateIntervalExpression(expression, scopeKey)
+              .map(interval -> new RepeatingInterval(1, interval));
+    }
+  },
+
+  CYCLE {
+    @Override
+    public BiFunction<ExpressionProcessor, Long, Either<Failure, Timer>> createTimerFactory(
+        final Expression expression) {
+      return (expressionProcessor, scopeKey) -> {
+        try {
+          return expressionProcessor
+              .evaluateStringExpression(expression, scopeKey)
+              .map(RepeatingInterval::parse);
+        } catch (final DateTimeParseException e) {
+          // todo(#4323): replace this caught exception with Either
+          return Either.left(new Failure(e.getMessage(), ErrorType.EXTRACT_VALUE_ERROR, scopeKey));
+        }
+      };
+    }
+  },
+
+  DATE {
+    @Override
+    public BiFunction<ExpressionProcessor, Long, Either<Failure, Timer>> createTimerFactory(
+        final Expression expression) {
+      return (expressionProcessor, scopeKey) ->
+          expressionProcessor
+              .evaluateDateTimeExpression(expression, scopeKey)
+              .map(TimeDateTimer::new);
+    }
+  };
+
+  public abstract BiFunction<ExpressionProcessor, Long, Either<Failure, Timer>> createTimerFactory(
+      Expression expression);
+}
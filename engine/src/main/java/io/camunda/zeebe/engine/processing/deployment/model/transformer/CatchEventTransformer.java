@@ -7,12 +7,11 @@
  */
 package io.camunda.zeebe.engine.processing.deployment.model.transformer;
 
-import io.camunda.zeebe.el.Expression;
 import io.camunda.zeebe.el.ExpressionLanguage;
-import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMessage;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.TimerDefinitionType;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.ModelElementTransformer;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.TransformContext;
 import io.camunda.zeebe.model.bpmn.instance.CatchEvent;
@@ -21,11 +20,6 @@ import io.camunda.zeebe.model.bpmn.instance.EventDefinition;
 import io.camunda.zeebe.model.bpmn.instance.Message;
 import io.camunda.zeebe.model.bpmn.instance.MessageEventDefinition;
 import io.camunda.zeebe.model.bpmn.instance.TimerEventDefinition;
-import io.camunda.zeebe.model.bpmn.util.time.RepeatingInterval;
-import io.camunda.zeebe.model.bpmn.util.time.TimeDateTimer;
-import io.camunda.zeebe.protocol.record.value.ErrorType;
-import io.camunda.zeebe.util.Either;
-import java.time.format.DateTimeParseException;
 
 public final class CatchEventTransformer implements ModelElementTransformer<CatchEvent> {
 
@@ -80,40 +74,20 @@ public final class CatchEventTransformer implements ModelElementTransformer<Catc
       final ExecutableCatchEventElement executableElement,
       final TimerEventDefinition timerEventDefinition) {
 
-    final Expression expression;
     if (timerEventDefinition.getTimeDuration() != null) {
       final String duration = timerEventDefinition.getTimeDuration().getTextContent();
-      expression = expressionLanguage.parseExpression(duration);
-      executableElement.setTimerFactory(
-          (expressionProcessor, scopeKey) ->
-              expressionProcessor
-                  .evaluateIntervalExpression(expression, scopeKey)
-                  .map(interval -> new RepeatingInterval(1, interval)));
+      executableElement.setTimer(
+          TimerDefinitionType.DURATION, expressionLanguage.parseExpression(duration));
 
     } else if (timerEventDefinition.getTimeCycle() != null) {
       final String cycle = timerEventDefinition.getTimeCycle().getTextContent();
-      expression = expressionLanguage.parseExpression(cycle);
-      executableElement.setTimerFactory(
-          (expressionProcessor, scopeKey) -> {
-            try {
-              return expressionProcessor
-                  .evaluateStringExpression(expression, scopeKey)
-                  .map(RepeatingInterval::parse);
-            } catch (final DateTimeParseException e) {
-              // todo(#4323): replace this caught exception with Either
-              return Either.left(
-                  new Failure(e.getMessage(), ErrorType.EXTRACT_VALUE_ERROR, scopeKey));
-            }
-          });
+      executableElement.setTimer(
+          TimerDefinitionType.CYCLE, expressionLanguage.parseExpression(cycle));
 
     } else if (timerEventDefinition.getTimeDate() != null) {
       final String timeDate = timerEventDefinition.getTimeDate().getTextContent();
-      expression = expressionLanguage.parseExpression(timeDate);
-      executableElement.setTimerFactory(
-          (expressionProcessor, scopeKey) ->
-              expressionProcessor
-                  .evaluateDateTimeExpression(expression, scopeKey)
-                  .map(TimeDateTimer::new));
+      executableElement.setTimer(
+          TimerDefinitionType.DATE, expressionLanguage.parseExpression(timeDate));
     }
   }
 
@@ -12,7 +12,6 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
-import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.state.KeyGenerator;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
@@ -35,8 +34,6 @@ import org.agrona.io.DirectBufferInputStream;
 
 public final class BpmnResourceTransformer implements DeploymentResourceTransformer {
 
-  private final BpmnTransformer bpmnTransformer = BpmnFactory.createTransformer();
-
   private final KeyGenerator keyGenerator;
   private final StateWriter stateWriter;
   private final Function<DeploymentResource, DirectBuffer> checksumGenerator;
@@ -65,8 +62,9 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
     final String validationError = validator.validate(definition);
 
     if (validationError == null) {
-      // transform the model to avoid unexpected failures that are not covered by the validator
-      bpmnTransformer.transformDefinitions(definition);
+      // transform the model to avoid unexpected failures that are not covered by the validator,
+      // the process state keeps the transformed processes to write them in their compiled form
+      processState.getTransformedProcesses(resource.getResourceBuffer(), definition);
 
       return checkForDuplicateBpmnId(definition, resource, deployment)
           .map(
@@ -118,7 +118,8 @@ public final class MessagePublishProcessor implements TypedRecordProcessor<Messa
     sideEffect.accept(this::sendCorrelateCommand);
 
     if (messageRecord.getTimeToLive() <= 0L) {
-      // avoid that the message can be correlated again by writing the EXPIRED event as a follow-up
+      // the message is not stored by the PUBLISHED event, but the EXPIRED event is still written so
+      // that brokers which store such messages (e.g. during a rolling update) remove it again
       stateWriter.appendFollowUpEvent(messageKey, MessageIntent.EXPIRED, messageRecord);
     }
   }
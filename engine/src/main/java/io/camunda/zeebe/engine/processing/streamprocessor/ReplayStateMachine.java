@@ -44,6 +44,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private static final String ERROR_MSG_EXPECTED_TO_READ_METADATA =
       "Expected to read the metadata for the record '%s', but an exception was thrown.";
 
+  // committing a transaction is expensive compared to applying the events of a small batch, so
+  // the batches which are already available are replayed together, up to this bound
+  private static final int MAX_BATCHES_PER_TRANSACTION = 100;
+
   private static final MetadataFilter REPLAY_FILTER =
       recordMetadata -> recordMetadata.getRecordType() == RecordType.EVENT;
 
@@ -74,6 +78,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
 
+  // the positions before the batches of the current transaction, to replay them again on retry
+  private long transactionStartReadRecordPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionStartReplayedEventPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+
   private ActorFuture<LastProcessingPositions> recoveryFuture;
   private ZeebeDbTransaction zeebeDbTransaction;
   private final StreamProcessorMode streamProcessorMode;
@@ -155,9 +164,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
+        transactionStartReadRecordPosition = lastReadRecordPosition;
+        transactionStartReplayedEventPosition = lastReplayedEventPosition;
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(this::tryToReplayBatches, abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
@@ -165,9 +175,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
+                    // the position should be visible only after the batches are replayed
+                    // successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, transactionSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
 
@@ -191,21 +202,38 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the next batch and the following batches which are already available, up to {@link
+   * #MAX_BATCHES_PER_TRANSACTION}, in one transaction. If the replay should pause, it stops after
+   * the current batch.
+   */
+  private boolean tryToReplayBatches() throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      // reading all batches of the transaction from the beginning again
+      resetToTransactionStart();
     }
 
-    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    zeebeDbTransaction = transactionContext.getCurrentWriteBatchTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
-
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+          int replayedBatches = 0;
+          do {
+            final Batch batch = logStreamBatchReader.next();
+            batch.forEachRemaining(this::replayEvent);
+
+            transactionSourceEventPosition =
+                Math.max(transactionSourceEventPosition, batchSourceEventPosition);
+            replayedBatches += 1;
+            // a pause doesn't wait for the remaining batches, the replayed ones are committed
+          } while (replayedBatches < MAX_BATCHES_PER_TRANSACTION
+              && logStreamBatchReader.hasNext()
+              && !shouldPause.getAsBoolean());
+
+          if (transactionSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(transactionSourceEventPosition);
           }
         });
 
@@ -215,6 +243,17 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     return true;
   }
 
+  private void resetToTransactionStart() {
+    lastReadRecordPosition = transactionStartReadRecordPosition;
+    lastReplayedEventPosition = transactionStartReplayedEventPosition;
+
+    final long seekPosition =
+        transactionStartReadRecordPosition != StreamProcessor.UNSET_POSITION
+            ? transactionStartReadRecordPosition
+            : snapshotPosition;
+    logStreamBatchReader.seekToNextBatch(seekPosition);
+  }
+
   private void replayEvent(final LoggedEvent currentEvent) {
     if (eventFilter.applies(currentEvent)
         && currentEvent.getSourceEventPosition() > snapshotPosition) {
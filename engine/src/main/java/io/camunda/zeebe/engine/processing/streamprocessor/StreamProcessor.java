@@ -72,6 +72,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   private final CompletableActorFuture<Void> closeFuture = new CompletableActorFuture<>();
   private volatile long lastTickTime;
   private boolean shouldProcess = true;
+  // set before the pause is handled by the actor, such that a replay in progress can stop early
+  private volatile boolean pauseRequested;
   private ActorFuture<LastProcessingPositions> replayCompletedFuture;
 
   protected StreamProcessor(final StreamProcessorBuilder processorBuilder) {
@@ -210,7 +212,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   }
 
   private boolean shouldProcessNext() {
-    return isOpened() && shouldProcess;
+    return isOpened() && shouldProcess && !pauseRequested;
   }
 
   private void tearDown() {
@@ -408,8 +410,10 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   }
 
   public ActorFuture<Void> pauseProcessing() {
+    pauseRequested = true;
     return actor.call(
         () -> {
+          pauseRequested = false;
           if (shouldProcess) {
             setStateToPausedAndNotifyListeners();
           }
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state;
+
+import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import java.util.Optional;
+import org.agrona.DirectBuffer;
+
+/**
+ * Provides read-only lookups by key on the state of a partition. Since the followers of a partition
+ * replay the records into their state, the service can be used on any replica, and not only on the
+ * leader. This allows to spread the read traffic across all replicas of a partition.
+ *
+ * <p>The state of a follower may lag behind the state of the leader. Each lookup accepts the
+ * position of a record which must be processed or replayed before the state is read, e.g. the
+ * position of a command which was sent by the same client, to bound the staleness of the result.
+ * Use {@link #ANY_POSITION} if any state is acceptable.
+ *
+ * <p>The results are copies, which can be kept after the next lookup. The service is not
+ * thread-safe, but it can be used concurrently to the stream processor of the partition.
+ */
+public interface ReplicaQueryService extends AutoCloseable {
+
+  /** Accepts the state regardless of the records that were processed or replayed. */
+  long ANY_POSITION = -1L;
+
+  /**
+   * @return the position of the last record which was processed or replayed into the state, or
+   *     {@code -1} if no record was processed yet
+   * @throws ClosedServiceException if the service is already closed
+   */
+  long getProcessedPosition();
+
+  /**
+   * Queries the state for an active process instance, or an active element instance of it.
+   *
+   * @param elementInstanceKey the key of the process instance or element instance
+   * @param minPosition the position which must be processed before the state is read
+   * @return optionally the record of the element instance if found, otherwise an empty optional
+   * @throws ClosedServiceException if the service is already closed
+   * @throws StaleStateException if the state didn't process the given position yet
+   */
+  Optional<ProcessInstanceRecord> getElementInstance(long elementInstanceKey, long minPosition);
+
+  /**
+   * Queries the state for the variables which are visible in a scope, i.e. the variables of the
+   * scope and of its parent scopes.
+   *
+   * @param scopeKey the key of the process instance or element instance which is the scope
+   * @param minPosition the position which must be processed before the state is read
+   * @return optionally the variables as MessagePack document if the scope is found, otherwise an
+   *     empty optional
+   * @throws ClosedServiceException if the service is already closed
+   * @throws StaleStateException if the state didn't process the given position yet
+   */
+  Optional<DirectBuffer> getVariables(long scopeKey, long minPosition);
+
+  /**
+   * Queries the state for a job which is not completed or canceled yet.
+   *
+   * @param jobKey the key of the job
+   * @param minPosition the position which must be processed before the state is read
+   * @return optionally the record of the job if found, otherwise an empty optional
+   * @throws ClosedServiceException if the service is already closed
+   * @throws StaleStateException if the state didn't process the given position yet
+   */
+  Optional<JobRecord> getJob(long jobKey, long minPosition);
+
+  /**
+   * Queries the state for an incident which is not resolved yet.
+   *
+   * @param incidentKey the key of the incident
+   * @param minPosition the position which must be processed before the state is read
+   * @return optionally the record of the incident if found, otherwise an empty optional
+   * @throws ClosedServiceException if the service is already closed
+   * @throws StaleStateException if the state didn't process the given position yet
+   */
+  Optional<IncidentRecord> getIncident(long incidentKey, long minPosition);
+
+  final class ClosedServiceException extends RuntimeException {}
+
+  /** Thrown if the state of the replica didn't process the requested position yet. */
+  final class StaleStateException extends RuntimeException {
+
+    private final long requestedPosition;
+    private final long processedPosition;
+
+    public StaleStateException(final long requestedPosition, final long processedPosition) {
+      super(
+          String.format(
+              "Expected to read the state after position %d was processed, but the last processed position is %d",
+              requestedPosition, processedPosition));
+      this.requestedPosition = requestedPosition;
+      this.processedPosition = processedPosition;
+    }
+
+    public long getRequestedPosition() {
+      return requestedPosition;
+    }
+
+    public long getProcessedPosition() {
+      return processedPosition;
+    }
+  }
+}
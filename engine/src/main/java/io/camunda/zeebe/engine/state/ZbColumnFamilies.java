@@ -94,5 +94,7 @@ public enum ZbColumnFamilies {
   DMN_DECISIONS,
   DMN_DECISION_REQUIREMENTS,
   DMN_LATEST_DECISION_BY_ID,
-  DMN_LATEST_DECISION_REQUIREMENTS_BY_ID
+  DMN_LATEST_DECISION_REQUIREMENTS_BY_ID,
+
+  PROCESS_CACHE_COMPILED
 }
@@ -97,8 +97,9 @@ public class ZeebeDbState implements MutableZeebeState {
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
     jobState = new DbJobState(zeebeDb, transactionContext, partitionId);
-    messageState = new DbMessageState(zeebeDb, transactionContext);
-    messageSubscriptionState = new DbMessageSubscriptionState(zeebeDb, transactionContext);
+    messageState = new DbMessageState(partitionId, zeebeDb, transactionContext);
+    messageSubscriptionState =
+        new DbMessageSubscriptionState(partitionId, zeebeDb, transactionContext);
     messageStartEventSubscriptionState =
         new DbMessageStartEventSubscriptionState(zeebeDb, transactionContext);
     processMessageSubscriptionState =
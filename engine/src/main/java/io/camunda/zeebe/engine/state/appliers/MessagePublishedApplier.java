@@ -23,6 +23,9 @@ public final class MessagePublishedApplier
 
   @Override
   public void applyState(final long key, final MessageRecord value) {
-    messageState.put(key, value);
+    // a message without time to live is only correlated while it is published, and is not stored
+    if (value.getTimeToLive() > 0) {
+      messageState.put(key, value);
+    }
   }
 }
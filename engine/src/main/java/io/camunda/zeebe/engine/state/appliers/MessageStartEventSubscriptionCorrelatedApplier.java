@@ -25,8 +25,11 @@ public final class MessageStartEventSubscriptionCorrelatedApplier
 
   @Override
   public void applyState(final long key, final MessageStartEventSubscriptionRecord value) {
-    // avoid correlating this message to one instance of this process again
-    messageState.putMessageCorrelation(value.getMessageKey(), value.getBpmnProcessIdBuffer());
+    // avoid correlating this message to one instance of this process again - a message which is not
+    // stored (e.g. without time to live) can't be correlated again
+    if (messageState.existMessage(value.getMessageKey())) {
+      messageState.putMessageCorrelation(value.getMessageKey(), value.getBpmnProcessIdBuffer());
+    }
 
     final DirectBuffer correlationKey = value.getCorrelationKeyBuffer();
     if (correlationKey.capacity() > 0) {
@@ -30,7 +30,11 @@ public final class MessageSubscriptionCorrelatingApplier
   public void applyState(final long key, final MessageSubscriptionRecord value) {
     messageSubscriptionState.updateToCorrelatingState(value);
 
-    // avoid correlating this message to one instance of this process again
-    messageState.putMessageCorrelation(value.getMessageKey(), value.getBpmnProcessIdBuffer());
+    // avoid correlating this message to one instance of this process again - a message which is not
+    // stored (e.g. without time to live) can't be correlated again, and its correlation would never
+    // be removed
+    if (messageState.existMessage(value.getMessageKey())) {
+      messageState.putMessageCorrelation(value.getMessageKey(), value.getBpmnProcessIdBuffer());
+    }
   }
 }
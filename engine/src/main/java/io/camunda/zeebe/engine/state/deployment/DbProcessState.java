@@ -15,6 +15,8 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -34,17 +36,22 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
+import org.slf4j.Logger;
 
 public final class DbProcessState implements MutableProcessState {
 
+  private static final Logger LOG = Loggers.PROCESS_REPOSITORY_LOGGER;
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
+  private final ExecutableProcessCodec processCodec =
+      new ExecutableProcessCodec(ExpressionLanguageFactory.createExpressionLanguage());
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
   private final Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>
@@ -66,6 +73,15 @@ public final class DbProcessState implements MutableProcessState {
   private final ColumnFamily<DbString, Digest> digestByIdColumnFamily;
   private final Digest digest = new Digest();
 
+  // the transformed process, to not parse and transform the BPMN resource again after a restart
+  private final ColumnFamily<DbLong, PersistedCompiledProcess> compiledProcessColumnFamily;
+  private final DbLong compiledProcessKey;
+  private final PersistedCompiledProcess compiledProcess;
+
+  // the processes of the last transformed resource - a resource often contains multiple processes
+  private final UnsafeBuffer lastTransformedResource = new UnsafeBuffer();
+  private List<ExecutableProcess> lastTransformedProcesses = List.of();
+
   private final NextValueManager versionManager;
 
   public DbProcessState(
@@ -93,6 +109,15 @@ public final class DbProcessState implements MutableProcessState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.PROCESS_CACHE_DIGEST_BY_ID, transactionContext, processId, digest);
 
+    compiledProcessKey = new DbLong();
+    compiledProcess = new PersistedCompiledProcess();
+    compiledProcessColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.PROCESS_CACHE_COMPILED,
+            transactionContext,
+            compiledProcessKey,
+            compiledProcess);
+
     processesByKey = new Long2ObjectHashMap<>();
 
     versionManager =
@@ -139,6 +164,76 @@ public final class DbProcessState implements MutableProcessState {
     processVersion.wrapLong(processRecord.getVersion());
 
     processByIdAndVersionColumnFamily.put(idAndVersionKey, persistedProcess);
+
+    persistCompiledProcess(processDefinitionKey, processRecord);
+  }
+
+  private void persistCompiledProcess(
+      final long processDefinitionKey, final ProcessRecord processRecord) {
+    // the resource is usually transformed already by the deployment processor, but not on replay
+    // or if the deployment was distributed
+    final DirectBuffer resource = processRecord.getResourceBuffer();
+    final List<ExecutableProcess> processes =
+        transformResource(resource, () -> readModelInstanceFromBuffer(resource));
+    final ExecutableProcess executableProcess =
+        findProcess(processes, processRecord.getBpmnProcessIdBuffer());
+    final DirectBuffer process = processCodec.write(executableProcess);
+
+    compiledProcessKey.wrapLong(processDefinitionKey);
+    compiledProcess.wrap(ExecutableProcessCodec.FORMAT_VERSION, process);
+    compiledProcessColumnFamily.put(compiledProcessKey, compiledProcess);
+  }
+
+  @Override
+  public List<ExecutableProcess> getTransformedProcesses(
+      final DirectBuffer resource, final BpmnModelInstance modelInstance) {
+    return transformResource(resource, () -> modelInstance);
+  }
+
+  private List<ExecutableProcess> transformResource(
+      final DirectBuffer resource, final Supplier<BpmnModelInstance> modelInstance) {
+    if (!BufferUtil.equals(resource, lastTransformedResource)) {
+      lastTransformedProcesses = transformer.transformDefinitions(modelInstance.get());
+      lastTransformedResource.wrap(BufferUtil.cloneBuffer(resource));
+    }
+
+    return lastTransformedProcesses;
+  }
+
+  private static ExecutableProcess findProcess(
+      final List<ExecutableProcess> processes, final DirectBuffer bpmnProcessId) {
+    return processes.stream()
+        .filter(w -> BufferUtil.equals(bpmnProcessId, w.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalStateException(
+                    String.format(
+                        "Expected to find process with id '%s' in the transformed resource, but not found",
+                        bufferAsString(bpmnProcessId))));
+  }
+
+  private ExecutableProcess readCompiledProcess(final long processDefinitionKey) {
+    compiledProcessKey.wrapLong(processDefinitionKey);
+    final PersistedCompiledProcess persistedCompiledProcess =
+        compiledProcessColumnFamily.get(compiledProcessKey);
+
+    if (persistedCompiledProcess == null
+        || persistedCompiledProcess.getFormatVersion() != ExecutableProcessCodec.FORMAT_VERSION) {
+      // the process was deployed before it was compiled, or with a format we can't read
+      return null;
+    }
+
+    try {
+      return processCodec.read(persistedCompiledProcess.getProcess());
+    } catch (final RuntimeException e) {
+      // the resource is still persisted, the process can be transformed from it
+      LOG.warn(
+          "Expected to read compiled process with key '{}', but failed. Transform it from its resource instead.",
+          processDefinitionKey,
+          e);
+      return null;
+    }
   }
 
   private void updateLatestVersion(final ProcessRecord processRecord) {
@@ -164,15 +259,14 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+    ExecutableProcess executableProcess = readCompiledProcess(copiedProcess.getKey());
+    if (executableProcess == null) {
+      final BpmnModelInstance modelInstance =
+          readModelInstanceFromBuffer(copiedProcess.getResource());
+      final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
 
-    final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(w -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), w.getId()))
-            .findFirst()
-            .orElseThrow();
+      executableProcess = findProcess(definitions, copiedProcess.getBpmnProcessId());
+    }
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
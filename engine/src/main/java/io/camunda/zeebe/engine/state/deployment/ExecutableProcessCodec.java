@@ -0,0 +1,695 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableBoundaryEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableBusinessRuleTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCallActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEndEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableError;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEventBasedGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElementContainer;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableIntermediateThrowEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMessage;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableReceiveTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.JobWorkerProperties;
+import io.camunda.zeebe.engine.processing.deployment.model.element.TimerDefinitionType;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Writes a transformed {@link ExecutableProcess} into a compact binary form, and reads it back
+ * without parsing and transforming the BPMN resource again.
+ *
+ * <p>The process is written as a graph: first the header of each element (its type and id), then
+ * the properties of each element, where references to other elements are written as the index of
+ * the referenced element. Expressions are written as their source and parsed again when the process
+ * is read. Timers are written as their type and expression, and their factory is created again.
+ *
+ * <p>The format must only be extended in a backwards compatible way; otherwise, {@link
+ * #FORMAT_VERSION} needs to be increased, which makes the engine ignore the compiled processes of
+ * the previous format and transform the BPMN resource instead.
+ */
+final class ExecutableProcessCodec {
+
+  static final int FORMAT_VERSION = 1;
+
+  private static final int NULL_REFERENCE = -1;
+  private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  private static final List<ElementType> ELEMENT_TYPES =
+      List.of(
+          new ElementType(ExecutableProcess.class, ExecutableProcess::new),
+          new ElementType(
+              ExecutableFlowElementContainer.class, ExecutableFlowElementContainer::new),
+          new ElementType(ExecutableActivity.class, ExecutableActivity::new),
+          new ElementType(ExecutableJobWorkerTask.class, ExecutableJobWorkerTask::new),
+          new ElementType(ExecutableBusinessRuleTask.class, ExecutableBusinessRuleTask::new),
+          new ElementType(ExecutableCallActivity.class, ExecutableCallActivity::new),
+          new ElementType(ExecutableReceiveTask.class, ExecutableReceiveTask::new),
+          new ElementType(ExecutableFlowNode.class, ExecutableFlowNode::new),
+          new ElementType(ExecutableCatchEventElement.class, ExecutableCatchEventElement::new),
+          new ElementType(ExecutableStartEvent.class, ExecutableStartEvent::new),
+          new ElementType(ExecutableBoundaryEvent.class, ExecutableBoundaryEvent::new),
+          new ElementType(ExecutableEndEvent.class, ExecutableEndEvent::new),
+          new ElementType(
+              ExecutableIntermediateThrowEvent.class, ExecutableIntermediateThrowEvent::new),
+          new ElementType(ExecutableEventBasedGateway.class, ExecutableEventBasedGateway::new),
+          new ElementType(ExecutableExclusiveGateway.class, ExecutableExclusiveGateway::new),
+          new ElementType(ExecutableSequenceFlow.class, ExecutableSequenceFlow::new),
+          new ElementType(ExecutableMessage.class, ExecutableMessage::new),
+          new ElementType(ExecutableError.class, ExecutableError::new),
+          // created from its header, after all other elements are created
+          new ElementType(ExecutableMultiInstanceBody.class, null));
+
+  private static final int MULTI_INSTANCE_BODY_TYPE = ELEMENT_TYPES.size() - 1;
+
+  private final ExpressionLanguage expressionLanguage;
+
+  ExecutableProcessCodec(final ExpressionLanguage expressionLanguage) {
+    this.expressionLanguage = expressionLanguage;
+  }
+
+  /**
+   * @return the process in its binary form
+   * @throws IllegalArgumentException if the process contains an element which can't be written
+   */
+  DirectBuffer write(final ExecutableProcess process) {
+    final Writer writer = new Writer();
+    final List<AbstractFlowElement> elements = collectElements(process);
+    final Map<Object, Integer> references = new IdentityHashMap<>();
+    for (int i = 0; i < elements.size(); i++) {
+      references.put(elements.get(i), i);
+    }
+    writer.references = references;
+
+    writer.writeInt(elements.size());
+    for (final AbstractFlowElement element : elements) {
+      writeHeader(writer, element);
+    }
+    for (final AbstractFlowElement element : elements) {
+      writeProperties(writer, element);
+    }
+
+    return writer.toBuffer();
+  }
+
+  /**
+   * @return the process which was written by {@link #write(ExecutableProcess)}
+   * @throws RuntimeException if the buffer doesn't contain a process in the current format
+   */
+  ExecutableProcess read(final DirectBuffer buffer) {
+    final Reader reader = new Reader(buffer);
+
+    final int elementCount = reader.readCount();
+    final AbstractFlowElement[] elements = new AbstractFlowElement[elementCount];
+    final List<Runnable> multiInstanceBodies = new ArrayList<>();
+    reader.elements = elements;
+
+    for (int i = 0; i < elementCount; i++) {
+      final int index = i;
+      final int type = reader.readByte();
+      final String id = reader.readString();
+
+      if (type == MULTI_INSTANCE_BODY_TYPE) {
+        final int innerActivity = reader.readInt();
+        final ExecutableLoopCharacteristics loopCharacteristics = readLoopCharacteristics(reader);
+        multiInstanceBodies.add(
+            () ->
+                elements[index] =
+                    new ExecutableMultiInstanceBody(
+                        id, loopCharacteristics, (ExecutableActivity) elements[innerActivity]));
+      } else {
+        elements[i] = ELEMENT_TYPES.get(type).factory.apply(id);
+      }
+    }
+    multiInstanceBodies.forEach(Runnable::run);
+
+    for (final AbstractFlowElement element : elements) {
+      readProperties(reader, element);
+    }
+
+    return (ExecutableProcess) elements[0];
+  }
+
+  private List<AbstractFlowElement> collectElements(final ExecutableProcess process) {
+    final List<AbstractFlowElement> elements = new ArrayList<>();
+    final Map<Object, Boolean> visited = new IdentityHashMap<>();
+    final ArrayDeque<Object> pending = new ArrayDeque<>();
+    pending.add(process);
+
+    while (!pending.isEmpty()) {
+      final AbstractFlowElement element = (AbstractFlowElement) pending.poll();
+      if (visited.put(element, Boolean.TRUE) != null) {
+        continue;
+      }
+
+      elements.add(element);
+      for (final Object reference : getReferencedElements(element)) {
+        if (reference != null) {
+          pending.add(reference);
+        }
+      }
+    }
+
+    return elements;
+  }
+
+  private List<Object> getReferencedElements(final AbstractFlowElement element) {
+    final List<Object> references = new ArrayList<>();
+    references.add(element.getFlowScope());
+
+    if (element instanceof ExecutableFlowNode) {
+      final var flowNode = (ExecutableFlowNode) element;
+      references.addAll(flowNode.getIncoming());
+      references.addAll(flowNode.getOutgoing());
+    }
+    if (element instanceof ExecutableActivity) {
+      final var activity = (ExecutableActivity) element;
+      references.addAll(activity.getBoundaryEvents());
+      references.addAll(activity.getEventSubprocesses());
+      references.addAll(activity.getEvents());
+    }
+    if (element instanceof ExecutableFlowElementContainer) {
+      references.addAll(((ExecutableFlowElementContainer) element).getStartEvents());
+    }
+    if (element instanceof ExecutableProcess) {
+      references.addAll(((ExecutableProcess) element).getFlowElements());
+    }
+    if (element instanceof ExecutableMultiInstanceBody) {
+      references.add(((ExecutableMultiInstanceBody) element).getInnerActivity());
+    }
+    if (element instanceof ExecutableCatchEventElement) {
+      final var catchEvent = (ExecutableCatchEventElement) element;
+      references.add(catchEvent.getMessage());
+      references.add(catchEvent.getError());
+    }
+    if (element instanceof ExecutableReceiveTask) {
+      references.add(((ExecutableReceiveTask) element).getMessage());
+    }
+    if (element instanceof ExecutableEndEvent) {
+      references.add(((ExecutableEndEvent) element).getError());
+    }
+    if (element instanceof ExecutableEventBasedGateway) {
+      final List<ExecutableCatchEvent> events = ((ExecutableEventBasedGateway) element).getEvents();
+      if (events != null) {
+        references.addAll(events);
+      }
+    }
+    if (element instanceof ExecutableExclusiveGateway) {
+      final var gateway = (ExecutableExclusiveGateway) element;
+      references.add(gateway.getDefaultFlow());
+      references.addAll(gateway.getOutgoingWithCondition());
+    }
+    if (element instanceof ExecutableSequenceFlow) {
+      final var sequenceFlow = (ExecutableSequenceFlow) element;
+      references.add(sequenceFlow.getSource());
+      references.add(sequenceFlow.getTarget());
+    }
+
+    return references;
+  }
+
+  private void writeHeader(final Writer writer, final AbstractFlowElement element) {
+    final int type = getElementType(element);
+    writer.writeByte(type);
+    writer.writeString(BufferUtil.bufferAsString(element.getId()));
+
+    if (type == MULTI_INSTANCE_BODY_TYPE) {
+      final var multiInstanceBody = (ExecutableMultiInstanceBody) element;
+      writer.writeReference(multiInstanceBody.getInnerActivity());
+      writeLoopCharacteristics(writer, multiInstanceBody.getLoopCharacteristics());
+    }
+  }
+
+  private static int getElementType(final AbstractFlowElement element) {
+    for (int i = 0; i < ELEMENT_TYPES.size(); i++) {
+      if (ELEMENT_TYPES.get(i).type == element.getClass()) {
+        return i;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        String.format(
+            "Expected to write a flow element of a known type, but found '%s' of type '%s'",
+            BufferUtil.bufferAsString(element.getId()), element.getClass().getName()));
+  }
+
+  private void writeProperties(final Writer writer, final AbstractFlowElement element) {
+    writer.writeString(element.getElementType().name());
+    writer.writeReference(element.getFlowScope());
+
+    if (element instanceof ExecutableFlowNode) {
+      final var flowNode = (ExecutableFlowNode) element;
+      writer.writeReferences(flowNode.getIncoming());
+      writer.writeReferences(flowNode.getOutgoing());
+      writer.writeExpression(flowNode.getInputMappings().orElse(null));
+      writer.writeExpression(flowNode.getOutputMappings().orElse(null));
+    }
+    if (element instanceof ExecutableActivity) {
+      final var activity = (ExecutableActivity) element;
+      writer.writeReferences(activity.getBoundaryEvents());
+      writer.writeReferences(activity.getEventSubprocesses());
+      writer.writeReferences(activity.getEvents());
+      writer.writeBuffers(activity.getInterruptingElementIds());
+    }
+    if (element instanceof ExecutableFlowElementContainer) {
+      writer.writeReferences(((ExecutableFlowElementContainer) element).getStartEvents());
+    }
+    if (element instanceof ExecutableProcess) {
+      writer.writeReferences(((ExecutableProcess) element).getFlowElements());
+    }
+    if (element instanceof ExecutableJobWorkerElement) {
+      writeJobWorkerProperties(
+          writer, ((ExecutableJobWorkerElement) element).getJobWorkerProperties());
+    }
+    if (element instanceof ExecutableCatchEventElement) {
+      final var catchEvent = (ExecutableCatchEventElement) element;
+      writer.writeReference(catchEvent.getMessage());
+      writer.writeReference(catchEvent.getError());
+      writer.writeBoolean(catchEvent.interrupting());
+      writer.writeBoolean(catchEvent.isConnectedToEventBasedGateway());
+
+      final TimerDefinitionType timerDefinitionType = catchEvent.getTimerDefinitionType();
+      writer.writeString(timerDefinitionType != null ? timerDefinitionType.name() : null);
+      writer.writeExpression(catchEvent.getTimerExpression());
+    }
+    if (element instanceof ExecutableStartEvent) {
+      writer.writeBuffer(((ExecutableStartEvent) element).getEventSubProcess());
+    }
+    if (element instanceof ExecutableReceiveTask) {
+      writer.writeReference(((ExecutableReceiveTask) element).getMessage());
+    }
+    if (element instanceof ExecutableEndEvent) {
+      writer.writeReference(((ExecutableEndEvent) element).getError());
+    }
+    if (element instanceof ExecutableBusinessRuleTask) {
+      final var businessRuleTask = (ExecutableBusinessRuleTask) element;
+      writer.writeString(businessRuleTask.getDecisionId());
+      writer.writeString(businessRuleTask.getResultVariable());
+    }
+    if (element instanceof ExecutableCallActivity) {
+      final var callActivity = (ExecutableCallActivity) element;
+      writer.writeExpression(callActivity.getCalledElementProcessId());
+      writer.writeBoolean(callActivity.isPropagateAllChildVariablesEnabled());
+    }
+    if (element instanceof ExecutableEventBasedGateway) {
+      final List<ExecutableCatchEvent> events = ((ExecutableEventBasedGateway) element).getEvents();
+      writer.writeBoolean(events != null);
+      if (events != null) {
+        writer.writeReferences(events);
+      }
+    }
+    if (element instanceof ExecutableExclusiveGateway) {
+      final var gateway = (ExecutableExclusiveGateway) element;
+      writer.writeReference(gateway.getDefaultFlow());
+      writer.writeReferences(gateway.getOutgoingWithCondition());
+    }
+    if (element instanceof ExecutableSequenceFlow) {
+      final var sequenceFlow = (ExecutableSequenceFlow) element;
+      writer.writeReference(sequenceFlow.getSource());
+      writer.writeReference(sequenceFlow.getTarget());
+      writer.writeExpression(sequenceFlow.getCondition());
+    }
+    if (element instanceof ExecutableMessage) {
+      final var message = (ExecutableMessage) element;
+      writer.writeExpression(message.getCorrelationKeyExpression());
+      writer.writeExpression(message.getMessageNameExpression());
+      writer.writeString(message.getMessageName().orElse(null));
+    }
+    if (element instanceof ExecutableError) {
+      writer.writeBuffer(((ExecutableError) element).getErrorCode());
+    }
+  }
+
+  private void readProperties(final Reader reader, final AbstractFlowElement element) {
+    element.setElementType(BpmnElementType.valueOf(reader.readString()));
+    element.setFlowScope(reader.readReference());
+
+    if (element instanceof ExecutableFlowNode) {
+      final var flowNode = (ExecutableFlowNode) element;
+      reader.readReferences(flowNode.getIncoming());
+      reader.readReferences(flowNode.getOutgoing());
+      final Expression inputMappings = reader.readExpression();
+      if (inputMappings != null) {
+        flowNode.setInputMappings(inputMappings);
+      }
+      final Expression outputMappings = reader.readExpression();
+      if (outputMappings != null) {
+        flowNode.setOutputMappings(outputMappings);
+      }
+    }
+    if (element instanceof ExecutableActivity) {
+      final var activity = (ExecutableActivity) element;
+      reader.readReferences(activity.getBoundaryEvents());
+      reader.readReferences(activity.getEventSubprocesses());
+      reader.readReferences(activity.getEvents());
+      reader.readBuffers(activity.getInterruptingElementIds());
+    }
+    if (element instanceof ExecutableFlowElementContainer) {
+      reader.readReferences(((ExecutableFlowElementContainer) element).getStartEvents());
+    }
+    if (element instanceof ExecutableProcess) {
+      final List<AbstractFlowElement> flowElements = new ArrayList<>();
+      reader.readReferences(flowElements);
+      flowElements.forEach(((ExecutableProcess) element)::addFlowElement);
+    }
+    if (element instanceof ExecutableJobWorkerElement) {
+      ((ExecutableJobWorkerElement) element)
+          .setJobWorkerProperties(readJobWorkerProperties(reader));
+    }
+    if (element instanceof ExecutableCatchEventElement) {
+      final var catchEvent = (ExecutableCatchEventElement) element;
+      catchEvent.setMessage(reader.readReference());
+      catchEvent.setError(reader.readReference());
+      catchEvent.setInterrupting(reader.readBoolean());
+      catchEvent.setConnectedToEventBasedGateway(reader.readBoolean());
+
+      final String timerDefinitionType = reader.readString();
+      final Expression timerExpression = reader.readExpression();
+      if (timerDefinitionType != null) {
+        catchEvent.setTimer(TimerDefinitionType.valueOf(timerDefinitionType), timerExpression);
+      }
+    }
+    if (element instanceof ExecutableStartEvent) {
+      ((ExecutableStartEvent) element).setEventSubProcess(reader.readBuffer());
+    }
+    if (element instanceof ExecutableReceiveTask) {
+      ((ExecutableReceiveTask) element).setMessage(reader.readReference());
+    }
+    if (element instanceof ExecutableEndEvent) {
+      ((ExecutableEndEvent) element).setError(reader.readReference());
+    }
+    if (element instanceof ExecutableBusinessRuleTask) {
+      final var businessRuleTask = (ExecutableBusinessRuleTask) element;
+      businessRuleTask.setDecisionId(reader.readString());
+      businessRuleTask.setResultVariable(reader.readString());
+    }
+    if (element instanceof ExecutableCallActivity) {
+      final var callActivity = (ExecutableCallActivity) element;
+      callActivity.setCalledElementProcessId(reader.readExpression());
+      callActivity.setPropagateAllChildVariablesEnabled(reader.readBoolean());
+    }
+    if (element instanceof ExecutableEventBasedGateway) {
+      if (reader.readBoolean()) {
+        final List<ExecutableCatchEvent> events = new ArrayList<>();
+        reader.readReferences(events);
+        ((ExecutableEventBasedGateway) element).setEvents(events);
+      }
+    }
+    if (element instanceof ExecutableExclusiveGateway) {
+      final var gateway = (ExecutableExclusiveGateway) element;
+      gateway.setDefaultFlow(reader.readReference());
+      reader.readReferences(gateway.getOutgoingWithCondition());
+    }
+    if (element instanceof ExecutableSequenceFlow) {
+      final var sequenceFlow = (ExecutableSequenceFlow) element;
+      sequenceFlow.setSource(reader.readReference());
+      sequenceFlow.setTarget(reader.readReference());
+      sequenceFlow.setCondition(reader.readExpression());
+    }
+    if (element instanceof ExecutableMessage) {
+      final var message = (ExecutableMessage) element;
+      message.setCorrelationKeyExpression(reader.readExpression());
+      message.setMessageNameExpression(reader.readExpression());
+      message.setMessageName(reader.readString());
+    }
+    if (element instanceof ExecutableError) {
+      final DirectBuffer errorCode = reader.readBuffer();
+      if (errorCode != null) {
+        ((ExecutableError) element).setErrorCode(errorCode);
+      }
+    }
+  }
+
+  private void writeJobWorkerProperties(
+      final Writer writer, final JobWorkerProperties jobWorkerProperties) {
+    writer.writeBoolean(jobWorkerProperties != null);
+    if (jobWorkerProperties == null) {
+      return;
+    }
+
+    writer.writeExpression(jobWorkerProperties.getType());
+    writer.writeExpression(jobWorkerProperties.getRetries());
+    writer.writeExpression(jobWorkerProperties.getAssignee());
+    writer.writeExpression(jobWorkerProperties.getCandidateGroups());
+
+    final Map<String, String> taskHeaders = jobWorkerProperties.getTaskHeaders();
+    writer.writeInt(taskHeaders.size());
+    taskHeaders.forEach(
+        (key, value) -> {
+          writer.writeString(key);
+          writer.writeString(value);
+        });
+  }
+
+  private JobWorkerProperties readJobWorkerProperties(final Reader reader) {
+    if (!reader.readBoolean()) {
+      return null;
+    }
+
+    final JobWorkerProperties jobWorkerProperties = new JobWorkerProperties();
+    jobWorkerProperties.setType(reader.readExpression());
+    jobWorkerProperties.setRetries(reader.readExpression());
+    jobWorkerProperties.setAssignee(reader.readExpression());
+    jobWorkerProperties.setCandidateGroups(reader.readExpression());
+
+    final int headerCount = reader.readCount();
+    if (headerCount > 0) {
+      final Map<String, String> taskHeaders = new LinkedHashMap<>();
+      for (int i = 0; i < headerCount; i++) {
+        taskHeaders.put(reader.readString(), reader.readString());
+      }
+      jobWorkerProperties.setTaskHeaders(taskHeaders);
+    }
+
+    return jobWorkerProperties;
+  }
+
+  private void writeLoopCharacteristics(
+      final Writer writer, final ExecutableLoopCharacteristics loopCharacteristics) {
+    writer.writeBoolean(loopCharacteristics.isSequential());
+    writer.writeExpression(loopCharacteristics.getCompletionCondition().orElse(null));
+    writer.writeExpression(loopCharacteristics.getInputCollection());
+    writer.writeBuffer(loopCharacteristics.getInputElement().orElse(null));
+    writer.writeBuffer(loopCharacteristics.getOutputCollection().orElse(null));
+    writer.writeExpression(loopCharacteristics.getOutputElement().orElse(null));
+  }
+
+  private ExecutableLoopCharacteristics readLoopCharacteristics(final Reader reader) {
+    final boolean isSequential = reader.readBoolean();
+    final Optional<Expression> completionCondition = Optional.ofNullable(reader.readExpression());
+    final Expression inputCollection = reader.readExpression();
+    final Optional<DirectBuffer> inputElement = Optional.ofNullable(reader.readBuffer());
+    final Optional<DirectBuffer> outputCollection = Optional.ofNullable(reader.readBuffer());
+    final Optional<Expression> outputElement = Optional.ofNullable(reader.readExpression());
+
+    return new ExecutableLoopCharacteristics(
+        isSequential,
+        completionCondition,
+        inputCollection,
+        inputElement,
+        outputCollection,
+        outputElement);
+  }
+
+  private static final class ElementType {
+    private final Class<? extends AbstractFlowElement> type;
+    private final Function<String, AbstractFlowElement> factory;
+
+    private ElementType(
+        final Class<? extends AbstractFlowElement> type,
+        final Function<String, AbstractFlowElement> factory) {
+      this.type = type;
+      this.factory = factory;
+    }
+  }
+
+  private static final class Writer {
+    private final MutableDirectBuffer buffer = new ExpandableArrayBuffer();
+    private int offset;
+    private Map<Object, Integer> references;
+
+    private void writeByte(final int value) {
+      buffer.putByte(offset, (byte) value);
+      offset += Byte.BYTES;
+    }
+
+    private void writeBoolean(final boolean value) {
+      writeByte(value ? 1 : 0);
+    }
+
+    private void writeInt(final int value) {
+      buffer.putInt(offset, value, BYTE_ORDER);
+      offset += Integer.BYTES;
+    }
+
+    private void writeString(final String value) {
+      writeBoolean(value != null);
+      if (value != null) {
+        offset += buffer.putStringUtf8(offset, value, BYTE_ORDER);
+      }
+    }
+
+    private void writeBuffer(final DirectBuffer value) {
+      writeBoolean(value != null);
+      if (value != null) {
+        writeInt(value.capacity());
+        buffer.putBytes(offset, value, 0, value.capacity());
+        offset += value.capacity();
+      }
+    }
+
+    private void writeBuffers(final Collection<DirectBuffer> values) {
+      writeInt(values.size());
+      values.forEach(this::writeBuffer);
+    }
+
+    private void writeExpression(final Expression expression) {
+      if (expression == null) {
+        writeString(null);
+      } else if (expression.isStatic()) {
+        writeString(expression.getExpression());
+      } else {
+        writeString("=" + expression.getExpression());
+      }
+    }
+
+    private void writeReference(final ExecutableFlowElement element) {
+      writeInt(element == null ? NULL_REFERENCE : references.get(element));
+    }
+
+    private void writeReferences(final Collection<? extends ExecutableFlowElement> elements) {
+      writeInt(elements.size());
+      elements.forEach(this::writeReference);
+    }
+
+    private DirectBuffer toBuffer() {
+      return BufferUtil.cloneBuffer(buffer, 0, offset);
+    }
+  }
+
+  private final class Reader {
+    private final DirectBuffer buffer;
+    private int offset;
+    private AbstractFlowElement[] elements;
+
+    private Reader(final DirectBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    private int readByte() {
+      final byte value = buffer.getByte(offset);
+      offset += Byte.BYTES;
+      return value;
+    }
+
+    private boolean readBoolean() {
+      return readByte() == 1;
+    }
+
+    private int readInt() {
+      final int value = buffer.getInt(offset, BYTE_ORDER);
+      offset += Integer.BYTES;
+      return value;
+    }
+
+    /**
+     * @return the number of following items or bytes
+     * @throws IllegalArgumentException if the remaining bytes can't contain them, i.e. the buffer
+     *     is corrupted
+     */
+    private int readCount() {
+      final int count = readInt();
+      if (count < 0 || count > buffer.capacity() - offset) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected to read %d items at offset %d, but the buffer has a capacity of %d",
+                count, offset, buffer.capacity()));
+      }
+      return count;
+    }
+
+    private String readString() {
+      if (!readBoolean()) {
+        return null;
+      }
+
+      final String value = buffer.getStringUtf8(offset, BYTE_ORDER);
+      offset += Integer.BYTES + buffer.getInt(offset, BYTE_ORDER);
+      return value;
+    }
+
+    private DirectBuffer readBuffer() {
+      if (!readBoolean()) {
+        return null;
+      }
+
+      final int length = readCount();
+      final DirectBuffer value = BufferUtil.cloneBuffer(buffer, offset, length);
+      offset += length;
+      return value;
+    }
+
+    private void readBuffers(final Collection<DirectBuffer> values) {
+      values.clear();
+      final int count = readCount();
+      for (int i = 0; i < count; i++) {
+        values.add(readBuffer());
+      }
+    }
+
+    private Expression readExpression() {
+      final String expression = readString();
+      return expression != null ? expressionLanguage.parseExpression(expression) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readReference() {
+      final int index = readInt();
+      return index == NULL_REFERENCE ? null : (T) elements[index];
+    }
+
+    private <T> void readReferences(final Collection<T> elements) {
+      elements.clear();
+      final int count = readCount();
+      for (int i = 0; i < count; i++) {
+        elements.add(readReference());
+      }
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import org.agrona.DirectBuffer;
+
+/** The transformed process in the binary form of the {@link ExecutableProcessCodec}. */
+public final class PersistedCompiledProcess extends UnpackedObject implements DbValue {
+  private final IntegerProperty formatVersionProp = new IntegerProperty("formatVersion", -1);
+  private final BinaryProperty processProp = new BinaryProperty("process");
+
+  public PersistedCompiledProcess() {
+    declareProperty(formatVersionProp).declareProperty(processProp);
+  }
+
+  public void wrap(final int formatVersion, final DirectBuffer process) {
+    formatVersionProp.setValue(formatVersion);
+    processProp.setValue(process);
+  }
+
+  public int getFormatVersion() {
+    return formatVersionProp.getValue();
+  }
+
+  public DirectBuffer getProcess() {
+    return processProp.getValue();
+  }
+}
@@ -18,6 +18,19 @@ public interface ElementInstanceState {
 
   List<ElementInstance> getChildren(long parentKey);
 
+  /**
+   * Visits the child instances of the given element instance, ordered by their key, until the
+   * visitor returns {@code false}. In contrast to {@link #getChildren(long)}, the child instances
+   * are not copied, which keeps the memory usage constant for scopes with many child instances.
+   *
+   * <p>NOTE: the element instance given to the visitor is shared and will be mutated on the next
+   * access of the element instance state.
+   *
+   * @param parentKey the key of the element instance to visit the child instances of
+   * @param visitor the visitor which is called for each child instance
+   */
+  void forEachChild(long parentKey, ElementInstanceVisitor visitor);
+
   AwaitProcessInstanceResultMetadata getAwaitResultRequestMetadata(long processInstanceKey);
 
   /**
@@ -31,4 +44,9 @@ public interface ElementInstanceState {
    * @return the number of taken sequence flows of the given gateway
    */
   int getNumberOfTakenSequenceFlows(final long flowScopeKey, final DirectBuffer gatewayElementId);
+
+  @FunctionalInterface
+  interface ElementInstanceVisitor {
+    boolean visit(ElementInstance elementInstance);
+  }
 }
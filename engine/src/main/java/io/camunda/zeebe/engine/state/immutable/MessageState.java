@@ -22,6 +22,8 @@ public interface MessageState {
 
   StoredMessage getMessage(long messageKey);
 
+  boolean existMessage(long messageKey);
+
   void visitMessagesWithDeadlineBefore(long timestamp, MessageVisitor visitor);
 
   boolean exist(DirectBuffer name, DirectBuffer correlationKey, DirectBuffer messageId);
@@ -8,8 +8,11 @@
 package io.camunda.zeebe.engine.state.immutable;
 
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
 import java.util.Collection;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 public interface ProcessState {
@@ -30,4 +33,16 @@ public interface ProcessState {
 
   <T extends ExecutableFlowElement> T getFlowElement(
       long processDefinitionKey, DirectBuffer elementId, Class<T> elementType);
+
+  /**
+   * Transforms the processes of the given BPMN resource. The processes of the last transformed
+   * resource are kept in memory, so that they are not transformed again when a process of this
+   * resource is put into the state.
+   *
+   * @param resource the BPMN resource
+   * @param modelInstance the model of the resource
+   * @return the executable processes of the resource
+   */
+  List<ExecutableProcess> getTransformedProcesses(
+      DirectBuffer resource, BpmnModelInstance modelInstance);
 }
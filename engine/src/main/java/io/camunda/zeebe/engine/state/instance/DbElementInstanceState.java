@@ -233,23 +233,32 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   @Override
   public List<ElementInstance> getChildren(final long parentKey) {
     final List<ElementInstance> children = new ArrayList<>();
-    final ElementInstance parentInstance = getInstance(parentKey);
-    if (parentInstance != null) {
-      this.parentKey.wrapLong(parentKey);
-
-      parentChildColumnFamily.whileEqualPrefix(
-          this.parentKey,
-          (key, value) -> {
-            final DbLong childKey = key.getSecond();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
-
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
-          });
-    }
+    forEachChild(
+        parentKey,
+        childInstance -> {
+          children.add(copyElementInstance(childInstance));
+          return true;
+        });
     return children;
   }
 
+  @Override
+  public void forEachChild(final long parentKey, final ElementInstanceVisitor visitor) {
+    elementInstanceKey.wrapLong(parentKey);
+    if (!elementInstanceColumnFamily.exists(elementInstanceKey)) {
+      return;
+    }
+
+    this.parentKey.wrapLong(parentKey);
+    parentChildColumnFamily.whileEqualPrefix(
+        this.parentKey,
+        (key, value) -> {
+          elementInstanceKey.wrapLong(key.getSecond().getValue());
+          final ElementInstance childInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+          return visitor.visit(childInstance);
+        });
+  }
+
   @Override
   public AwaitProcessInstanceResultMetadata getAwaitResultRequestMetadata(
       final long processInstanceKey) {
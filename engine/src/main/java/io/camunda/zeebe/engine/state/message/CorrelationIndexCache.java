@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.engine.metrics.CorrelationIndexCacheMetrics;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded, write-through cache of a column family index by message name and correlation key, e.g.
+ * the keys of the buffered messages or of the open subscriptions of a correlation key. The keys of
+ * an entry are kept in the same order as in the column family, which is the unsigned order of their
+ * big-endian representation.
+ *
+ * <p>An entry is only added after it was loaded completely from the column family, and is updated
+ * on every write to the column family afterwards. Because loads and writes happen within the
+ * current transaction, the cache may contain uncommitted changes; it is therefore cleared when a
+ * transaction is rolled back. The least recently used entries are evicted once the cache is full.
+ * An entry with more keys than the limit per entry is not cached or is evicted, such that a single
+ * hot correlation key can't grow the cache without bounds; its keys are read from the column family
+ * instead.
+ *
+ * <p>The cache is not thread-safe and must only be accessed by the stream processor which owns the
+ * state.
+ */
+final class CorrelationIndexCache implements TransactionListener {
+
+  private final LookupKey lookupKey = new LookupKey();
+  private final Map<LookupKey, LongArrayList> entries;
+  private final int maxKeysPerEntry;
+  private final CorrelationIndexCacheMetrics metrics;
+
+  CorrelationIndexCache(
+      final int capacity, final int maxKeysPerEntry, final CorrelationIndexCacheMetrics metrics) {
+    this.maxKeysPerEntry = maxKeysPerEntry;
+    this.metrics = metrics;
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<LookupKey, LongArrayList> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  /**
+   * @return the cached keys for the given message name and correlation key, or {@code null} if they
+   *     are not cached; the returned list must not be modified
+   */
+  LongArrayList get(final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    final LongArrayList keys = entries.get(lookupKey.wrap(messageName, correlationKey));
+    if (keys != null) {
+      metrics.hit();
+    } else {
+      metrics.miss();
+    }
+    return keys;
+  }
+
+  /**
+   * Adds the keys which were loaded from the column family for the given correlation key, unless
+   * there are more keys than the limit per entry.
+   */
+  void put(
+      final DirectBuffer messageName, final DirectBuffer correlationKey, final LongArrayList keys) {
+    if (keys.size() > maxKeysPerEntry) {
+      return;
+    }
+
+    entries.put(LookupKey.copyOf(messageName, correlationKey), keys);
+    metrics.setSize(entries.size());
+  }
+
+  /**
+   * Adds the key to the cached entry, if the entry is cached. The entry is evicted instead if it
+   * would exceed the limit of keys per entry.
+   */
+  void add(final DirectBuffer messageName, final DirectBuffer correlationKey, final long key) {
+    final LongArrayList keys = entries.get(lookupKey.wrap(messageName, correlationKey));
+    if (keys == null) {
+      return;
+    }
+
+    int index = keys.size();
+    while (index > 0 && Long.compareUnsigned(keys.getLong(index - 1), key) > 0) {
+      index -= 1;
+    }
+
+    if (index > 0 && keys.getLong(index - 1) == key) {
+      return;
+    }
+
+    if (keys.size() >= maxKeysPerEntry) {
+      entries.remove(lookupKey);
+      metrics.setSize(entries.size());
+    } else {
+      keys.addLong(index, key);
+    }
+  }
+
+  /** Removes the key from the cached entry, if the entry is cached. */
+  void remove(final DirectBuffer messageName, final DirectBuffer correlationKey, final long key) {
+    final LongArrayList keys = entries.get(lookupKey.wrap(messageName, correlationKey));
+    if (keys != null) {
+      keys.removeLong(key);
+    }
+  }
+
+  void clear() {
+    entries.clear();
+    metrics.setSize(0);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  @Override
+  public void onRollback() {
+    clear();
+  }
+
+  private static final class LookupKey {
+    private final UnsafeBuffer messageName = new UnsafeBuffer();
+    private final UnsafeBuffer correlationKey = new UnsafeBuffer();
+
+    private static LookupKey copyOf(
+        final DirectBuffer messageName, final DirectBuffer correlationKey) {
+      final LookupKey key = new LookupKey();
+      key.messageName.wrap(BufferUtil.bufferAsArray(messageName));
+      key.correlationKey.wrap(BufferUtil.bufferAsArray(correlationKey));
+      return key;
+    }
+
+    private LookupKey wrap(final DirectBuffer messageName, final DirectBuffer correlationKey) {
+      this.messageName.wrap(messageName);
+      this.correlationKey.wrap(correlationKey);
+      return this;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(messageName, correlationKey);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final LookupKey that = (LookupKey) o;
+      return messageName.equals(that.messageName) && correlationKey.equals(that.correlationKey);
+    }
+  }
+}
@@ -17,13 +17,18 @@ import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.CorrelationIndexCacheMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 
 public final class DbMessageState implements MutableMessageState {
 
+  private static final int CORRELATION_CACHE_CAPACITY = 10_000;
+  private static final int CORRELATION_CACHE_MAX_KEYS_PER_ENTRY = 100;
+
   /**
    * <pre>message key -> message
    */
@@ -97,8 +102,16 @@ public final class DbMessageState implements MutableMessageState {
 
   private final ColumnFamily<DbLong, DbString> processInstanceCorrelationKeyColumnFamiliy;
 
+  /**
+   * caches the message keys of {@link #nameCorrelationMessageColumnFamily} by name and correlation
+   * key, to avoid a prefix seek each time a message is correlated
+   */
+  private final CorrelationIndexCache correlationCache;
+
   public DbMessageState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext) {
     messageKey = new DbLong();
     message = new StoredMessage();
     messageColumnFamily =
@@ -158,6 +171,13 @@ public final class DbMessageState implements MutableMessageState {
             transactionContext,
             processInstanceKey,
             correlationKey);
+
+    correlationCache =
+        new CorrelationIndexCache(
+            CORRELATION_CACHE_CAPACITY,
+            CORRELATION_CACHE_MAX_KEYS_PER_ENTRY,
+            new CorrelationIndexCacheMetrics(partitionId, "messages"));
+    transactionContext.addTransactionListener(correlationCache);
   }
 
   @Override
@@ -169,6 +189,7 @@ public final class DbMessageState implements MutableMessageState {
     messageName.wrapBuffer(record.getNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     nameCorrelationMessageColumnFamily.put(nameCorrelationMessageKey, DbNil.INSTANCE);
+    correlationCache.add(record.getNameBuffer(), record.getCorrelationKeyBuffer(), key);
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.put(deadlineMessageKey, DbNil.INSTANCE);
@@ -280,15 +301,31 @@ public final class DbMessageState implements MutableMessageState {
   public void visitMessages(
       final DirectBuffer name, final DirectBuffer correlationKey, final MessageVisitor visitor) {
 
+    LongArrayList messageKeys = correlationCache.get(name, correlationKey);
+    if (messageKeys == null) {
+      messageKeys = new LongArrayList();
+      loadMessageKeys(name, correlationKey, messageKeys);
+      correlationCache.put(name, correlationKey, messageKeys);
+    }
+
+    // the visitor may remove messages while visiting, so iterate over a copy of the keys
+    for (final long messageKey : messageKeys.toLongArray()) {
+      final StoredMessage message = getMessage(messageKey);
+      if (message != null && !visitor.visit(message)) {
+        return;
+      }
+    }
+  }
+
+  private void loadMessageKeys(
+      final DirectBuffer name, final DirectBuffer correlationKey, final LongArrayList keys) {
     messageName.wrapBuffer(name);
     this.correlationKey.wrapBuffer(correlationKey);
 
     nameCorrelationMessageColumnFamily.whileEqualPrefix(
         nameAndCorrelationKey,
         (compositeKey, nil) -> {
-          final long messageKey = compositeKey.getSecond().getValue();
-          final StoredMessage message = getMessage(messageKey);
-          return visitor.visit(message);
+          keys.addLong(compositeKey.getSecond().getValue());
         });
   }
 
@@ -298,6 +335,12 @@ public final class DbMessageState implements MutableMessageState {
     return messageColumnFamily.get(this.messageKey);
   }
 
+  @Override
+  public boolean existMessage(final long messageKey) {
+    this.messageKey.wrapLong(messageKey);
+    return messageColumnFamily.exists(this.messageKey);
+  }
+
   @Override
   public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
     deadlineColumnFamily.whileTrue(
@@ -336,6 +379,10 @@ public final class DbMessageState implements MutableMessageState {
     correlationKey.wrapBuffer(storedMessage.getMessage().getCorrelationKeyBuffer());
 
     nameCorrelationMessageColumnFamily.delete(nameCorrelationMessageKey);
+    correlationCache.remove(
+        storedMessage.getMessage().getNameBuffer(),
+        storedMessage.getMessage().getCorrelationKeyBuffer(),
+        key);
 
     final DirectBuffer messageId = storedMessage.getMessage().getMessageIdBuffer();
     if (messageId.capacity() > 0) {
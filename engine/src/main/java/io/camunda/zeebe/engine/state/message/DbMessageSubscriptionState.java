@@ -14,6 +14,7 @@ import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.CorrelationIndexCacheMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
@@ -22,12 +23,16 @@ import io.camunda.zeebe.engine.state.mutable.MutablePendingMessageSubscriptionSt
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageSubscriptionRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 
 public final class DbMessageSubscriptionState
     implements MutableMessageSubscriptionState,
         MutablePendingMessageSubscriptionState,
         StreamProcessorLifecycleAware {
 
+  private static final int CORRELATION_CACHE_CAPACITY = 10_000;
+  private static final int CORRELATION_CACHE_MAX_KEYS_PER_ENTRY = 100;
+
   // (elementInstanceKey, messageName) => MessageSubscription
   private final DbLong elementInstanceKey;
   private final DbString messageName;
@@ -44,11 +49,17 @@ public final class DbMessageSubscriptionState
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbString, DbString>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  // caches the element instance keys of messageNameAndCorrelationKeyColumnFamily by message name
+  // and correlation key, to avoid a prefix seek each time a message is published
+  private final CorrelationIndexCache correlationCache;
+
   private final PendingMessageSubscriptionState transientState =
       new PendingMessageSubscriptionState(this);
 
   public DbMessageSubscriptionState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext) {
 
     elementInstanceKey = new DbLong();
     messageName = new DbString();
@@ -71,6 +82,13 @@ public final class DbMessageSubscriptionState
             transactionContext,
             nameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
+
+    correlationCache =
+        new CorrelationIndexCache(
+            CORRELATION_CACHE_CAPACITY,
+            CORRELATION_CACHE_MAX_KEYS_PER_ENTRY,
+            new CorrelationIndexCacheMetrics(partitionId, "message_subscriptions"));
+    transactionContext.addTransactionListener(correlationCache);
   }
 
   @Override
@@ -96,13 +114,33 @@ public final class DbMessageSubscriptionState
       final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
 
+    LongArrayList elementInstanceKeys = correlationCache.get(messageName, correlationKey);
+    if (elementInstanceKeys == null) {
+      elementInstanceKeys = new LongArrayList();
+      loadElementInstanceKeys(messageName, correlationKey, elementInstanceKeys);
+      correlationCache.put(messageName, correlationKey, elementInstanceKeys);
+    }
+
+    // the visitor may change the subscriptions while visiting, so iterate over a copy of the keys
+    for (final long elementInstanceKey : elementInstanceKeys.toLongArray()) {
+      this.elementInstanceKey.wrapLong(elementInstanceKey);
+      this.messageName.wrapBuffer(messageName);
+
+      if (!visitMessageSubscription(elementKeyAndMessageName, visitor)) {
+        return;
+      }
+    }
+  }
+
+  private void loadElementInstanceKeys(
+      final DirectBuffer messageName, final DirectBuffer correlationKey, final LongArrayList keys) {
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         nameAndCorrelationKey,
         (compositeKey, nil) -> {
-          return visitMessageSubscription(elementKeyAndMessageName, visitor);
+          keys.addLong(compositeKey.getSecond().getValue());
         });
   }
 
@@ -127,6 +165,10 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.put(
         nameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+    correlationCache.add(
+        record.getMessageNameBuffer(),
+        record.getCorrelationKeyBuffer(),
+        record.getElementInstanceKey());
   }
 
   @Override
@@ -183,6 +225,10 @@ public final class DbMessageSubscriptionState
     messageName.wrapBuffer(record.getMessageNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.delete(nameCorrelationAndElementInstanceKey);
+    correlationCache.remove(
+        record.getMessageNameBuffer(),
+        record.getCorrelationKeyBuffer(),
+        record.getElementInstanceKey());
 
     transientState.remove(subscription.getRecord());
   }
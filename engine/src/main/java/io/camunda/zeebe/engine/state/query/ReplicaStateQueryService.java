@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.query;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.ReplicaQueryService;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.ZeebeDbState;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.immutable.IncidentState;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.immutable.LastProcessedPositionState;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+
+/**
+ * Reads the state of a partition with its own transaction context, such that it doesn't interfere
+ * with the stream processor which writes the state. Each lookup reads the latest committed state.
+ */
+public final class ReplicaStateQueryService implements ReplicaQueryService {
+
+  private final LastProcessedPositionState lastProcessedPosition;
+  private final ElementInstanceState instances;
+  private final VariableState variables;
+  private final JobState jobs;
+  private final IncidentState incidents;
+
+  private volatile boolean isClosed;
+
+  public ReplicaStateQueryService(final int partitionId, final ZeebeDb<ZbColumnFamilies> zeebeDb) {
+    final ZeebeDbState state = new ZeebeDbState(partitionId, zeebeDb, zeebeDb.createContext());
+    lastProcessedPosition = state.getLastProcessedPositionState();
+    instances = state.getElementInstanceState();
+    variables = state.getVariableState();
+    jobs = state.getJobState();
+    incidents = state.getIncidentState();
+  }
+
+  @Override
+  public void close() {
+    isClosed = true;
+  }
+
+  @Override
+  public long getProcessedPosition() {
+    ensureServiceIsOpened();
+
+    return lastProcessedPosition.getLastSuccessfulProcessedRecordPosition();
+  }
+
+  @Override
+  public Optional<ProcessInstanceRecord> getElementInstance(
+      final long elementInstanceKey, final long minPosition) {
+    ensurePositionIsProcessed(minPosition);
+
+    return Optional.ofNullable(instances.getInstance(elementInstanceKey))
+        .map(ElementInstance::getValue)
+        .map(record -> copy(record, ProcessInstanceRecord::new));
+  }
+
+  @Override
+  public Optional<DirectBuffer> getVariables(final long scopeKey, final long minPosition) {
+    ensurePositionIsProcessed(minPosition);
+
+    if (instances.getInstance(scopeKey) == null) {
+      return Optional.empty();
+    }
+    return Optional.of(BufferUtil.cloneBuffer(variables.getVariablesAsDocument(scopeKey)));
+  }
+
+  @Override
+  public Optional<JobRecord> getJob(final long jobKey, final long minPosition) {
+    ensurePositionIsProcessed(minPosition);
+
+    return Optional.ofNullable(jobs.getJob(jobKey)).map(record -> copy(record, JobRecord::new));
+  }
+
+  @Override
+  public Optional<IncidentRecord> getIncident(final long incidentKey, final long minPosition) {
+    ensurePositionIsProcessed(minPosition);
+
+    return Optional.ofNullable(incidents.getIncidentRecord(incidentKey))
+        .map(record -> copy(record, IncidentRecord::new));
+  }
+
+  private void ensurePositionIsProcessed(final long minPosition) {
+    // the processed position is only increasing, so the state read afterwards is at least as new
+    final long processedPosition = getProcessedPosition();
+    if (processedPosition < minPosition) {
+      throw new StaleStateException(minPosition, processedPosition);
+    }
+  }
+
+  private void ensureServiceIsOpened() {
+    if (isClosed) {
+      throw new ClosedServiceException();
+    }
+  }
+
+  private static <T extends UnpackedObject> T copy(final T record, final Supplier<T> factory) {
+    final T copy = factory.get();
+    copy.wrap(BufferUtil.createCopy(record));
+    return copy;
+  }
+}
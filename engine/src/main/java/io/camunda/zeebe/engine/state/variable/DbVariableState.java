@@ -30,6 +30,8 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final int LOOKUP_CACHE_CAPACITY = 1_000;
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -53,6 +55,8 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  private final VariableLookupCache lookupCache = new VariableLookupCache(LOOKUP_CACHE_CAPACITY);
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -72,6 +76,8 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    transactionContext.addTransactionListener(lookupCache);
   }
 
   @Override
@@ -106,6 +112,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+    lookupCache.invalidate(name, nameOffset, nameLength);
   }
 
   @Override
@@ -114,6 +121,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.put(this.childKey, this.parentKey);
+    lookupCache.clear();
   }
 
   @Override
@@ -124,6 +132,7 @@ public class DbVariableState implements MutableVariableState {
 
     childKey.wrapLong(scopeKey);
     childParentColumnFamily.delete(childKey);
+    lookupCache.clear();
   }
 
   @Override
@@ -133,6 +142,7 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.delete(scopeKeyVariableNameKey),
         () -> false);
+    lookupCache.clear();
   }
 
   @Override
@@ -161,7 +171,8 @@ public class DbVariableState implements MutableVariableState {
 
   /**
    * Find the variable with the given name. If the variable is not present in the given scope then
-   * it looks in the parent scope and continues until it is found.
+   * it looks in the parent scope and continues until it is found. The result is cached until the
+   * end of the transaction, unless the variable or the scope hierarchy changes before.
    *
    * @param scopeKey the key of the variable scope to start from
    * @param name the buffer that contains the name of the variable
@@ -172,7 +183,18 @@ public class DbVariableState implements MutableVariableState {
   @Override
   public DirectBuffer getVariable(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final DirectBuffer cachedValue = lookupCache.get(scopeKey, name, nameOffset, nameLength);
+    if (cachedValue != null) {
+      return cachedValue != VariableLookupCache.NO_VARIABLE ? cachedValue : null;
+    }
+
+    final DirectBuffer value = lookupVariable(scopeKey, name, nameOffset, nameLength);
+    lookupCache.put(scopeKey, name, nameOffset, nameLength, value);
+    return value;
+  }
 
+  private DirectBuffer lookupVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
     long currentScopeKey = scopeKey;
     do {
       final VariableInstance variable =
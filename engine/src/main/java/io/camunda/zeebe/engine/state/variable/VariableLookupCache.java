@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A cache of the variables which were looked up through the scope hierarchy, by the scope which the
+ * lookup started from and the name of the variable. The same variables are usually looked up many
+ * times while a command is processed, e.g. by the expressions of a gateway and the input and output
+ * mappings of an element.
+ *
+ * <p>The cache is scoped to the current transaction, i.e. to the command which is processed: it is
+ * cleared when the transaction is committed or rolled back. Within the transaction, the entries of
+ * a variable are invalidated when it's set, and all entries are invalidated when the scope
+ * hierarchy changes. The cache stops adding entries once it's full.
+ *
+ * <p>The cache is not thread-safe and must only be accessed by the stream processor which owns the
+ * state.
+ */
+final class VariableLookupCache implements TransactionListener {
+
+  /** Marks a variable which was looked up, but is not present in the scope hierarchy. */
+  static final DirectBuffer NO_VARIABLE = new UnsafeBuffer(new byte[0]);
+
+  private final UnsafeBuffer nameView = new UnsafeBuffer();
+  private final Map<DirectBuffer, Long2ObjectHashMap<DirectBuffer>> entries = new HashMap<>();
+  private final int capacity;
+  private int size;
+
+  VariableLookupCache(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return the cached value of the variable, {@link #NO_VARIABLE} if it's cached as not present,
+   *     or {@code null} if it's not cached; the returned buffer must not be modified
+   */
+  DirectBuffer get(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    nameView.wrap(name, nameOffset, nameLength);
+    final Long2ObjectHashMap<DirectBuffer> values = entries.get(nameView);
+    return values != null ? values.get(scopeKey) : null;
+  }
+
+  /**
+   * Adds the value of the variable which was looked up from the given scope.
+   *
+   * @param value the value of the variable, or {@code null} if it's not present
+   */
+  void put(
+      final long scopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer value) {
+    if (size >= capacity) {
+      return;
+    }
+
+    nameView.wrap(name, nameOffset, nameLength);
+    Long2ObjectHashMap<DirectBuffer> values = entries.get(nameView);
+    if (values == null) {
+      values = new Long2ObjectHashMap<>();
+      entries.put(BufferUtil.cloneBuffer(nameView), values);
+    }
+
+    final DirectBuffer cachedValue = value != null ? BufferUtil.cloneBuffer(value) : NO_VARIABLE;
+    if (values.put(scopeKey, cachedValue) == null) {
+      size += 1;
+    }
+  }
+
+  /** Removes the entries of the variable with the given name, for all scopes. */
+  void invalidate(final DirectBuffer name, final int nameOffset, final int nameLength) {
+    nameView.wrap(name, nameOffset, nameLength);
+    final Long2ObjectHashMap<DirectBuffer> values = entries.remove(nameView);
+    if (values != null) {
+      size -= values.size();
+    }
+  }
+
+  void clear() {
+    if (size > 0) {
+      entries.clear();
+      size = 0;
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  @Override
+  public void onCommit() {
+    clear();
+  }
+
+  @Override
+  public void onRollback() {
+    clear();
+  }
+}
@@ -12,12 +12,14 @@ import static org.assertj.core.api.Assertions.entry;
 
 import io.camunda.zeebe.engine.util.EngineRule;
 import io.camunda.zeebe.engine.util.client.PublishMessageClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.protocol.record.Assertions;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
 import io.camunda.zeebe.test.util.record.RecordingExporter;
 import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
@@ -219,6 +221,47 @@ public final class PublishMessageTest {
         .hasMessageId("");
   }
 
+  @Test
+  public void shouldNotCorrelateMessageWithZeroTTLToLaterSubscription() {
+    // given
+    ENGINE_RULE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("zero-ttl")
+                .startEvent()
+                .intermediateCatchEvent(
+                    "catch",
+                    c ->
+                        c.message(
+                            m -> m.name("order canceled").zeebeCorrelationKeyExpression("key")))
+                .endEvent()
+                .done())
+        .deploy();
+    messageClient.withTimeToLive(0L).publish();
+
+    final long processInstanceKey =
+        ENGINE_RULE
+            .processInstance()
+            .ofBpmnProcessId("zero-ttl")
+            .withVariable("key", "order-123")
+            .create();
+    RecordingExporter.messageSubscriptionRecords(MessageSubscriptionIntent.CREATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .await();
+
+    // when
+    final Record<MessageRecordValue> laterMessage = messageClient.publish();
+
+    // then - the subscription is correlated to the later message only
+    assertThat(
+            RecordingExporter.messageSubscriptionRecords(MessageSubscriptionIntent.CORRELATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .getFirst()
+                .getValue()
+                .getMessageKey())
+        .isEqualTo(laterMessage.getKey());
+  }
+
   // regression test for https://github.com/camunda-cloud/zeebe/issues/5420
   @Test
   public void shouldHaveNoSourceRecordPositionOnExpire() {
@@ -29,6 +29,7 @@ import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
 import io.camunda.zeebe.test.util.record.RecordingExporter;
 import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Rule;
@@ -54,6 +55,16 @@ public final class CancelProcessInstanceTest {
           .subProcessDone()
           .endEvent()
           .done();
+  private static final BpmnModelInstance MULTI_INSTANCE_PROCESS =
+      Bpmn.createExecutableProcess("MULTI_INSTANCE_PROCESS")
+          .startEvent()
+          .serviceTask(
+              "task",
+              t ->
+                  t.zeebeJobType("test")
+                      .multiInstance(m -> m.parallel().zeebeInputCollectionExpression("items")))
+          .endEvent()
+          .done();
   private static final BpmnModelInstance FORK_PROCESS;
 
   static {
@@ -78,6 +89,7 @@ public final class CancelProcessInstanceTest {
     ENGINE.deployment().withXmlResource(PROCESS).deploy();
     ENGINE.deployment().withXmlResource(SUB_PROCESS_PROCESS).deploy();
     ENGINE.deployment().withXmlResource(FORK_PROCESS).deploy();
+    ENGINE.deployment().withXmlResource(MULTI_INSTANCE_PROCESS).deploy();
   }
 
   @Test
@@ -124,6 +136,54 @@ public final class CancelProcessInstanceTest {
             tuple("PROCESS", ELEMENT_TERMINATED));
   }
 
+  @Test
+  public void shouldCancelProcessInstanceWithManyChildInstancesInBatches() {
+    // given
+    final int childInstances = 250;
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId("MULTI_INSTANCE_PROCESS")
+            .withVariable("items", IntStream.range(0, childInstances).boxed().toArray())
+            .create();
+
+    RecordingExporter.processInstanceRecords(ELEMENT_ACTIVATED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.SERVICE_TASK)
+        .limit(childInstances)
+        .await();
+
+    // when
+    ENGINE.processInstance().withInstanceKey(processInstanceKey).cancel();
+
+    // then
+    final List<Record<ProcessInstanceRecordValue>> processInstanceRecords =
+        RecordingExporter.processInstanceRecords()
+            .withProcessInstanceKey(processInstanceKey)
+            .skipUntil(r -> r.getIntent() == CANCEL)
+            .limit(r -> r.getKey() == processInstanceKey && r.getIntent() == ELEMENT_TERMINATED)
+            .asList();
+
+    assertThat(processInstanceRecords)
+        .filteredOn(r -> r.getValue().getBpmnElementType() == BpmnElementType.SERVICE_TASK)
+        .filteredOn(r -> r.getIntent() == ELEMENT_TERMINATED)
+        .hasSize(childInstances);
+
+    assertThat(processInstanceRecords)
+        .filteredOn(r -> r.getValue().getBpmnElementType() == BpmnElementType.MULTI_INSTANCE_BODY)
+        .extracting(Record::getRecordType, Record::getIntent)
+        .containsExactly(
+            tuple(RecordType.COMMAND, ProcessInstanceIntent.TERMINATE_ELEMENT),
+            tuple(RecordType.EVENT, ProcessInstanceIntent.ELEMENT_TERMINATING),
+            tuple(RecordType.COMMAND, ProcessInstanceIntent.TERMINATE_CHILD_ELEMENTS),
+            tuple(RecordType.COMMAND, ProcessInstanceIntent.TERMINATE_CHILD_ELEMENTS),
+            tuple(RecordType.EVENT, ProcessInstanceIntent.ELEMENT_TERMINATED));
+
+    assertThat(processInstanceRecords)
+        .extracting(Record::getRecordType)
+        .doesNotContain(RecordType.COMMAND_REJECTION);
+  }
+
   @Test
   public void shouldNotCancelElementInstance() {
     // given
@@ -16,9 +16,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessor.Phase;
@@ -28,6 +30,8 @@ import io.camunda.zeebe.engine.util.StreamProcessorRule;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.awaitility.Awaitility;
 import org.junit.Rule;
 import org.junit.Test;
@@ -292,6 +296,72 @@ public final class StreamProcessorReplayModeTest {
         .isEqualTo(commandPosition);
   }
 
+  @Test
+  public void shouldReplayAvailableBatchesTogether() {
+    // given
+    long commandPosition = -1L;
+    for (int i = 0; i < 3; i++) {
+      commandPosition = replayContinuously.writeCommand(ACTIVATE_ELEMENT, RECORD);
+      final var sourcePosition = commandPosition;
+      replayContinuously.writeEvent(
+          ELEMENT_ACTIVATING, RECORD, event -> event.sourceRecordPosition(sourcePosition));
+    }
+    final var lastCommandPosition = commandPosition;
+
+    // when
+    startStreamProcessor(replayContinuously);
+
+    // then
+    verify(eventApplier, TIMEOUT.times(3)).applyState(anyLong(), eq(ELEMENT_ACTIVATING), any());
+
+    Awaitility.await()
+        .until(() -> getLastProcessedPosition(replayContinuously), isEqual(lastCommandPosition));
+
+    assertThat(replayContinuously.getLastSuccessfulProcessedRecordPosition())
+        .describedAs("Last processed position in the state must be the last source position")
+        .isEqualTo(lastCommandPosition);
+  }
+
+  @Test
+  public void shouldPauseBetweenAvailableBatches() {
+    // given
+    final var streamProcessor = startStreamProcessor(replayContinuously);
+    streamProcessor.pauseProcessing().join();
+
+    final var firstCommandPosition = replayContinuously.writeCommand(ACTIVATE_ELEMENT, RECORD);
+    replayContinuously.writeEvent(
+        ELEMENT_ACTIVATING, RECORD, event -> event.sourceRecordPosition(firstCommandPosition));
+    for (int i = 0; i < 2; i++) {
+      final var commandPosition = replayContinuously.writeCommand(ACTIVATE_ELEMENT, RECORD);
+      replayContinuously.writeEvent(
+          ELEMENT_ACTIVATING, RECORD, event -> event.sourceRecordPosition(commandPosition));
+    }
+
+    final var paused = new AtomicBoolean();
+    doAnswer(
+            invocation -> {
+              if (paused.compareAndSet(false, true)) {
+                // the pause is requested from outside of the stream processor's actor
+                CompletableFuture.runAsync(streamProcessor::pauseProcessing).join();
+              }
+              return null;
+            })
+        .when(eventApplier)
+        .applyState(anyLong(), eq(ELEMENT_ACTIVATING), any());
+
+    // when
+    streamProcessor.resumeProcessing();
+
+    // then
+    Awaitility.await()
+        .untilAsserted(
+            () -> assertThat(getCurrentPhase(replayContinuously)).isEqualTo(Phase.PAUSED));
+    verify(eventApplier, times(1)).applyState(anyLong(), eq(ELEMENT_ACTIVATING), any());
+    assertThat(replayContinuously.getLastSuccessfulProcessedRecordPosition())
+        .describedAs("Expected that the batches which were replayed before pausing are committed")
+        .isEqualTo(firstCommandPosition);
+  }
+
   @Test
   public void shouldNotSetLastProcessedPositionIfLessThanSnapshotPosition() {
     // given
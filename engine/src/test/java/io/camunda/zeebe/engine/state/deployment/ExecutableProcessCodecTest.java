@@ -0,0 +1,366 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.TimerDefinitionType;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.agrona.DirectBuffer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public final class ExecutableProcessCodecTest {
+
+  private static final String ELEMENT_PACKAGE = ExecutableProcess.class.getPackageName();
+  // the timer factory is created again, see shouldRestoreTimerFactory
+  private static final Set<String> IGNORED_FIELDS = Set.of("timerFactory");
+
+  @Parameter(0)
+  public String description;
+
+  @Parameter(1)
+  public BpmnModelInstance process;
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage();
+  private final ExecutableProcessCodec codec = new ExecutableProcessCodec(expressionLanguage);
+
+  @Parameters(name = "{0}")
+  public static Object[][] parameters() {
+    return new Object[][] {
+      {
+        "service task",
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .serviceTask(
+                "task",
+                t ->
+                    t.zeebeJobType("type")
+                        .zeebeJobRetriesExpression("retries")
+                        .zeebeTaskHeader("key", "value")
+                        .zeebeInputExpression("x", "y")
+                        .zeebeOutputExpression("y", "z"))
+            .endEvent()
+            .done()
+      },
+      {
+        "multi-instance",
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .serviceTask(
+                "task",
+                t ->
+                    t.zeebeJobType("type")
+                        .multiInstance(
+                            m ->
+                                m.zeebeInputCollectionExpression("items")
+                                    .zeebeInputElement("item")
+                                    .zeebeOutputCollection("results")
+                                    .zeebeOutputElementExpression("result")))
+            .endEvent()
+            .done()
+      },
+      {
+        "boundary events",
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .serviceTask("task", t -> t.zeebeJobType("type"))
+            .boundaryEvent("timer", b -> b.timerWithDuration("PT1M").cancelActivity(false))
+            .endEvent()
+            .moveToActivity("task")
+            .boundaryEvent(
+                "message", b -> b.message(m -> m.name("msg").zeebeCorrelationKeyExpression("key")))
+            .endEvent()
+            .moveToActivity("task")
+            .boundaryEvent("error", b -> b.error("code"))
+            .endEvent()
+            .moveToActivity("task")
+            .endEvent()
+            .done()
+      },
+      {
+        "event sub process",
+        Bpmn.createExecutableProcess("process")
+            .eventSubProcess(
+                "sub",
+                s ->
+                    s.startEvent("subStart")
+                        .timerWithCycle("R/PT1H")
+                        .interrupting(false)
+                        .endEvent())
+            .startEvent()
+            .subProcess(
+                "embedded",
+                s ->
+                    s.embeddedSubProcess()
+                        .eventSubProcess(
+                            "innerSub", e -> e.startEvent("innerStart").error("code").endEvent())
+                        .startEvent()
+                        .endEvent("errorEnd")
+                        .error("code"))
+            .endEvent()
+            .done()
+      },
+      {
+        "gateways",
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .exclusiveGateway("xor")
+            .defaultFlow()
+            .eventBasedGateway("ebg")
+            .intermediateCatchEvent("catchTimer", c -> c.timerWithDate("2020-01-01T00:00:00Z"))
+            .endEvent()
+            .moveToNode("ebg")
+            .intermediateCatchEvent(
+                "catchMessage",
+                c -> c.message(m -> m.name("msg").zeebeCorrelationKeyExpression("key")))
+            .endEvent()
+            .moveToNode("xor")
+            .conditionExpression("x > 1")
+            .parallelGateway("fork")
+            .endEvent()
+            .done()
+      },
+      {
+        "tasks",
+        Bpmn.createExecutableProcess("process")
+            .startEvent("start")
+            .message("start")
+            .callActivity(
+                "call",
+                c -> c.zeebeProcessIdExpression("processId").zeebePropagateAllChildVariables(false))
+            .businessRuleTask(
+                "decision",
+                b -> b.zeebeCalledDecisionId("decisionId").zeebeResultVariable("result"))
+            .receiveTask("receive")
+            .message(m -> m.name("msg").zeebeCorrelationKeyExpression("key"))
+            .userTask("user", u -> u.zeebeAssignee("user").zeebeCandidateGroups("a,b"))
+            .intermediateThrowEvent("throw", t -> t.message("msg").zeebeJobType("type"))
+            .manualTask("manual")
+            .endEvent("end", e -> e.message("msg").zeebeJobType("type"))
+            .done()
+      },
+    };
+  }
+
+  @Test
+  public void shouldReadWrittenProcess() {
+    // given
+    final ExecutableProcess executableProcess = transform(process);
+    final DirectBuffer writtenProcess = codec.write(executableProcess);
+
+    // when
+    final ExecutableProcess readProcess = codec.read(writtenProcess);
+
+    // then - the process is written completely, so it must be written again as it was read
+    assertThat(codec.write(readProcess)).isEqualTo(writtenProcess);
+    assertThat(readProcess.getFlowElements())
+        .extracting(element -> BufferUtil.bufferAsString(element.getId()))
+        .containsExactlyInAnyOrderElementsOf(
+            executableProcess.getFlowElements().stream()
+                .map(element -> BufferUtil.bufferAsString(element.getId()))
+                .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldReadAllProperties() {
+    // given
+    final ExecutableProcess executableProcess = transform(process);
+
+    // when
+    final ExecutableProcess readProcess = codec.read(codec.write(executableProcess));
+
+    // then - fails if an element gets a new property which is not written by the codec
+    assertSameProperties("process", executableProcess, readProcess, new IdentityHashMap<>());
+  }
+
+  @Test
+  public void shouldReadElementReferences() {
+    // given
+    final ExecutableProcess executableProcess = transform(process);
+
+    // when
+    final ExecutableProcess readProcess = codec.read(codec.write(executableProcess));
+
+    // then
+    for (final AbstractFlowElement element : executableProcess.getFlowElements()) {
+      final AbstractFlowElement readElement = readProcess.getElementById(element.getId());
+
+      assertThat(readElement).isExactlyInstanceOf(element.getClass());
+      assertThat(readElement.getElementType()).isEqualTo(element.getElementType());
+      assertThat(getId(readElement.getFlowScope())).isEqualTo(getId(element.getFlowScope()));
+      if (readElement.getFlowScope() != null) {
+        assertThat(readElement.getFlowScope())
+            .isSameAs(readProcess.getElementById(readElement.getFlowScope().getId()));
+      }
+    }
+    assertThat(readProcess.getStartEvents())
+        .extracting(ExecutableProcessCodecTest::getId)
+        .containsExactlyElementsOf(
+            executableProcess.getStartEvents().stream()
+                .map(ExecutableProcessCodecTest::getId)
+                .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldRestoreTimerFactory() {
+    // given
+    final ExecutableProcess executableProcess = transform(process);
+
+    // when
+    final ExecutableProcess readProcess = codec.read(codec.write(executableProcess));
+
+    // then
+    final var expressionProcessor =
+        new ExpressionProcessor(expressionLanguage, (name, scopeKey) -> null);
+    executableProcess.getFlowElements().stream()
+        .filter(ExecutableCatchEventElement.class::isInstance)
+        .map(ExecutableCatchEventElement.class::cast)
+        .filter(ExecutableCatchEventElement::isTimer)
+        .forEach(
+            timer -> {
+              final ExecutableCatchEventElement readTimer =
+                  readProcess.getElementById(timer.getId(), ExecutableCatchEventElement.class);
+              final TimerDefinitionType type = timer.getTimerDefinitionType();
+
+              assertThat(readTimer.getTimerDefinitionType()).isEqualTo(type);
+              assertThat(readTimer.getTimerFactory()).isNotNull();
+              assertThat(readTimer.getTimerFactory().apply(expressionProcessor, 1L))
+                  .usingRecursiveComparison()
+                  .isEqualTo(timer.getTimerFactory().apply(expressionProcessor, 1L));
+            });
+  }
+
+  private static void assertSameProperties(
+      final String path,
+      final Object expected,
+      final Object actual,
+      final Map<Object, Object> comparedObjects) {
+    if (expected == null || actual == null) {
+      assertThat(actual).describedAs(path).isEqualTo(expected);
+
+    } else if (expected instanceof DirectBuffer) {
+      assertThat(BufferUtil.bufferAsString((DirectBuffer) actual))
+          .describedAs(path)
+          .isEqualTo(BufferUtil.bufferAsString((DirectBuffer) expected));
+
+    } else if (expected instanceof Expression) {
+      assertThat(((Expression) actual).getExpression())
+          .describedAs(path)
+          .isEqualTo(((Expression) expected).getExpression());
+
+    } else if (expected instanceof Collection) {
+      final List<?> expectedItems = new ArrayList<>((Collection<?>) expected);
+      final List<?> actualItems = new ArrayList<>((Collection<?>) actual);
+      assertThat(actualItems).describedAs(path).hasSameSizeAs(expectedItems);
+      for (int i = 0; i < expectedItems.size(); i++) {
+        assertSameProperties(
+            path + "[" + i + "]", expectedItems.get(i), actualItems.get(i), comparedObjects);
+      }
+
+    } else if (expected instanceof Map) {
+      final Map<?, ?> expectedMap = (Map<?, ?>) expected;
+      final Map<?, ?> actualMap = (Map<?, ?>) actual;
+      assertThat(actualMap.keySet()).describedAs(path).isEqualTo(expectedMap.keySet());
+      for (final Object key : expectedMap.keySet()) {
+        final Object name =
+            key instanceof DirectBuffer ? BufferUtil.bufferAsString((DirectBuffer) key) : key;
+        assertSameProperties(
+            path + "[" + name + "]", expectedMap.get(key), actualMap.get(key), comparedObjects);
+      }
+
+    } else if (expected instanceof Optional) {
+      assertSameProperties(
+          path,
+          ((Optional<?>) expected).orElse(null),
+          ((Optional<?>) actual).orElse(null),
+          comparedObjects);
+
+    } else if (expected instanceof String
+        || expected instanceof Number
+        || expected instanceof Boolean
+        || expected instanceof Enum) {
+      assertThat(actual).describedAs(path).isEqualTo(expected);
+
+    } else if (expected.getClass().getPackageName().equals(ELEMENT_PACKAGE)) {
+      assertThat(actual).describedAs(path).isExactlyInstanceOf(expected.getClass());
+      // the elements reference each other, compare each of them only once
+      if (comparedObjects.put(expected, actual) == null) {
+        assertSameFields(path, expected, actual, comparedObjects);
+      } else {
+        assertThat(comparedObjects.get(expected)).describedAs(path).isSameAs(actual);
+      }
+
+    } else {
+      throw new AssertionError(
+          String.format(
+              "Expected %s to be a known property type, but found %s", path, expected.getClass()));
+    }
+  }
+
+  private static void assertSameFields(
+      final String path,
+      final Object expected,
+      final Object actual,
+      final Map<Object, Object> comparedObjects) {
+    for (Class<?> type = expected.getClass(); type != Object.class; type = type.getSuperclass()) {
+      for (final Field field : type.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || IGNORED_FIELDS.contains(field.getName())) {
+          continue;
+        }
+
+        field.setAccessible(true);
+        try {
+          assertSameProperties(
+              path + "." + field.getName(),
+              field.get(expected),
+              field.get(actual),
+              comparedObjects);
+        } catch (final IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+  }
+
+  private static String getId(final ExecutableFlowElement element) {
+    return element == null ? null : BufferUtil.bufferAsString(element.getId());
+  }
+
+  private static ExecutableProcess transform(final BpmnModelInstance modelInstance) {
+    final List<ExecutableProcess> processes =
+        BpmnFactory.createTransformer().transformDefinitions(modelInstance);
+    return processes.get(0);
+  }
+}
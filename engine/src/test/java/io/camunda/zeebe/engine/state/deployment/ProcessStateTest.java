@@ -10,9 +10,14 @@ package io.camunda.zeebe.engine.state.deployment;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.KeyGenerator;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
@@ -507,6 +512,139 @@ public final class ProcessStateTest {
     Assertions.assertThat(latestProcess.getVersion()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldGetCompiledProcessAfterRestart() {
+    // given
+    final var processRecord = creatingProcessRecord(zeebeState);
+    processState.getTransformedProcesses(processRecord.getResourceBuffer(), compiledProcess());
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    // when
+    final DeployedProcess deployedProcess =
+        restartProcessState().getProcessByKey(processRecord.getKey());
+
+    // then - the process is not transformed from its resource, which has no compiled task
+    Assertions.assertThat(deployedProcess.getProcess().getElementById(wrapString("compiled")))
+        .isNotNull();
+  }
+
+  @Test
+  public void shouldWriteCompiledProcessIfResourceWasNotTransformed() {
+    // given - the resource was not transformed by the deployment processor, e.g. on replay
+    final var processRecord = creatingProcessRecord(zeebeState);
+
+    // when
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    // then
+    Assertions.assertThat(getCompiledProcess(processRecord.getKey())).isNotNull();
+    final DeployedProcess deployedProcess =
+        restartProcessState().getProcessByKey(processRecord.getKey());
+    Assertions.assertThat(deployedProcess.getProcess().getElementById(wrapString("test")))
+        .isNotNull();
+  }
+
+  @Test
+  public void shouldTransformProcessWithoutCompiledForm() {
+    // given - the process was put by a version which didn't write the compiled form
+    final var processRecord = creatingProcessRecord(zeebeState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    deleteCompiledProcess(processRecord.getKey());
+
+    // when
+    final DeployedProcess deployedProcess =
+        restartProcessState().getProcessByKey(processRecord.getKey());
+
+    // then
+    Assertions.assertThat(deployedProcess.getProcess().getElementById(wrapString("test")))
+        .isNotNull();
+  }
+
+  @Test
+  public void shouldTransformProcessWithOtherFormatVersion() {
+    // given
+    final var processRecord = creatingProcessRecord(zeebeState);
+    processState.getTransformedProcesses(processRecord.getResourceBuffer(), compiledProcess());
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    final var compiledProcess = getCompiledProcess(processRecord.getKey());
+    compiledProcess.wrap(ExecutableProcessCodec.FORMAT_VERSION + 1, compiledProcess.getProcess());
+    putCompiledProcess(processRecord.getKey(), compiledProcess);
+
+    // when
+    final DeployedProcess deployedProcess =
+        restartProcessState().getProcessByKey(processRecord.getKey());
+
+    // then
+    final ExecutableProcess process = deployedProcess.getProcess();
+    Assertions.assertThat(process.getElementById(wrapString("test"))).isNotNull();
+    Assertions.assertThat(process.getElementById(wrapString("compiled"))).isNull();
+  }
+
+  @Test
+  public void shouldTransformProcessIfCompiledFormCanNotBeRead() {
+    // given
+    final var processRecord = creatingProcessRecord(zeebeState);
+    processState.getTransformedProcesses(processRecord.getResourceBuffer(), compiledProcess());
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    final var compiledProcess = new PersistedCompiledProcess();
+    compiledProcess.wrap(ExecutableProcessCodec.FORMAT_VERSION, wrapString("corrupted"));
+    putCompiledProcess(processRecord.getKey(), compiledProcess);
+
+    // when
+    final DeployedProcess deployedProcess =
+        restartProcessState().getProcessByKey(processRecord.getKey());
+
+    // then
+    final ExecutableProcess process = deployedProcess.getProcess();
+    Assertions.assertThat(process.getElementById(wrapString("test"))).isNotNull();
+    Assertions.assertThat(process.getElementById(wrapString("compiled"))).isNull();
+  }
+
+  private ProcessState restartProcessState() {
+    // a new state has no processes in memory, like after a restart
+    final ZeebeDb<ZbColumnFamilies> zeebeDb = stateRule.getZeebeDb();
+    return new DbProcessState(zeebeDb, zeebeDb.createContext());
+  }
+
+  private ColumnFamily<DbLong, PersistedCompiledProcess> compiledProcessColumnFamily() {
+    final ZeebeDb<ZbColumnFamilies> zeebeDb = stateRule.getZeebeDb();
+    return zeebeDb.createColumnFamily(
+        ZbColumnFamilies.PROCESS_CACHE_COMPILED,
+        zeebeDb.createContext(),
+        new DbLong(),
+        new PersistedCompiledProcess());
+  }
+
+  private PersistedCompiledProcess getCompiledProcess(final long processDefinitionKey) {
+    final DbLong key = new DbLong();
+    key.wrapLong(processDefinitionKey);
+    return compiledProcessColumnFamily().get(key);
+  }
+
+  private void putCompiledProcess(
+      final long processDefinitionKey, final PersistedCompiledProcess compiledProcess) {
+    final DbLong key = new DbLong();
+    key.wrapLong(processDefinitionKey);
+    compiledProcessColumnFamily().put(key, compiledProcess);
+  }
+
+  private void deleteCompiledProcess(final long processDefinitionKey) {
+    final DbLong key = new DbLong();
+    key.wrapLong(processDefinitionKey);
+    compiledProcessColumnFamily().delete(key);
+  }
+
+  private static BpmnModelInstance compiledProcess() {
+    return Bpmn.createExecutableProcess("processId")
+        .startEvent()
+        .serviceTask("test", task -> task.zeebeJobType("type"))
+        .serviceTask("compiled", task -> task.zeebeJobType("type"))
+        .endEvent()
+        .done();
+  }
+
   public static DeploymentRecord creatingDeploymentRecord(final MutableZeebeState zeebeState) {
     return creatingDeploymentRecord(zeebeState, "processId");
   }
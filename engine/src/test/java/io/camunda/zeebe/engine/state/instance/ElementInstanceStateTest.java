@@ -20,6 +20,7 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.test.util.MsgPackUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -185,6 +186,48 @@ public final class ElementInstanceStateTest {
     assertElementInstance(updatedParent, 1);
   }
 
+  @Test
+  public void shouldVisitChildInstances() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance, 103, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.newInstance(
+        parentInstance, 101, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.newInstance(
+        parentInstance, 102, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATING);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        100L,
+        childInstance -> {
+          visitedKeys.add(childInstance.getKey());
+          return visitedKeys.size() < 2;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(101L, 102L);
+  }
+
+  @Test
+  public void shouldNotVisitChildInstancesOfMissingInstance() {
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        100L,
+        childInstance -> {
+          visitedKeys.add(childInstance.getKey());
+          return true;
+        });
+
+    // then
+    assertThat(visitedKeys).isEmpty();
+  }
+
   @Test
   public void shouldUpdateElementInstance() {
     // given
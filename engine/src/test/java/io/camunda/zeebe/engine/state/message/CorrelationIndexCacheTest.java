@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.metrics.CorrelationIndexCacheMetrics;
+import org.agrona.collections.LongArrayList;
+import org.junit.Test;
+
+public final class CorrelationIndexCacheTest {
+
+  private final CorrelationIndexCache cache =
+      new CorrelationIndexCache(2, 3, new CorrelationIndexCacheMetrics(1, "test"));
+
+  @Test
+  public void shouldNotReturnUncachedEntry() {
+    // given
+    cache.add(wrapString("name"), wrapString("key"), 1L);
+
+    // when
+    final LongArrayList keys = cache.get(wrapString("name"), wrapString("key"));
+
+    // then
+    assertThat(keys).isNull();
+  }
+
+  @Test
+  public void shouldKeepKeysInOrder() {
+    // given
+    cache.put(wrapString("name"), wrapString("key"), new LongArrayList());
+
+    // when
+    cache.add(wrapString("name"), wrapString("key"), 3L);
+    cache.add(wrapString("name"), wrapString("key"), 1L);
+    cache.add(wrapString("name"), wrapString("key"), 2L);
+    cache.add(wrapString("name"), wrapString("key"), 2L);
+
+    // then
+    assertThat(cache.get(wrapString("name"), wrapString("key")).toLongArray())
+        .containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldRemoveKey() {
+    // given
+    cache.put(wrapString("name"), wrapString("key"), new LongArrayList());
+    cache.add(wrapString("name"), wrapString("key"), 1L);
+    cache.add(wrapString("name"), wrapString("key"), 2L);
+
+    // when
+    cache.remove(wrapString("name"), wrapString("key"), 1L);
+
+    // then
+    assertThat(cache.get(wrapString("name"), wrapString("key")).toLongArray()).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldDistinguishNameAndCorrelationKey() {
+    // given
+    cache.put(wrapString("a"), wrapString("bc"), new LongArrayList());
+
+    // when
+    final LongArrayList keys = cache.get(wrapString("ab"), wrapString("c"));
+
+    // then
+    assertThat(keys).isNull();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedEntry() {
+    // given
+    cache.put(wrapString("name"), wrapString("a"), new LongArrayList());
+    cache.put(wrapString("name"), wrapString("b"), new LongArrayList());
+    cache.get(wrapString("name"), wrapString("a"));
+
+    // when
+    cache.put(wrapString("name"), wrapString("c"), new LongArrayList());
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(wrapString("name"), wrapString("a"))).isNotNull();
+    assertThat(cache.get(wrapString("name"), wrapString("b"))).isNull();
+  }
+
+  @Test
+  public void shouldNotCacheEntryWithTooManyKeys() {
+    // given
+    final LongArrayList keys = new LongArrayList();
+    for (long key = 1; key <= 4; key++) {
+      keys.addLong(key);
+    }
+
+    // when
+    cache.put(wrapString("name"), wrapString("key"), keys);
+
+    // then
+    assertThat(cache.get(wrapString("name"), wrapString("key"))).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldEvictEntryWhenItExceedsMaxKeys() {
+    // given
+    cache.put(wrapString("name"), wrapString("key"), new LongArrayList());
+    cache.add(wrapString("name"), wrapString("key"), 1L);
+    cache.add(wrapString("name"), wrapString("key"), 2L);
+    cache.add(wrapString("name"), wrapString("key"), 3L);
+
+    // when
+    cache.add(wrapString("name"), wrapString("key"), 4L);
+
+    // then
+    assertThat(cache.get(wrapString("name"), wrapString("key"))).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldClearOnRollback() {
+    // given
+    cache.put(wrapString("name"), wrapString("key"), new LongArrayList());
+
+    // when
+    cache.onRollback();
+
+    // then
+    assertThat(cache.size()).isZero();
+  }
+}
@@ -128,6 +128,24 @@ public final class MessageStateTest {
     assertThat(keys).hasSize(2).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldVisitMessagesChangedAfterVisit() {
+    // given
+    messageState.put(2L, createMessage("name", "correlationKey"));
+    messageState.put(3L, createMessage("name", "correlationKey"));
+    messageState.visitMessages(wrapString("name"), wrapString("correlationKey"), m -> true);
+
+    // when
+    messageState.put(1L, createMessage("name", "correlationKey"));
+    messageState.remove(3L);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    messageState.visitMessages(
+        wrapString("name"), wrapString("correlationKey"), m -> keys.add(m.getMessageKey()));
+    assertThat(keys).containsExactly(1L, 2L);
+  }
+
   @Test
   public void shouldVisitMessagesUntilStop() {
     // given
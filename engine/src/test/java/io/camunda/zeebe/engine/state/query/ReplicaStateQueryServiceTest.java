@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.query;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.ReplicaQueryService;
+import io.camunda.zeebe.engine.state.ReplicaQueryService.ClosedServiceException;
+import io.camunda.zeebe.engine.state.ReplicaQueryService.StaleStateException;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
+import io.camunda.zeebe.engine.util.Records;
+import io.camunda.zeebe.engine.util.ZeebeStateExtension;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@ExtendWith(ZeebeStateExtension.class)
+final class ReplicaStateQueryServiceTest {
+
+  private static final long ANY_POSITION = ReplicaQueryService.ANY_POSITION;
+
+  private ReplicaStateQueryService sut;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private MutableZeebeState state;
+  private TransactionContext transactionContext;
+
+  @BeforeEach
+  void setup() {
+    sut = new ReplicaStateQueryService(Protocol.DEPLOYMENT_PARTITION, db);
+  }
+
+  @ParameterizedTest(name = "[{index}] should throw ClosedServiceException when closed")
+  @MethodSource("provideOperations")
+  void shouldFailWhenServiceIsClosed(final Consumer<ReplicaStateQueryService> operation) {
+    // given
+    sut.close();
+
+    // when - then
+    assertThatCode(() -> operation.accept(sut)).isInstanceOf(ClosedServiceException.class);
+  }
+
+  @ParameterizedTest(
+      name = "[{index}] should throw StaleStateException when position is not processed")
+  @MethodSource("provideOperations")
+  void shouldFailWhenPositionIsNotProcessed(final Consumer<ReplicaStateQueryService> operation) {
+    // given
+    state.getLastProcessedPositionState().markAsProcessed(9);
+
+    // when - then
+    assertThatCode(() -> operation.accept(sut))
+        .isInstanceOf(StaleStateException.class)
+        .hasMessageContaining("position 10")
+        .hasMessageContaining("is 9");
+  }
+
+  @Test
+  void shouldReadStateWhenPositionIsProcessed() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1L);
+    state.getJobState().create(key, Records.job(key, "process"));
+    state.getLastProcessedPositionState().markAsProcessed(10);
+
+    // when
+    final var result = sut.getJob(key, 10);
+
+    // then
+    assertThat(sut.getProcessedPosition()).isEqualTo(10);
+    assertThat(result).isPresent();
+  }
+
+  @Test
+  void shouldReturnElementInstance() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1L);
+    final var record = Records.processInstance(key, "process");
+    state
+        .getElementInstanceState()
+        .newInstance(key, record, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when
+    final var result = sut.getElementInstance(key, ANY_POSITION);
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().getBpmnProcessId()).isEqualTo("process");
+    assertThat(sut.getElementInstance(key + 1, ANY_POSITION)).isEmpty();
+  }
+
+  @Test
+  void shouldReturnVariablesOfScopeHierarchy() {
+    // given
+    final var parentKey = Protocol.encodePartitionId(1, 1L);
+    final var childKey = Protocol.encodePartitionId(1, 2L);
+    state
+        .getElementInstanceState()
+        .newInstance(
+            parentKey,
+            Records.processInstance(parentKey, "process"),
+            ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    state
+        .getElementInstanceState()
+        .newInstance(
+            childKey,
+            Records.processInstance(childKey, "process"),
+            ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    state.getVariableState().createScope(parentKey, -1);
+    state.getVariableState().createScope(childKey, parentKey);
+    state
+        .getVariableState()
+        .setVariableLocal(3L, parentKey, 1L, BufferUtil.wrapString("x"), asMsgPack("1"));
+    state
+        .getVariableState()
+        .setVariableLocal(4L, childKey, 1L, BufferUtil.wrapString("y"), asMsgPack("2"));
+
+    // when
+    final var result = sut.getVariables(childKey, ANY_POSITION);
+
+    // then
+    assertThat(result).isPresent();
+    MsgPackUtil.assertEquality(result.get(), "{'x': 1, 'y': 2}");
+    assertThat(sut.getVariables(childKey + 10, ANY_POSITION)).isEmpty();
+  }
+
+  @Test
+  void shouldReturnJob() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1L);
+    state.getJobState().create(key, Records.job(key, "process"));
+
+    // when
+    final var result = sut.getJob(key, ANY_POSITION);
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().getBpmnProcessId()).isEqualTo("process");
+    assertThat(sut.getJob(key + 1, ANY_POSITION)).isEmpty();
+  }
+
+  @Test
+  void shouldReturnIncident() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1L);
+    final var incident = new IncidentRecord().setBpmnProcessId(BufferUtil.wrapString("process"));
+    state.getIncidentState().createIncident(key, incident);
+
+    // when
+    final var result = sut.getIncident(key, ANY_POSITION);
+
+    // then
+    assertThat(result).isPresent();
+    assertThat(result.get().getBpmnProcessId()).isEqualTo("process");
+    assertThat(sut.getIncident(key + 1, ANY_POSITION)).isEmpty();
+  }
+
+  @Test
+  void shouldReturnCopyOfRecord() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1L);
+    state.getJobState().create(key, Records.job(key, "process"));
+    state.getJobState().create(key + 1, Records.job(key + 1, "other"));
+
+    // when
+    final var job = sut.getJob(key, ANY_POSITION);
+    sut.getJob(key + 1, ANY_POSITION);
+
+    // then
+    assertThat(job).isPresent();
+    assertThat(job.get().getBpmnProcessId()).isEqualTo("process");
+  }
+
+  private static Stream<Consumer<ReplicaStateQueryService>> provideOperations() {
+    return Stream.of(
+        svc -> svc.getElementInstance(1, 10),
+        svc -> svc.getVariables(1, 10),
+        svc -> svc.getJob(1, 10),
+        svc -> svc.getIncident(1, 10));
+  }
+}
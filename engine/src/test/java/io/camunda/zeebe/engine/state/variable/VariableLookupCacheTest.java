@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class VariableLookupCacheTest {
+
+  private final VariableLookupCache cache = new VariableLookupCache(2);
+
+  @Test
+  public void shouldReturnCopyOfValue() {
+    // given
+    final UnsafeBuffer value = new UnsafeBuffer(wrapString("foo"));
+    put(1, "x", value);
+
+    // when
+    value.putByte(0, (byte) 'b');
+
+    // then
+    assertThat(get(1, "x")).isEqualTo(wrapString("foo"));
+  }
+
+  @Test
+  public void shouldCacheMissingVariable() {
+    // when
+    put(1, "x", null);
+
+    // then
+    assertThat(get(1, "x")).isSameAs(VariableLookupCache.NO_VARIABLE);
+    assertThat(get(2, "x")).isNull();
+  }
+
+  @Test
+  public void shouldLookUpNameWithinBuffer() {
+    // given
+    put(1, "x", wrapString("foo"));
+
+    // when
+    final DirectBuffer names = wrapString("axb");
+
+    // then
+    assertThat(cache.get(1, names, 1, 1)).isEqualTo(wrapString("foo"));
+  }
+
+  @Test
+  public void shouldInvalidateVariableOfAllScopes() {
+    // given
+    put(1, "x", wrapString("foo"));
+    put(2, "x", wrapString("bar"));
+
+    // when
+    final DirectBuffer name = wrapString("x");
+    cache.invalidate(name, 0, name.capacity());
+
+    // then
+    assertThat(get(1, "x")).isNull();
+    assertThat(get(2, "x")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotAddEntriesWhenFull() {
+    // given
+    put(1, "x", wrapString("foo"));
+    put(1, "y", wrapString("bar"));
+
+    // when
+    put(1, "z", wrapString("baz"));
+
+    // then
+    assertThat(get(1, "z")).isNull();
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldClearOnCommit() {
+    // given
+    put(1, "x", wrapString("foo"));
+
+    // when
+    cache.onCommit();
+
+    // then
+    assertThat(cache.size()).isZero();
+    assertThat(get(1, "x")).isNull();
+  }
+
+  @Test
+  public void shouldClearOnRollback() {
+    // given
+    put(1, "x", wrapString("foo"));
+
+    // when
+    cache.onRollback();
+
+    // then
+    assertThat(cache.size()).isZero();
+    assertThat(get(1, "x")).isNull();
+  }
+
+  private void put(final long scopeKey, final String name, final DirectBuffer value) {
+    final DirectBuffer nameBuffer = wrapString(name);
+    cache.put(scopeKey, nameBuffer, 0, nameBuffer.capacity(), value);
+  }
+
+  private DirectBuffer get(final long scopeKey, final String name) {
+    final DirectBuffer nameBuffer = wrapString(name);
+    return cache.get(scopeKey, nameBuffer, 0, nameBuffer.capacity());
+  }
+}
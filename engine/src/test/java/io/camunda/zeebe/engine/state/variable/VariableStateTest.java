@@ -412,6 +412,38 @@ public final class VariableStateTest {
     assertThat(variable).isNull();
   }
 
+  @Test
+  public void shouldGetVariableAfterItWasSetInParentScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("x"), wrapString("foo"));
+    assertThat(variableState.getVariable(child, wrapString("x"))).isEqualTo(wrapString("foo"));
+    assertThat(variableState.getVariable(child, wrapString("y"))).isNull();
+
+    // when
+    setVariableLocal(parent, wrapString("x"), wrapString("bar"));
+    setVariableLocal(parent, wrapString("y"), wrapString("baz"));
+
+    // then
+    assertThat(variableState.getVariable(child, wrapString("x"))).isEqualTo(wrapString("bar"));
+    assertThat(variableState.getVariable(child, wrapString("y"))).isEqualTo(wrapString("baz"));
+  }
+
+  @Test
+  public void shouldGetVariableAfterScopeHierarchyChanged() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("x"), wrapString("foo"));
+    assertThat(variableState.getVariable(child, wrapString("x"))).isNull();
+
+    // when
+    declareScope(parent, child);
+
+    // then
+    assertThat(variableState.getVariable(child, wrapString("x"))).isEqualTo(wrapString("foo"));
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
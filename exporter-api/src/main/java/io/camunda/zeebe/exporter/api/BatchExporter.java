@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Exporter which receives the records in batches, instead of one by one. Exporters which write to
+ * sinks that accept batches, e.g. bulk requests, can implement it to skip the dispatch of every
+ * single record; the broker then calls {@link #exportBatch(RecordBatch)} instead of {@link
+ * #export(Record)}.
+ */
+public interface BatchExporter extends Exporter {
+
+  /**
+   * Called at least once for every batch of records to be exported. Once the batch is guaranteed to
+   * have been exported, implementations should call {@link
+   * Controller#updateLastExportedRecordPosition(long)} with the {@link RecordBatch#getPosition()
+   * position of the batch} to signal that its records should not be received here ever again.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called with the
+   * same batch indefinitely until it terminates without any exception. It is up to the
+   * implementation to handle errors properly, to implement retry strategies, etc.
+   *
+   * @param batch the records to export
+   */
+  void exportBatch(RecordBatch batch);
+
+  /**
+   * Not called by the broker for batch exporters, their records are passed to {@link
+   * #exportBatch(RecordBatch)}. If it's called nevertheless, the record is exported as a batch
+   * which contains only this record.
+   *
+   * @param record the record to export
+   */
+  @Override
+  default void export(final Record<?> record) {
+    exportBatch(
+        new RecordBatch() {
+          @Override
+          public long getPosition() {
+            return record.getPosition();
+          }
+
+          @Override
+          public Iterator<Record<?>> iterator() {
+            return List.<Record<?>>of(record).iterator();
+          }
+        });
+  }
+}
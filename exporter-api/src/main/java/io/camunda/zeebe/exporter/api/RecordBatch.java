@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+
+/**
+ * A contiguous block of records of the log, which is passed to a {@link BatchExporter} at once.
+ *
+ * <p>The batch is a view on the log: iterating over it reads the records from the log, and every
+ * record it returns wraps the same underlying buffers, which are only valid until the iteration
+ * continues. If the implementation needs to collect records, it either has to call {@link
+ * Record#toJson()} to get the serialized version of the record or {@link Record#clone()} to get a
+ * deep copy. The batch only contains the records which are accepted by the exporter's record
+ * filter, and may be iterated multiple times while the batch is exported.
+ */
+public interface RecordBatch extends Iterable<Record<?>> {
+
+  /**
+   * Returns the position of the last record of the block. Once all records of the batch are
+   * guaranteed to have been exported, implementations should pass it to {@link
+   * Controller#updateLastExportedRecordPosition(long)}. Since records which are not accepted by the
+   * exporter are not part of the batch, it may be greater than the position of the batch's last
+   * record.
+   *
+   * @return the position up to which the batch is exported
+   */
+  long getPosition();
+}
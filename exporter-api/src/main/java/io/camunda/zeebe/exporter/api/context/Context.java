@@ -17,6 +17,8 @@ package io.camunda.zeebe.exporter.api.context;
 
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import org.slf4j.Logger;
 
 /** Encapsulates context associated with the exporter on open. */
@@ -35,7 +37,14 @@ public interface Context {
    */
   void setFilter(RecordFilter filter);
 
-  /** A filter to limit the records which are exported. */
+  /**
+   * A filter to limit the records which are exported.
+   *
+   * <p>The filter is evaluated before a record is deserialized, so records which are not accepted
+   * are skipped at almost no cost. The methods are only called for records which were accepted by
+   * the methods above them, and their results may be cached, i.e. they must only depend on their
+   * arguments.
+   */
   interface RecordFilter {
 
     /**
@@ -53,5 +62,37 @@ public interface Context {
      * @return {@code true} if records with this type of value should be exported.
      */
     boolean acceptValue(ValueType valueType);
+
+    /**
+     * Should export records with the given intent?
+     *
+     * @param intent the intent of the record
+     * @return {@code true} if records with this intent should be exported.
+     */
+    default boolean acceptIntent(final Intent intent) {
+      return true;
+    }
+
+    /**
+     * Should export records of BPMN elements of the given type? Only applies to records which have
+     * a BPMN element type, e.g. process instance records.
+     *
+     * @param bpmnElementType the BPMN element type of the record value
+     * @return {@code true} if records with this BPMN element type should be exported.
+     */
+    default boolean acceptBpmnElementType(final BpmnElementType bpmnElementType) {
+      return true;
+    }
+
+    /**
+     * Should export records of the process with the given BPMN process id? Only applies to records
+     * which have a BPMN process id, e.g. process instance or job records.
+     *
+     * @param bpmnProcessId the BPMN process id of the record value
+     * @return {@code true} if records with this BPMN process id should be exported.
+     */
+    default boolean acceptBpmnProcessId(final String bpmnProcessId) {
+      return true;
+    }
   }
 }
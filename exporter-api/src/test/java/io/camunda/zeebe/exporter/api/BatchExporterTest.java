@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.record.Record;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class BatchExporterTest {
+
+  @Test
+  public void shouldExportSingleRecordAsBatch() {
+    // given
+    final List<Record<?>> exportedRecords = new ArrayList<>();
+    final List<Long> exportedPositions = new ArrayList<>();
+    final BatchExporter exporter =
+        batch -> {
+          batch.forEach(exportedRecords::add);
+          exportedPositions.add(batch.getPosition());
+        };
+    final Record<?> record = recordWithPosition(5L);
+
+    // when
+    exporter.export(record);
+
+    // then
+    assertThat(exportedRecords).containsExactly(record);
+    assertThat(exportedPositions).containsExactly(5L);
+  }
+
+  private static Record<?> recordWithPosition(final long position) {
+    return (Record<?>)
+        Proxy.newProxyInstance(
+            Record.class.getClassLoader(),
+            new Class<?>[] {Record.class},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "getPosition":
+                  return position;
+                case "equals":
+                  return proxy == args[0];
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                default:
+                  throw new UnsupportedOperationException(method.getName());
+              }
+            });
+  }
+}
@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
@@ -40,6 +41,7 @@ import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.xcontent.DeprecationHandler;
@@ -129,16 +131,85 @@ public class ElasticsearchClient {
     }
   }
 
+  /**
+   * Sends the current bulk without waiting for the response, and starts a new bulk. Unlike {@link
+   * #flush()}, the bulk is not retried with the next flush if it fails, but must be resent with
+   * {@link InFlightBulk#resend()}.
+   *
+   * @param position the position of the last record in the bulk
+   * @return the sent bulk, or null if the bulk is empty
+   */
+  public InFlightBulk flushAsync(final long position) {
+    if (bulkRequest.isEmpty()) {
+      return null;
+    }
+
+    metrics.recordBulkSize(bulkRequest.size());
+    metrics.recordBulkMemorySize(getBulkMemorySize());
+
+    final var bulk = new InFlightBulk(this, createBulkBody(), position);
+    bulkRequest = new ArrayList<>();
+    return bulk;
+  }
+
+  /**
+   * Sends the given bulk request body asynchronously.
+   *
+   * @return a future which is completed once all items of the bulk were flushed, or completed
+   *     exceptionally with an {@link ElasticsearchExporterException} if not
+   */
+  CompletableFuture<Void> sendBulkAsync(final String body) {
+    final var request = new Request("POST", "/_bulk");
+    request.setJsonEntity(body);
+
+    final var result = new CompletableFuture<Void>();
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              handleBulkResponse(response);
+              result.complete(null);
+            } catch (final ElasticsearchExporterException e) {
+              metrics.recordFailedFlush();
+              result.completeExceptionally(e);
+            } finally {
+              timer.close();
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            timer.close();
+            metrics.recordFailedFlush();
+            result.completeExceptionally(toFlushException(exception));
+          }
+        });
+    return result;
+  }
+
   private void exportBulk() {
     final Response httpResponse;
     try {
       httpResponse = sendBulkRequest();
-    } catch (final ResponseException e) {
-      throw new ElasticsearchExporterException("Elastic returned an error response on flush", e);
     } catch (final IOException e) {
-      throw new ElasticsearchExporterException("Failed to flush bulk", e);
+      throw toFlushException(e);
     }
 
+    handleBulkResponse(httpResponse);
+  }
+
+  private static ElasticsearchExporterException toFlushException(final Exception exception) {
+    if (exception instanceof ResponseException) {
+      return new ElasticsearchExporterException(
+          "Elastic returned an error response on flush", exception);
+    }
+    return new ElasticsearchExporterException("Failed to flush bulk", exception);
+  }
+
+  private void handleBulkResponse(final Response httpResponse) {
     final BulkResponse bulkResponse;
     try {
       bulkResponse = MAPPER.readValue(httpResponse.getEntity().getContent(), BulkResponse.class);
@@ -169,11 +240,20 @@ public class ElasticsearchClient {
 
   private Response sendBulkRequest() throws IOException {
     final var request = new Request("POST", "/_bulk");
-    request.setJsonEntity(String.join("\n", bulkRequest) + "\n");
+    request.setJsonEntity(createBulkBody());
 
     return client.performRequest(request);
   }
 
+  private String createBulkBody() {
+    return String.join("\n", bulkRequest) + "\n";
+  }
+
+  /** @return true if the bulk reached its memory limit, and no more records should be added */
+  public boolean isBulkMemoryLimitReached() {
+    return getBulkMemorySize() >= configuration.bulk.memoryLimit;
+  }
+
   public boolean shouldFlush() {
     return bulkRequest.size() >= configuration.bulk.size
         || getBulkMemorySize() >= configuration.bulk.memoryLimit;
@@ -12,10 +12,13 @@ import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +28,8 @@ public class ElasticsearchExporter implements Exporter {
 
   // by default, the bulk request may not be bigger than 100MB
   private static final int RECOMMENDED_MAX_BULK_MEMORY_LIMIT = 100 * 1024 * 1024;
+  // how often the responses of the in-flight bulks are checked
+  private static final Duration ACKNOWLEDGE_INTERVAL = Duration.ofMillis(100);
 
   private Logger log = LoggerFactory.getLogger(getClass().getPackageName());
   private Controller controller;
@@ -35,6 +40,9 @@ public class ElasticsearchExporter implements Exporter {
 
   private long lastPosition = -1;
   private boolean indexTemplatesCreated;
+  // the bulks which were sent, in the order of their records
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  private ScheduledTask acknowledgeTask;
 
   @Override
   public void configure(final Context context) {
@@ -59,9 +67,14 @@ public class ElasticsearchExporter implements Exporter {
 
   @Override
   public void close() {
+    if (acknowledgeTask != null) {
+      acknowledgeTask.cancel();
+    }
 
     try {
-      flush();
+      awaitInFlightBulks();
+      client.flush();
+      controller.updateLastExportedRecordPosition(lastPosition);
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -81,6 +94,15 @@ public class ElasticsearchExporter implements Exporter {
       createIndexTemplates();
     }
 
+    acknowledgeFlushedBulks();
+    if (isInFlightLimitReached() && client.isBulkMemoryLimitReached()) {
+      // the record is exported again by the exporter director, after a backoff
+      throw new ElasticsearchExporterException(
+          String.format(
+              "Expected to add record with position %d to the bulk, but the bulk reached its memory limit while %d bulks are in flight",
+              record.getPosition(), inFlightBulks.size()));
+    }
+
     client.index(record);
     lastPosition = record.getPosition();
 
@@ -103,6 +125,13 @@ public class ElasticsearchExporter implements Exporter {
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
 
+    if (configuration.bulk.concurrentRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk concurrentRequests must be >= 1. Current value: %d",
+              configuration.bulk.concurrentRequests));
+    }
+
     final Integer numberOfShards = configuration.index.getNumberOfShards();
     if (numberOfShards != null && numberOfShards < 1) {
       throw new ExporterException(
@@ -136,9 +165,100 @@ public class ElasticsearchExporter implements Exporter {
         Duration.ofSeconds(configuration.bulk.delay), this::flushAndReschedule);
   }
 
+  /**
+   * Sends the current bulk without waiting for its response. The position is only updated once the
+   * bulk and all bulks which were sent before it are flushed. If the maximum number of bulks is
+   * already in flight, the bulk is not sent, and records are added to it until it's sent with a
+   * later flush.
+   */
   private void flush() {
-    client.flush();
-    controller.updateLastExportedRecordPosition(lastPosition);
+    acknowledgeFlushedBulks();
+    if (isInFlightLimitReached()) {
+      return;
+    }
+
+    final InFlightBulk bulk = client.flushAsync(lastPosition);
+    if (bulk != null) {
+      inFlightBulks.addLast(bulk);
+      acknowledgeFlushedBulks();
+      scheduleAcknowledgement();
+    } else if (inFlightBulks.isEmpty()) {
+      // all exported records are flushed
+      controller.updateLastExportedRecordPosition(lastPosition);
+    }
+  }
+
+  /**
+   * Updates the position to the last record of the flushed bulks, in the order in which they were
+   * sent. The oldest bulk is sent again if it failed, and the bulks after it are only acknowledged
+   * once it's flushed.
+   */
+  private void acknowledgeFlushedBulks() {
+    long flushedPosition = -1;
+    while (!inFlightBulks.isEmpty() && inFlightBulks.peekFirst().isDone()) {
+      final InFlightBulk bulk = inFlightBulks.peekFirst();
+      if (!bulk.isFlushed()) {
+        log.warn("Failed to flush bulk up to position {}, will retry", bulk.getPosition());
+        bulk.resend();
+        break;
+      }
+
+      inFlightBulks.removeFirst();
+      flushedPosition = bulk.getPosition();
+    }
+
+    if (flushedPosition >= 0) {
+      controller.updateLastExportedRecordPosition(flushedPosition);
+    }
+  }
+
+  private boolean isInFlightLimitReached() {
+    return inFlightBulks.size() >= configuration.bulk.concurrentRequests;
+  }
+
+  /**
+   * Checks the responses of the in-flight bulks on the exporter's actor, which must never wait for
+   * them, and sends the current bulk if it was not sent because too many bulks were in flight.
+   */
+  private void acknowledgeAndReschedule() {
+    acknowledgeTask = null;
+    try {
+      if (client.shouldFlush()) {
+        flush();
+      } else {
+        acknowledgeFlushedBulks();
+      }
+    } catch (final Exception e) {
+      log.warn(
+          "Unexpected exception occurred on acknowledging flushed bulks, will retry later.", e);
+    }
+    scheduleAcknowledgement();
+  }
+
+  private void scheduleAcknowledgement() {
+    if (acknowledgeTask == null && !inFlightBulks.isEmpty()) {
+      acknowledgeTask =
+          controller.scheduleCancellableTask(ACKNOWLEDGE_INTERVAL, this::acknowledgeAndReschedule);
+    }
+  }
+
+  /** Waits for all in-flight bulks, which must only be done on close. */
+  private void awaitInFlightBulks() {
+    while (!inFlightBulks.isEmpty()) {
+      awaitBulk(inFlightBulks.peekFirst());
+      acknowledgeFlushedBulks();
+    }
+  }
+
+  private void awaitBulk(final InFlightBulk bulk) {
+    try {
+      bulk.await(Duration.ofMillis(configuration.requestTimeoutMs));
+    } catch (final ElasticsearchExporterException e) {
+      if (bulk.isDone()) {
+        bulk.resend();
+      }
+      throw e;
+    }
   }
 
   private void createIndexTemplates() {
@@ -203,6 +203,8 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // maximum number of bulks which are sent but not flushed yet
+    public int concurrentRequests = 1;
 
     @Override
     public String toString() {
@@ -213,6 +215,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", concurrentRequests="
+          + concurrentRequests
           + '}';
     }
   }
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A bulk which was sent to Elasticsearch, but whose response may not be received yet. The bulk is
+ * kept until it's acknowledged, such that it can be sent again if it failed.
+ */
+public final class InFlightBulk {
+
+  private final ElasticsearchClient client;
+  private final String body;
+  private final long position;
+  private CompletableFuture<Void> response;
+
+  InFlightBulk(final ElasticsearchClient client, final String body, final long position) {
+    this.client = client;
+    this.body = body;
+    this.position = position;
+    response = client.sendBulkAsync(body);
+  }
+
+  /** @return the position of the last record in the bulk */
+  public long getPosition() {
+    return position;
+  }
+
+  /** @return true if the response of the bulk was received, or the request failed */
+  public boolean isDone() {
+    return response.isDone();
+  }
+
+  /** @return true if all items of the bulk were flushed */
+  public boolean isFlushed() {
+    return response.isDone() && !response.isCompletedExceptionally();
+  }
+
+  /** Sends the bulk again, e.g. after it failed. */
+  public void resend() {
+    response = client.sendBulkAsync(body);
+  }
+
+  /**
+   * Waits until the response of the bulk is received.
+   *
+   * @param timeout the maximum time to wait
+   * @throws ElasticsearchExporterException if not all items of the bulk were flushed, or if the
+   *     response was not received in time
+   */
+  public void await(final Duration timeout) {
+    try {
+      response.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final ExecutionException | CompletionException e) {
+      if (e.getCause() instanceof ElasticsearchExporterException) {
+        throw (ElasticsearchExporterException) e.getCause();
+      }
+      throw new ElasticsearchExporterException("Failed to flush bulk", e.getCause());
+    } catch (final TimeoutException e) {
+      throw new ElasticsearchExporterException(
+          String.format("Expected to flush bulk within %s, but it timed out", timeout), e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ElasticsearchExporterException("Interrupted while flushing bulk", e);
+    }
+  }
+}
@@ -10,9 +10,13 @@ package io.camunda.zeebe.exporter;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +24,7 @@ import io.camunda.zeebe.exporter.api.context.Configuration;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,11 +38,12 @@ final class ElasticsearchExporterFlushTest {
   @Mock private Controller controller;
   @Mock private ElasticsearchClient client;
   @Mock private Context context;
+  private final ElasticsearchExporterConfiguration esConfig =
+      new ElasticsearchExporterConfiguration();
   private ElasticsearchExporter exporter;
 
   @BeforeEach
   void setup() {
-    final var esConfig = new ElasticsearchExporterConfiguration();
     final var exporterConfig = mock(Configuration.class);
     when(exporterConfig.instantiate(eq(ElasticsearchExporterConfiguration.class)))
         .thenReturn(esConfig);
@@ -99,9 +105,145 @@ final class ElasticsearchExporterFlushTest {
 
     // when
     when(client.shouldFlush()).thenReturn(true);
-    doThrow(exception).when(client).flush();
+    doThrow(exception).when(client).flushAsync(anyLong());
 
     // then
     assertThatThrownBy(() -> exporter.export(mock(Record.class))).isEqualTo(exception);
   }
+
+  @Test
+  void shouldUpdateLastPositionWhenBulkIsFlushed() {
+    // given
+    final var response = new CompletableFuture<Void>();
+    final var bulk = sendBulk(response, 10);
+    when(client.shouldFlush()).thenReturn(true, false);
+    when(client.flushAsync(10)).thenReturn(bulk);
+    exporter.export(recordWithPosition(10));
+    verify(controller, never()).updateLastExportedRecordPosition(anyLong());
+
+    // when
+    response.complete(null);
+    exporter.export(recordWithPosition(11));
+
+    // then
+    verify(controller).updateLastExportedRecordPosition(10);
+  }
+
+  @Test
+  void shouldUpdateLastPositionInOrderOfBulks() {
+    // given
+    esConfig.bulk.concurrentRequests = 2;
+    final var firstResponse = new CompletableFuture<Void>();
+    final var secondResponse = new CompletableFuture<Void>();
+    final var firstBulk = sendBulk(firstResponse, 10);
+    final var secondBulk = sendBulk(secondResponse, 20);
+    when(client.shouldFlush()).thenReturn(true, true, false);
+    when(client.flushAsync(10)).thenReturn(firstBulk);
+    when(client.flushAsync(20)).thenReturn(secondBulk);
+    exporter.export(recordWithPosition(10));
+    exporter.export(recordWithPosition(20));
+
+    // when
+    secondResponse.complete(null);
+    exporter.export(recordWithPosition(21));
+    verify(controller, never()).updateLastExportedRecordPosition(anyLong());
+    firstResponse.complete(null);
+    exporter.export(recordWithPosition(22));
+
+    // then
+    verify(controller).updateLastExportedRecordPosition(20);
+    verify(controller, never()).updateLastExportedRecordPosition(10);
+  }
+
+  @Test
+  void shouldResendFailedBulk() {
+    // given
+    final var failedResponse = new CompletableFuture<Void>();
+    final var bulk = sendBulk(failedResponse, 10);
+    when(client.shouldFlush()).thenReturn(true, false);
+    when(client.flushAsync(10)).thenReturn(bulk);
+    exporter.export(recordWithPosition(10));
+
+    // when
+    final var retriedResponse = new CompletableFuture<Void>();
+    when(client.sendBulkAsync(any())).thenReturn(retriedResponse);
+    failedResponse.completeExceptionally(new ElasticsearchExporterException("failed"));
+    exporter.export(recordWithPosition(11));
+    verify(controller, never()).updateLastExportedRecordPosition(anyLong());
+    retriedResponse.complete(null);
+    exporter.export(recordWithPosition(12));
+
+    // then
+    verify(client, times(2)).sendBulkAsync(any());
+    verify(controller).updateLastExportedRecordPosition(10);
+  }
+
+  @Test
+  void shouldNotWaitForBulkIfTooManyAreInFlight() {
+    // given
+    final var response = new CompletableFuture<Void>();
+    final var bulk = sendBulk(response, 10);
+    when(client.shouldFlush()).thenReturn(true);
+    when(client.flushAsync(10)).thenReturn(bulk);
+    exporter.export(recordWithPosition(10));
+
+    // when
+    exporter.export(recordWithPosition(11));
+
+    // then
+    verify(client, never()).flushAsync(11);
+    verify(client).index(argThat(record -> record.getPosition() == 11));
+  }
+
+  @Test
+  void shouldRetryExportIfBulkIsFullAndTooManyAreInFlight() {
+    // given
+    final var response = new CompletableFuture<Void>();
+    final var bulk = sendBulk(response, 10);
+    when(client.shouldFlush()).thenReturn(true);
+    when(client.flushAsync(10)).thenReturn(bulk);
+    exporter.export(recordWithPosition(10));
+
+    // when
+    when(client.isBulkMemoryLimitReached()).thenReturn(true);
+    final var record = recordWithPosition(11);
+
+    // then
+    assertThatThrownBy(() -> exporter.export(record))
+        .isInstanceOf(ElasticsearchExporterException.class);
+    verify(client, never()).index(record);
+  }
+
+  @Test
+  void shouldSendBulkWhenInFlightBulkIsAcknowledged() {
+    // given
+    final var response = new CompletableFuture<Void>();
+    final var bulk = sendBulk(response, 10);
+    when(client.shouldFlush()).thenReturn(true);
+    when(client.flushAsync(10)).thenReturn(bulk);
+    exporter.export(recordWithPosition(10));
+    exporter.export(recordWithPosition(11));
+
+    final var acknowledgeTask = ArgumentCaptor.forClass(Runnable.class);
+    verify(controller, times(2)).scheduleCancellableTask(any(), acknowledgeTask.capture());
+
+    // when
+    response.complete(null);
+    acknowledgeTask.getValue().run();
+
+    // then
+    verify(controller).updateLastExportedRecordPosition(10);
+    verify(client).flushAsync(11);
+  }
+
+  private InFlightBulk sendBulk(final CompletableFuture<Void> response, final long position) {
+    when(client.sendBulkAsync(any())).thenReturn(response);
+    return new InFlightBulk(client, "bulk", position);
+  }
+
+  private Record<?> recordWithPosition(final long position) {
+    final var record = mock(Record.class);
+    when(record.getPosition()).thenReturn(position);
+    return record;
+  }
 }
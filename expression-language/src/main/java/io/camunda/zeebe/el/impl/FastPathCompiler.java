@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.impl.FastPathEvaluator.Comparison;
+import io.camunda.zeebe.el.impl.FastPathEvaluator.Node;
+import io.camunda.zeebe.el.impl.FastPathEvaluator.Value;
+import java.util.ArrayList;
+import java.util.List;
+import org.camunda.feel.syntaxtree.ArithmeticNegation;
+import org.camunda.feel.syntaxtree.Conjunction;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNull$;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Disjunction;
+import org.camunda.feel.syntaxtree.Equal;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.GreaterOrEqual;
+import org.camunda.feel.syntaxtree.GreaterThan;
+import org.camunda.feel.syntaxtree.LessOrEqual;
+import org.camunda.feel.syntaxtree.LessThan;
+import org.camunda.feel.syntaxtree.Not;
+import org.camunda.feel.syntaxtree.PathExpression;
+import org.camunda.feel.syntaxtree.Ref;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Compiles the parsed FEEL expression into a {@link FastPathEvaluator}, if the expression has a
+ * common shape which can be evaluated without the FEEL engine. The supported shapes are:
+ *
+ * <ul>
+ *   <li>variables and paths of nested properties, e.g. {@code order.customer.name}
+ *   <li>null, boolean, number and string literals
+ *   <li>comparisons of them, e.g. {@code order.total > 100} or {@code status != "done"}
+ *   <li>conjunctions and disjunctions of comparisons, e.g. {@code x > 1 and x < 10}
+ * </ul>
+ */
+final class FastPathCompiler {
+
+  private FastPathCompiler() {}
+
+  /**
+   * @param expression the parsed FEEL expression
+   * @return the evaluator of the expression, or {@code null} if the expression has an unsupported
+   *     shape
+   */
+  static FastPathEvaluator compile(final Exp expression) {
+    final Node root = compileNode(expression);
+    return root != null ? new FastPathEvaluator(root) : null;
+  }
+
+  private static Node compileNode(final Exp expression) {
+    if (expression instanceof Ref || expression instanceof PathExpression) {
+      return compilePath(expression);
+
+    } else if (expression instanceof Equal) {
+      final var equal = (Equal) expression;
+      return compileComparison(Comparison.EQUAL, equal.x(), equal.y());
+    } else if (expression instanceof LessThan) {
+      final var lessThan = (LessThan) expression;
+      return compileComparison(Comparison.LESS_THAN, lessThan.x(), lessThan.y());
+    } else if (expression instanceof LessOrEqual) {
+      final var lessOrEqual = (LessOrEqual) expression;
+      return compileComparison(Comparison.LESS_OR_EQUAL, lessOrEqual.x(), lessOrEqual.y());
+    } else if (expression instanceof GreaterThan) {
+      final var greaterThan = (GreaterThan) expression;
+      return compileComparison(Comparison.GREATER_THAN, greaterThan.x(), greaterThan.y());
+    } else if (expression instanceof GreaterOrEqual) {
+      final var greaterOrEqual = (GreaterOrEqual) expression;
+      return compileComparison(Comparison.GREATER_OR_EQUAL, greaterOrEqual.x(), greaterOrEqual.y());
+
+    } else if (expression instanceof Not) {
+      final Node operand = compileNode(((Not) expression).x());
+      return operand != null ? FastPathEvaluator.not(operand) : null;
+    } else if (expression instanceof Conjunction) {
+      final var conjunction = (Conjunction) expression;
+      final Node left = compileNode(conjunction.x());
+      final Node right = compileNode(conjunction.y());
+      return left != null && right != null ? FastPathEvaluator.conjunction(left, right) : null;
+    } else if (expression instanceof Disjunction) {
+      final var disjunction = (Disjunction) expression;
+      final Node left = compileNode(disjunction.x());
+      final Node right = compileNode(disjunction.y());
+      return left != null && right != null ? FastPathEvaluator.disjunction(left, right) : null;
+    }
+
+    return compileLiteral(expression);
+  }
+
+  private static Node compileComparison(final Comparison comparison, final Exp x, final Exp y) {
+    final Node left = compileOperand(x);
+    final Node right = compileOperand(y);
+    return left != null && right != null
+        ? FastPathEvaluator.comparison(comparison, left, right)
+        : null;
+  }
+
+  private static Node compileOperand(final Exp expression) {
+    if (expression instanceof Ref || expression instanceof PathExpression) {
+      return compilePath(expression);
+    }
+    return compileLiteral(expression);
+  }
+
+  private static Node compilePath(final Exp expression) {
+    final List<String> names = new ArrayList<>();
+    if (!collectPath(expression, names) || names.isEmpty()) {
+      return null;
+    }
+
+    final String variableName = names.get(0);
+    final String[] propertyNames = names.subList(1, names.size()).toArray(String[]::new);
+    return FastPathEvaluator.path(variableName, propertyNames);
+  }
+
+  private static boolean collectPath(final Exp expression, final List<String> names) {
+    if (expression instanceof Ref) {
+      names.addAll(CollectionConverters.asJava(((Ref) expression).names()));
+      return true;
+    } else if (expression instanceof PathExpression) {
+      final var path = (PathExpression) expression;
+      if (!collectPath(path.path(), names)) {
+        return false;
+      }
+      names.add(path.key());
+      return true;
+    }
+    return false;
+  }
+
+  private static Node compileLiteral(final Exp expression) {
+    if (expression == ConstNull$.MODULE$) {
+      return FastPathEvaluator.constant(Value.NULL);
+    } else if (expression instanceof ConstBool) {
+      return FastPathEvaluator.constant(Value.ofBoolean(((ConstBool) expression).value()));
+    } else if (expression instanceof ConstString) {
+      return FastPathEvaluator.constant(Value.ofString(((ConstString) expression).value()));
+    } else if (expression instanceof ConstNumber) {
+      final var number = ((ConstNumber) expression).value().bigDecimal();
+      return FastPathEvaluator.constant(Value.ofNumber(number));
+    } else if (expression instanceof ArithmeticNegation
+        && ((ArithmeticNegation) expression).x() instanceof ConstNumber) {
+      final var number = ((ConstNumber) ((ArithmeticNegation) expression).x()).value().bigDecimal();
+      return FastPathEvaluator.constant(Value.ofNumber(number.negate()));
+    }
+    return null;
+  }
+}
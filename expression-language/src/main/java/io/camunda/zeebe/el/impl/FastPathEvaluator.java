@@ -0,0 +1,284 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.agrona.DirectBuffer;
+
+/**
+ * Evaluates a simple expression directly on the MessagePack encoded variables, without converting
+ * them into FEEL values. The expression is compiled by the {@link FastPathCompiler} into a tree of
+ * {@link Node}s, e.g. variable paths, literals, comparisons and boolean combinations of them.
+ *
+ * <p>The evaluator only handles the cases in which the result is known to be the same as the result
+ * of the FEEL engine, i.e. if all operands are present and have the expected types. In any other
+ * case, e.g. a missing variable, a comparison with null or a non-scalar result, it gives up and the
+ * expression must be evaluated by the FEEL engine.
+ *
+ * <p>The evaluator is stateless and can be shared between threads.
+ */
+final class FastPathEvaluator {
+
+  private final Node root;
+
+  FastPathEvaluator(final Node root) {
+    this.root = root;
+  }
+
+  /**
+   * @return the result of the expression, or {@code null} if it can't be evaluated by this
+   *     evaluator and must be evaluated by the FEEL engine instead
+   */
+  EvaluationResult evaluate(final Expression expression, final EvaluationContext context) {
+    final Value value = root.evaluate(new Evaluation(context));
+    return value != null ? value.toResult(expression) : null;
+  }
+
+  static Node constant(final Value value) {
+    return evaluation -> value;
+  }
+
+  static Node path(final String variableName, final String... propertyNames) {
+    final byte[][] properties =
+        Arrays.stream(propertyNames)
+            .map(name -> name.getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+    return evaluation -> evaluation.readPath(variableName, properties);
+  }
+
+  static Node comparison(final Comparison comparison, final Node left, final Node right) {
+    return evaluation -> {
+      final Value x = left.evaluate(evaluation);
+      final Value y = right.evaluate(evaluation);
+      if (x == null || y == null || x.type != y.type) {
+        return null;
+      }
+
+      switch (x.type) {
+        case NUMBER:
+          return Value.ofBoolean(
+              comparison.test(((BigDecimal) x.value).compareTo((BigDecimal) y.value)));
+        case STRING:
+          return Value.ofBoolean(comparison.test(((String) x.value).compareTo((String) y.value)));
+        case BOOLEAN:
+          return comparison == Comparison.EQUAL ? Value.ofBoolean(x.isTrue() == y.isTrue()) : null;
+        default:
+          return null;
+      }
+    };
+  }
+
+  static Node not(final Node operand) {
+    return evaluation -> {
+      final Value x = operand.evaluate(evaluation);
+      return x != null && x.type == ResultType.BOOLEAN ? Value.ofBoolean(!x.isTrue()) : null;
+    };
+  }
+
+  static Node conjunction(final Node left, final Node right) {
+    return evaluation -> {
+      final Value x = left.evaluate(evaluation);
+      final Value y = right.evaluate(evaluation);
+      return isBoolean(x) && isBoolean(y) ? Value.ofBoolean(x.isTrue() && y.isTrue()) : null;
+    };
+  }
+
+  static Node disjunction(final Node left, final Node right) {
+    return evaluation -> {
+      final Value x = left.evaluate(evaluation);
+      final Value y = right.evaluate(evaluation);
+      return isBoolean(x) && isBoolean(y) ? Value.ofBoolean(x.isTrue() || y.isTrue()) : null;
+    };
+  }
+
+  private static boolean isBoolean(final Value value) {
+    return value != null && value.type == ResultType.BOOLEAN;
+  }
+
+  /** A node of a compiled expression. */
+  @FunctionalInterface
+  interface Node {
+
+    /** @return the value of the node, or {@code null} if the FEEL engine must evaluate it */
+    Value evaluate(Evaluation evaluation);
+  }
+
+  enum Comparison {
+    EQUAL,
+    LESS_THAN,
+    LESS_OR_EQUAL,
+    GREATER_THAN,
+    GREATER_OR_EQUAL;
+
+    private boolean test(final int result) {
+      switch (this) {
+        case EQUAL:
+          return result == 0;
+        case LESS_THAN:
+          return result < 0;
+        case LESS_OR_EQUAL:
+          return result <= 0;
+        case GREATER_THAN:
+          return result > 0;
+        case GREATER_OR_EQUAL:
+          return result >= 0;
+        default:
+          throw new IllegalStateException("Unexpected comparison: " + this);
+      }
+    }
+  }
+
+  /** A scalar value, i.e. null, a boolean, a number or a string. */
+  static final class Value {
+
+    static final Value NULL = new Value(ResultType.NULL, null);
+    private static final Value TRUE = new Value(ResultType.BOOLEAN, Boolean.TRUE);
+    private static final Value FALSE = new Value(ResultType.BOOLEAN, Boolean.FALSE);
+
+    private final ResultType type;
+    private final Object value;
+
+    private Value(final ResultType type, final Object value) {
+      this.type = type;
+      this.value = value;
+    }
+
+    static Value ofBoolean(final boolean value) {
+      return value ? TRUE : FALSE;
+    }
+
+    static Value ofNumber(final BigDecimal value) {
+      return new Value(ResultType.NUMBER, value);
+    }
+
+    static Value ofString(final String value) {
+      return new Value(ResultType.STRING, value);
+    }
+
+    private boolean isTrue() {
+      return this == TRUE;
+    }
+
+    private EvaluationResult toResult(final Expression expression) {
+      switch (type) {
+        case BOOLEAN:
+          return FastPathResult.ofBoolean(expression, isTrue());
+        case NUMBER:
+          return FastPathResult.ofNumber(expression, (BigDecimal) value);
+        case STRING:
+          return FastPathResult.ofString(expression, (String) value);
+        default:
+          return FastPathResult.ofNull(expression);
+      }
+    }
+  }
+
+  /** The state of a single evaluation. */
+  static final class Evaluation {
+
+    private final MsgPackReader reader = new MsgPackReader();
+    private final EvaluationContext context;
+
+    private Evaluation(final EvaluationContext context) {
+      this.context = context;
+    }
+
+    private Value readPath(final String variableName, final byte[][] properties) {
+      final DirectBuffer variable = context.getVariable(variableName);
+      if (variable == null || variable.capacity() == 0) {
+        // the FEEL engine handles missing variables, e.g. by returning null
+        return null;
+      }
+
+      reader.wrap(variable, 0, variable.capacity());
+      for (final byte[] property : properties) {
+        if (!seekProperty(property)) {
+          return null;
+        }
+      }
+      return readScalar();
+    }
+
+    /**
+     * Moves the reader to the value of the given property of the map at the current position. If
+     * the map contains the property multiple times, then the last one is used, like the FEEL engine
+     * does.
+     */
+    private boolean seekProperty(final byte[] property) {
+      final MsgPackToken mapToken = reader.readToken();
+      if (mapToken.getType() != MsgPackType.MAP) {
+        return false;
+      }
+
+      final int entries = mapToken.getSize();
+      int valueOffset = -1;
+      for (int i = 0; i < entries; i++) {
+        final MsgPackToken keyToken = reader.readToken();
+        if (keyToken.getType() != MsgPackType.STRING) {
+          return false;
+        }
+
+        if (equals(keyToken.getValueBuffer(), property)) {
+          valueOffset = reader.getOffset();
+        }
+        reader.skipValue();
+      }
+
+      if (valueOffset < 0) {
+        return false;
+      }
+
+      reader.reset();
+      reader.skipBytes(valueOffset);
+      return true;
+    }
+
+    private Value readScalar() {
+      final MsgPackToken token = reader.readToken();
+      switch (token.getType()) {
+        case NIL:
+          return Value.NULL;
+        case BOOLEAN:
+          return Value.ofBoolean(token.getBooleanValue());
+        case INTEGER:
+          return Value.ofNumber(BigDecimal.valueOf(token.getIntegerValue()));
+        case FLOAT:
+          final double floatValue = token.getFloatValue();
+          return Double.isFinite(floatValue)
+              ? Value.ofNumber(BigDecimal.valueOf(floatValue))
+              : null;
+        case STRING:
+          return Value.ofString(BufferUtil.bufferAsString(token.getValueBuffer()));
+        default:
+          return null;
+      }
+    }
+
+    private static boolean equals(final DirectBuffer buffer, final byte[] bytes) {
+      if (buffer.capacity() != bytes.length) {
+        return false;
+      }
+      for (int i = 0; i < bytes.length; i++) {
+        if (buffer.getByte(i) != bytes[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
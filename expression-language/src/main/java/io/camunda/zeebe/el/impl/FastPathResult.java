@@ -0,0 +1,161 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The result of an expression which was evaluated by a {@link FastPathEvaluator}. The result is
+ * always a scalar value, i.e. null, a boolean, a number or a string. It behaves like the result of
+ * the FEEL engine for the same value, e.g. it returns the number as Scala decimal and writes whole
+ * numbers as integers.
+ */
+final class FastPathResult implements EvaluationResult {
+
+  private final Expression expression;
+  private final ResultType type;
+  private final Object value;
+
+  private FastPathResult(final Expression expression, final ResultType type, final Object value) {
+    this.expression = expression;
+    this.type = type;
+    this.value = value;
+  }
+
+  static FastPathResult ofNull(final Expression expression) {
+    return new FastPathResult(expression, ResultType.NULL, null);
+  }
+
+  static FastPathResult ofBoolean(final Expression expression, final boolean value) {
+    return new FastPathResult(expression, ResultType.BOOLEAN, value);
+  }
+
+  static FastPathResult ofNumber(final Expression expression, final BigDecimal value) {
+    return new FastPathResult(
+        expression,
+        ResultType.NUMBER,
+        new scala.math.BigDecimal(value, scala.math.BigDecimal.defaultMathContext()));
+  }
+
+  static FastPathResult ofString(final Expression expression, final String value) {
+    return new FastPathResult(expression, ResultType.STRING, value);
+  }
+
+  @Override
+  public String getExpression() {
+    return expression.getExpression();
+  }
+
+  @Override
+  public boolean isFailure() {
+    return false;
+  }
+
+  @Override
+  public String getFailureMessage() {
+    return null;
+  }
+
+  @Override
+  public ResultType getType() {
+    return type;
+  }
+
+  @Override
+  public DirectBuffer toBuffer() {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+
+    switch (type) {
+      case BOOLEAN:
+        writer.writeBoolean((Boolean) value);
+        break;
+      case NUMBER:
+        final var number = (scala.math.BigDecimal) value;
+        if (number.isWhole()) {
+          writer.writeInteger(number.longValue());
+        } else {
+          writer.writeFloat(number.doubleValue());
+        }
+        break;
+      case STRING:
+        writer.writeString(new UnsafeBuffer(((String) value).getBytes(StandardCharsets.UTF_8)));
+        break;
+      default:
+        writer.writeNil();
+        break;
+    }
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  @Override
+  public String getString() {
+    return type == ResultType.STRING ? (String) value : null;
+  }
+
+  @Override
+  public Boolean getBoolean() {
+    return type == ResultType.BOOLEAN ? (Boolean) value : null;
+  }
+
+  @Override
+  public Number getNumber() {
+    return type == ResultType.NUMBER ? (Number) value : null;
+  }
+
+  @Override
+  public Duration getDuration() {
+    return null;
+  }
+
+  @Override
+  public Period getPeriod() {
+    return null;
+  }
+
+  @Override
+  public ZonedDateTime getDateTime() {
+    return null;
+  }
+
+  @Override
+  public List<DirectBuffer> getList() {
+    return null;
+  }
+
+  @Override
+  public List<String> getListOfStrings() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return "FastPathResult{"
+        + "expression="
+        + expression
+        + ", type="
+        + type
+        + ", value="
+        + value
+        + '}';
+  }
+}
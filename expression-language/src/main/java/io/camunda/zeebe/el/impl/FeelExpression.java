@@ -17,9 +17,15 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final FastPathEvaluator fastPathEvaluator;
 
   public FeelExpression(final ParsedExpression expression) {
+    this(expression, FastPathCompiler.compile(expression.expression()));
+  }
+
+  FeelExpression(final ParsedExpression expression, final FastPathEvaluator fastPathEvaluator) {
     this.expression = expression;
+    this.fastPathEvaluator = fastPathEvaluator;
   }
 
   @Override
@@ -63,6 +69,14 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return the evaluator of the expression which doesn't need the FEEL engine, or {@code null} if
+   *     the expression has no simple shape
+   */
+  FastPathEvaluator getFastPathEvaluator() {
+    return fastPathEvaluator;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -106,6 +106,14 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var fastPathEvaluator = feelExpression.getFastPathEvaluator();
+    if (fastPathEvaluator != null) {
+      final var result = fastPathEvaluator.evaluate(expression, context);
+      if (result != null) {
+        return result;
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
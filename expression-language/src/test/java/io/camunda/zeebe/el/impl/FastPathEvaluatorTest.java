@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.sched.clock.ControlledActorClock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Verifies that the fast path returns the same results as the FEEL engine, by evaluating the
+ * expressions with and without the fast path on different variables.
+ */
+@RunWith(Parameterized.class)
+public final class FastPathEvaluatorTest {
+
+  private static final List<Map<String, DirectBuffer>> CONTEXTS =
+      List.of(
+          variables(
+              Map.of(
+                  "x", "5",
+                  "y", "2.5",
+                  "s", "\"foo\"",
+                  "b", "true",
+                  "order",
+                      "{\"total\": 120, \"customer\": {\"name\": \"bar\"}, \"items\": [1, 2]}")),
+          variables(
+              Map.of(
+                  "x", "-3",
+                  "y", "10",
+                  "s", "\"\"",
+                  "b", "false",
+                  "order", "{\"total\": 99.5, \"customer\": {\"name\": \"foo\"}}")),
+          variables(
+              Map.of(
+                  "x", "\"5\"",
+                  "y", "[1]",
+                  "s", "5",
+                  "b", "\"true\"",
+                  "order", "\"none\"")),
+          variables(
+              Map.of(
+                  "x", "null",
+                  "s", "null",
+                  "b", "null",
+                  "order", "{\"total\": null, \"customer\": {}}")),
+          Map.of("order", orderWithDuplicateTotal()),
+          Map.of("x", new UnsafeBuffer(), "order", new UnsafeBuffer()),
+          Map.of());
+
+  @Parameter(0)
+  public String expression;
+
+  @Parameter(1)
+  public boolean compiled;
+
+  private final FeelExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new ControlledActorClock());
+
+  @Parameters(name = "{0}")
+  public static Object[][] expressions() {
+    return new Object[][] {
+      {"x", true},
+      {"y", true},
+      {"s", true},
+      {"b", true},
+      {"order", true},
+      {"order.total", true},
+      {"order.customer.name", true},
+      {"order.items", true},
+      {"order.missing", true},
+      {"missing", true},
+      {"5", true},
+      {"-2.5", true},
+      {"1.0", true},
+      {"\"text\"", true},
+      {"true", true},
+      {"null", true},
+      {"x > 3", true},
+      {"x >= 5", true},
+      {"x < y", true},
+      {"x <= -3", true},
+      {"x = 5", true},
+      {"x != 5", true},
+      {"x = 5.0", true},
+      {"y = 2.5", true},
+      {"y > 2.49", true},
+      {"x = \"5\"", true},
+      {"x = null", true},
+      {"s = \"foo\"", true},
+      {"s != \"foo\"", true},
+      {"s < \"g\"", true},
+      {"s >= \"\"", true},
+      {"b = true", true},
+      {"b != false", true},
+      {"b < true", true},
+      {"not(b)", false},
+      {"order.total > 100", true},
+      {"order.customer.name = \"bar\"", true},
+      {"x > 1 and y < 10", true},
+      {"x > 1 or s = \"x\"", true},
+      {"s != \"foo\" and b", true},
+      {"b or x > 3", true},
+      {"x between 1 and 10", true},
+      {"x + 1 > 3", false},
+      {"x in [1, 5]", false}
+    };
+  }
+
+  @Test
+  public void shouldCompileExpressionOfSimpleShape() {
+    final var parsedExpression =
+        (FeelExpression) expressionLanguage.parseExpression("=" + expression);
+
+    assertThat(parsedExpression.getFastPathEvaluator() != null).isEqualTo(compiled);
+  }
+
+  @Test
+  public void shouldReturnSameResultAsFeelEngine() {
+    final var parsedExpression =
+        (FeelExpression) expressionLanguage.parseExpression("=" + expression);
+    final var feelExpression = new FeelExpression(parsedExpression.getParsedExpression(), null);
+
+    for (final Map<String, DirectBuffer> variables : CONTEXTS) {
+      final EvaluationContext context = variables::get;
+      final var fastPathResult = expressionLanguage.evaluateExpression(parsedExpression, context);
+      final var feelResult = expressionLanguage.evaluateExpression(feelExpression, context);
+
+      assertSameResult(fastPathResult, feelResult, variables);
+    }
+  }
+
+  private static void assertSameResult(
+      final EvaluationResult actual,
+      final EvaluationResult expected,
+      final Map<String, DirectBuffer> variables) {
+    final var description = "result of expression with variables " + variables.keySet();
+
+    assertThat(actual.isFailure()).describedAs(description).isEqualTo(expected.isFailure());
+    if (expected.isFailure()) {
+      assertThat(actual.getFailureMessage())
+          .describedAs(description)
+          .isEqualTo(expected.getFailureMessage());
+      return;
+    }
+
+    assertThat(actual.getType()).describedAs(description).isEqualTo(expected.getType());
+    assertThat(actual.getBoolean()).describedAs(description).isEqualTo(expected.getBoolean());
+    assertThat(actual.getNumber()).describedAs(description).isEqualTo(expected.getNumber());
+    assertThat(actual.getString()).describedAs(description).isEqualTo(expected.getString());
+    assertThat(BufferUtil.bufferAsArray(actual.toBuffer()))
+        .describedAs(description)
+        .isEqualTo(BufferUtil.bufferAsArray(expected.toBuffer()));
+  }
+
+  private static Map<String, DirectBuffer> variables(final Map<String, String> variables) {
+    final Map<String, DirectBuffer> buffers = new HashMap<>();
+    variables.forEach((name, json) -> buffers.put(name, asMsgPack(json)));
+    return buffers;
+  }
+
+  private static DirectBuffer orderWithDuplicateTotal() {
+    return MsgPackUtil.encodeMsgPack(
+        writer -> {
+          writer.packMapHeader(2);
+          writer.packString("total");
+          writer.packInt(1);
+          writer.packString("total");
+          writer.packInt(200);
+        });
+  }
+}
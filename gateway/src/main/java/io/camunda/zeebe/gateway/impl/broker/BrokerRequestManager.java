@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.gateway.impl.broker;
 
+import static io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState.NODE_ID_NULL;
+import static io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState.PARTITION_ID_NULL;
+
 import io.camunda.zeebe.gateway.cmd.BrokerErrorException;
 import io.camunda.zeebe.gateway.cmd.BrokerRejectionException;
 import io.camunda.zeebe.gateway.cmd.BrokerResponseException;
@@ -34,18 +37,18 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
-import java.util.function.ToIntFunction;
 import org.agrona.DirectBuffer;
 
 final class BrokerRequestManager extends Actor {
 
   private static final TransportRequestSender SENDER_WITH_RETRY =
-      (c, s, r, t) -> c.sendRequestWithRetry(s, BrokerRequestManager::responseValidation, r, t);
+      (c, s, r, t) -> c.sendRequestWithRetry(s, s::isValidResponse, r, t);
   private static final TransportRequestSender SENDER_WITHOUT_RETRY = ClientTransport::sendRequest;
   private final ClientTransport clientTransport;
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManagerImpl topologyManager;
   private final Duration requestTimeout;
+  private final PartitionLeaderRouting leaderRouting = new PartitionLeaderRouting();
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
@@ -142,6 +145,7 @@ final class BrokerRequestManager extends Actor {
 
               result = handleResponse(response, returnFuture);
               if (result.wasProcessed()) {
+                nodeIdProvider.onResponse();
                 final long elapsedTime = System.currentTimeMillis() - startTime;
                 GatewayMetrics.registerSuccessfulRequest(
                     request.getPartitionId(), request.getType(), elapsedTime);
@@ -154,6 +158,9 @@ final class BrokerRequestManager extends Actor {
             returnFuture.completeExceptionally(new ClientResponseException(e));
           }
 
+          if (result != null && result.getErrorCode() == ErrorCode.PARTITION_LEADER_MISMATCH) {
+            nodeIdProvider.onLeaderMismatch();
+          }
           registerFailure(request, result, error);
         });
   }
@@ -280,35 +287,57 @@ final class BrokerRequestManager extends Actor {
 
     ActorFuture<DirectBuffer> send(
         ClientTransport transport,
-        Supplier<String> nodeAddressSupplier,
+        BrokerAddressProvider nodeAddressSupplier,
         ClientRequest clientRequest,
         Duration timeout);
   }
 
   private class BrokerAddressProvider implements Supplier<String> {
 
-    private final ToIntFunction<BrokerClusterState> nodeIdSelector;
+    private final int partitionId;
+    private volatile int nodeId = NODE_ID_NULL;
 
     BrokerAddressProvider() {
-      this(BrokerClusterState::getRandomBroker);
+      this(PARTITION_ID_NULL);
     }
 
     BrokerAddressProvider(final int partitionId) {
-      this(state -> state.getLeaderForPartition(partitionId));
-    }
-
-    BrokerAddressProvider(final ToIntFunction<BrokerClusterState> nodeIdSelector) {
-      this.nodeIdSelector = nodeIdSelector;
+      this.partitionId = partitionId;
     }
 
     @Override
     public String get() {
       final BrokerClusterState topology = topologyManager.getTopology();
       if (topology != null) {
-        return topology.getBrokerAddress(nodeIdSelector.applyAsInt(topology));
+        nodeId =
+            partitionId == PARTITION_ID_NULL
+                ? topology.getRandomBroker()
+                : leaderRouting.getLeader(topology, partitionId);
+        return topology.getBrokerAddress(nodeId);
       } else {
         return null;
       }
     }
+
+    private boolean isValidResponse(final DirectBuffer responseContent) {
+      final boolean isValid = responseValidation(responseContent);
+      if (!isValid) {
+        onLeaderMismatch();
+      }
+      return isValid;
+    }
+
+    private void onLeaderMismatch() {
+      final BrokerClusterState topology = topologyManager.getTopology();
+      if (partitionId != PARTITION_ID_NULL && topology != null) {
+        leaderRouting.onLeaderMismatch(topology, partitionId, nodeId);
+      }
+    }
+
+    private void onResponse() {
+      if (partitionId != PARTITION_ID_NULL) {
+        leaderRouting.onResponse(partitionId, nodeId);
+      }
+    }
   }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import static io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState.NODE_ID_NULL;
+
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.camunda.zeebe.gateway.metrics.GatewayMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes requests to the leader of a partition, learning from the responses of the brokers.
+ *
+ * <p>Usually the leader is taken from the topology. After a leader change, the topology is only
+ * updated once the change was gossiped, and until then requests to the old leader are rejected with
+ * {@code PARTITION_LEADER_MISMATCH}. If the leader of the topology rejects a request like that, the
+ * partition is rerouted: the requests are sent to the other replicas of the partition in turn,
+ * until one of them accepts a request and is routed to from then on. The route is dropped again as
+ * soon as the topology knows a different leader, or the old leader accepts a request.
+ *
+ * <p>The routes are accessed concurrently by the threads sending requests and handling responses.
+ */
+final class PartitionLeaderRouting {
+
+  private final Map<Integer, Route> routes = new ConcurrentHashMap<>();
+
+  /**
+   * @return the node id of the broker to which requests to the given partition should be sent, or
+   *     {@link BrokerClusterState#NODE_ID_NULL} if no leader is known
+   */
+  int getLeader(final BrokerClusterState topology, final int partitionId) {
+    final int leader = topology.getLeaderForPartition(partitionId);
+    final Route route = routes.get(partitionId);
+    if (route == null) {
+      return leader;
+    }
+
+    if (leader != NODE_ID_NULL && leader != route.rejectingLeader) {
+      // the topology knows the new leader now
+      routes.remove(partitionId, route);
+      return leader;
+    }
+
+    final int learnedLeader = route.learnedLeader;
+    if (learnedLeader != NODE_ID_NULL) {
+      return learnedLeader;
+    }
+
+    return route.nextCandidate(topology.getFollowersForPartition(partitionId));
+  }
+
+  /** Notifies that the given broker rejected a request because it isn't the partition's leader. */
+  void onLeaderMismatch(
+      final BrokerClusterState topology, final int partitionId, final int nodeId) {
+    GatewayMetrics.registerLeaderMismatch(partitionId);
+
+    final Route route = routes.get(partitionId);
+    if (route == null) {
+      if (nodeId == topology.getLeaderForPartition(partitionId)) {
+        routes.putIfAbsent(partitionId, new Route(nodeId));
+      }
+    } else if (nodeId == route.learnedLeader) {
+      // the leader changed again, so search for it among all replicas again
+      route.learnedLeader = NODE_ID_NULL;
+    }
+  }
+
+  /** Notifies that the given broker accepted a request, i.e. it is the partition's leader. */
+  void onResponse(final int partitionId, final int nodeId) {
+    final Route route = routes.get(partitionId);
+    if (route == null) {
+      return;
+    }
+
+    if (nodeId == route.rejectingLeader) {
+      routes.remove(partitionId, route);
+    } else if (route.learnedLeader != nodeId) {
+      route.learnedLeader = nodeId;
+      GatewayMetrics.registerReroutedPartition(partitionId);
+    }
+  }
+
+  boolean isRerouted(final int partitionId) {
+    return routes.containsKey(partitionId);
+  }
+
+  private static final class Route {
+    private final int rejectingLeader;
+    private final AtomicInteger nextCandidate = new AtomicInteger();
+    private volatile int learnedLeader = NODE_ID_NULL;
+
+    private Route(final int rejectingLeader) {
+      this.rejectingLeader = rejectingLeader;
+    }
+
+    /**
+     * Returns the replicas of the partition in turn, ending with the leader which rejected the
+     * requests, in case it was elected again.
+     */
+    private int nextCandidate(final List<Integer> followers) {
+      // the followers of the topology are modified concurrently, so take a copy
+      final List<Integer> candidates = followers == null ? List.of() : new ArrayList<>(followers);
+      final int index = Math.floorMod(nextCandidate.getAndIncrement(), candidates.size() + 1);
+      return index < candidates.size() ? candidates.get(index) : rejectingLeader;
+    }
+  }
+}
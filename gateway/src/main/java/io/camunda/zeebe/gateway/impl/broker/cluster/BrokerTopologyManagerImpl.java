@@ -13,13 +13,18 @@ import io.atomix.cluster.ClusterMembershipEvent;
 import io.atomix.cluster.ClusterMembershipEvent.Type;
 import io.atomix.cluster.ClusterMembershipEventListener;
 import io.atomix.cluster.Member;
+import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.util.sched.Actor;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
 public final class BrokerTopologyManagerImpl extends Actor
@@ -30,6 +35,8 @@ public final class BrokerTopologyManagerImpl extends Actor
   protected final AtomicReference<BrokerClusterStateImpl> topology;
   private final Supplier<Set<Member>> membersSupplier;
   private final GatewayTopologyMetrics topologyMetrics = new GatewayTopologyMetrics();
+  private final Map<MemberId, String> receivedBrokerInfoProperties = new HashMap<>();
+  private final Int2ObjectHashMap<BrokerInfo> appliedBrokerInfos = new Int2ObjectHashMap<>();
 
   public BrokerTopologyManagerImpl(final Supplier<Set<Member>> membersSupplier) {
     this.membersSupplier = membersSupplier;
@@ -52,15 +59,23 @@ public final class BrokerTopologyManagerImpl extends Actor
       return;
     }
 
-    final BrokerClusterStateImpl newTopology = new BrokerClusterStateImpl(topology.get());
+    BrokerClusterStateImpl newTopology =
+        topology.get() == null ? new BrokerClusterStateImpl() : null;
     for (final Member member : members) {
-      final BrokerInfo brokerInfo = BrokerInfo.fromProperties(member.properties());
+      final BrokerInfo brokerInfo =
+          readChangedBrokerInfo(member.id(), BrokerInfo.getEncodedProperty(member.properties()));
       if (brokerInfo != null) {
-        newTopology.addBrokerIfAbsent(brokerInfo.getNodeId());
-        processProperties(brokerInfo, newTopology);
+        if (newTopology == null) {
+          newTopology = new BrokerClusterStateImpl(topology.get());
+        }
+        applyBrokerInfo(brokerInfo, newTopology);
       }
     }
-    topology.set(newTopology);
+
+    if (newTopology != null) {
+      topology.set(newTopology);
+      updateMetrics(newTopology);
+    }
   }
 
   @Override
@@ -78,52 +93,99 @@ public final class BrokerTopologyManagerImpl extends Actor
   public void event(final ClusterMembershipEvent event) {
     final Member subject = event.subject();
     final Type eventType = event.type();
-    final BrokerInfo brokerInfo = BrokerInfo.fromProperties(subject.properties());
+    final String brokerInfoProperty = BrokerInfo.getEncodedProperty(subject.properties());
 
-    if (brokerInfo != null) {
+    if (brokerInfoProperty != null) {
       actor.call(
           () -> {
-            final BrokerClusterStateImpl newTopology = new BrokerClusterStateImpl(topology.get());
-
             switch (eventType) {
               case MEMBER_ADDED:
-                LOG.debug("Received new broker {}.", brokerInfo);
-                newTopology.addBrokerIfAbsent(brokerInfo.getNodeId());
-                processProperties(brokerInfo, newTopology);
-                break;
-
               case METADATA_CHANGED:
-                LOG.debug(
-                    "Received metadata change from Broker {}, partitions {}, terms {} and health {}.",
-                    brokerInfo.getNodeId(),
-                    brokerInfo.getPartitionRoles(),
-                    brokerInfo.getPartitionLeaderTerms(),
-                    brokerInfo.getPartitionHealthStatuses());
-                newTopology.addBrokerIfAbsent(brokerInfo.getNodeId());
-                processProperties(brokerInfo, newTopology);
+                onBrokerInfoReceived(subject.id(), brokerInfoProperty, eventType);
                 break;
 
               case MEMBER_REMOVED:
-                LOG.debug("Received broker was removed {}.", brokerInfo);
-                newTopology.removeBroker(brokerInfo.getNodeId());
+                onBrokerRemoved(BrokerInfo.fromEncodedProperty(brokerInfoProperty));
                 break;
 
               case REACHABILITY_CHANGED:
               default:
-                LOG.debug(
-                    "Received {} for broker {}, do nothing.", eventType, brokerInfo.getNodeId());
+                LOG.debug("Received {} for member {}, do nothing.", eventType, subject.id());
                 break;
             }
-
-            topology.set(newTopology);
-            updateMetrics(newTopology);
           });
     }
   }
 
-  // Update topology information based on the distributed event
+  private void onBrokerInfoReceived(
+      final MemberId memberId, final String brokerInfoProperty, final Type eventType) {
+    final BrokerInfo brokerInfo = readChangedBrokerInfo(memberId, brokerInfoProperty);
+    if (brokerInfo == null) {
+      LOG.trace("Received {} for member {} without any changes, do nothing.", eventType, memberId);
+      return;
+    }
+
+    if (eventType == Type.MEMBER_ADDED) {
+      LOG.debug("Received new broker {}.", brokerInfo);
+    } else {
+      LOG.debug(
+          "Received metadata change from Broker {}, partitions {}, terms {} and health {}.",
+          brokerInfo.getNodeId(),
+          brokerInfo.getPartitionRoles(),
+          brokerInfo.getPartitionLeaderTerms(),
+          brokerInfo.getPartitionHealthStatuses());
+    }
+
+    final BrokerClusterStateImpl newTopology = new BrokerClusterStateImpl(topology.get());
+    applyBrokerInfo(brokerInfo, newTopology);
+    topology.set(newTopology);
+    updateMetrics(newTopology);
+  }
+
+  private void onBrokerRemoved(final BrokerInfo brokerInfo) {
+    LOG.debug("Received broker was removed {}.", brokerInfo);
+    final BrokerClusterStateImpl newTopology = new BrokerClusterStateImpl(topology.get());
+    newTopology.removeBroker(brokerInfo.getNodeId());
+    appliedBrokerInfos.remove(brokerInfo.getNodeId());
+    // removals are rare, so forget all received properties instead of looking up the ones of the
+    // removed broker; the next ones of each member are then applied again
+    receivedBrokerInfoProperties.clear();
+
+    topology.set(newTopology);
+    updateMetrics(newTopology);
+  }
+
+  /**
+   * Members gossip their complete broker info on every change, and it is received again on every
+   * check for missing events. It is only decoded if it differs from the one received before.
+   *
+   * @return the decoded broker info if it changed, otherwise {@code null}
+   */
+  private BrokerInfo readChangedBrokerInfo(
+      final MemberId memberId, final String brokerInfoProperty) {
+    if (brokerInfoProperty == null
+        || brokerInfoProperty.equals(receivedBrokerInfoProperties.get(memberId))) {
+      return null;
+    }
+
+    receivedBrokerInfoProperties.put(memberId, brokerInfoProperty);
+    return BrokerInfo.fromEncodedProperty(brokerInfoProperty);
+  }
+
+  private void applyBrokerInfo(
+      final BrokerInfo brokerInfo, final BrokerClusterStateImpl newTopology) {
+    final BrokerInfo previousBrokerInfo =
+        appliedBrokerInfos.put(brokerInfo.getNodeId(), brokerInfo);
+    newTopology.addBrokerIfAbsent(brokerInfo.getNodeId());
+    processProperties(previousBrokerInfo, brokerInfo, newTopology);
+  }
+
+  // Update topology information based on the distributed event, but only for the partitions whose
+  // role or health changed since the previous broker info of the same broker was applied
   private void processProperties(
-      final BrokerInfo distributedBrokerInfo, final BrokerClusterStateImpl newTopology) {
+      final BrokerInfo previousBrokerInfo,
+      final BrokerInfo distributedBrokerInfo,
+      final BrokerClusterStateImpl newTopology) {
 
     newTopology.setClusterSize(distributedBrokerInfo.getClusterSize());
     newTopology.setPartitionsCount(distributedBrokerInfo.getPartitionsCount());
@@ -133,13 +195,29 @@ public final class BrokerTopologyManagerImpl extends Actor
 
     distributedBrokerInfo.consumePartitions(
         newTopology::addPartitionIfAbsent,
-        (leaderPartitionId, term) ->
-            newTopology.setPartitionLeader(leaderPartitionId, nodeId, term),
-        followerPartitionId -> newTopology.addPartitionFollower(followerPartitionId, nodeId),
-        inactivePartitionId -> newTopology.addPartitionInactive(inactivePartitionId, nodeId));
+        (leaderPartitionId, term) -> {
+          if (hasRoleChanged(previousBrokerInfo, distributedBrokerInfo, leaderPartitionId)) {
+            newTopology.setPartitionLeader(leaderPartitionId, nodeId, term);
+          }
+        },
+        followerPartitionId -> {
+          if (hasRoleChanged(previousBrokerInfo, distributedBrokerInfo, followerPartitionId)) {
+            newTopology.addPartitionFollower(followerPartitionId, nodeId);
+          }
+        },
+        inactivePartitionId -> {
+          if (hasRoleChanged(previousBrokerInfo, distributedBrokerInfo, inactivePartitionId)) {
+            newTopology.addPartitionInactive(inactivePartitionId, nodeId);
+          }
+        });
 
     distributedBrokerInfo.consumePartitionsHealth(
-        (partition, health) -> newTopology.setPartitionHealthStatus(nodeId, partition, health));
+        (partition, health) -> {
+          if (previousBrokerInfo == null
+              || previousBrokerInfo.getPartitionHealthStatuses().get(partition) != health) {
+            newTopology.setPartitionHealthStatus(nodeId, partition, health);
+          }
+        });
 
     final String clientAddress = distributedBrokerInfo.getCommandApiAddress();
     if (clientAddress != null) {
@@ -149,6 +227,16 @@ public final class BrokerTopologyManagerImpl extends Actor
     newTopology.setBrokerVersionIfPresent(nodeId, distributedBrokerInfo.getVersion());
   }
 
+  private static boolean hasRoleChanged(
+      final BrokerInfo previousBrokerInfo, final BrokerInfo brokerInfo, final Integer partitionId) {
+    return previousBrokerInfo == null
+        || previousBrokerInfo.getPartitionRoles().get(partitionId)
+            != brokerInfo.getPartitionRoles().get(partitionId)
+        || !Objects.equals(
+            previousBrokerInfo.getPartitionLeaderTerms().get(partitionId),
+            brokerInfo.getPartitionLeaderTerms().get(partitionId));
+  }
+
   private void updateMetrics(final BrokerClusterState topology) {
     final var partitions = topology.getPartitions();
     partitions.forEach(
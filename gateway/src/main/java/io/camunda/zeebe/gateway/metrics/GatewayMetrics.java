@@ -36,6 +36,23 @@ public final class GatewayMetrics {
           .labelNames("partition", "requestType")
           .register();
 
+  private static final Counter LEADER_MISMATCHES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_partition_leader_mismatches")
+          .help("Number of requests rejected because they were not sent to the partition leader")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter REROUTED_PARTITIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_rerouted_partitions")
+          .help(
+              "Number of times a partition leader was learned before it was known by the topology")
+          .labelNames("partition")
+          .register();
+
   private GatewayMetrics() {}
 
   public static void registerSuccessfulRequest(
@@ -49,4 +66,12 @@ public final class GatewayMetrics {
     FAILED_REQUESTS.labels(Long.toString(partition), requestType, error).inc();
     TOTAL_REQUESTS.labels(Long.toString(partition), requestType).inc();
   }
+
+  public static void registerLeaderMismatch(final long partition) {
+    LEADER_MISMATCHES.labels(Long.toString(partition)).inc();
+  }
+
+  public static void registerReroutedPartition(final long partition) {
+    REROUTED_PARTITIONS.labels(Long.toString(partition)).inc();
+  }
 }
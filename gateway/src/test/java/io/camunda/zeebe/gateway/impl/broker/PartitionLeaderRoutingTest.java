@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class PartitionLeaderRoutingTest {
+
+  private static final int PARTITION_ID = 1;
+
+  private final PartitionLeaderRouting routing = new PartitionLeaderRouting();
+  private BrokerClusterStateImpl topology;
+
+  @Before
+  public void setUp() {
+    topology = new BrokerClusterStateImpl();
+    topology.addPartitionIfAbsent(PARTITION_ID);
+    topology.setPartitionLeader(PARTITION_ID, 0, 1);
+    topology.addPartitionFollower(PARTITION_ID, 1);
+    topology.addPartitionFollower(PARTITION_ID, 2);
+  }
+
+  @Test
+  public void shouldRouteToLeaderOfTopology() {
+    // when
+    final int leader = routing.getLeader(topology, PARTITION_ID);
+
+    // then
+    assertThat(leader).isZero();
+    assertThat(routing.isRerouted(PARTITION_ID)).isFalse();
+  }
+
+  @Test
+  public void shouldRouteToOtherReplicasIfLeaderRejects() {
+    // when
+    routing.onLeaderMismatch(topology, PARTITION_ID, 0);
+
+    // then
+    assertThat(routing.isRerouted(PARTITION_ID)).isTrue();
+    assertThat(IntStream.range(0, 3).map(i -> routing.getLeader(topology, PARTITION_ID)))
+        .containsExactly(1, 2, 0);
+  }
+
+  @Test
+  public void shouldNotRerouteIfFollowerRejects() {
+    // when
+    routing.onLeaderMismatch(topology, PARTITION_ID, 1);
+
+    // then
+    assertThat(routing.isRerouted(PARTITION_ID)).isFalse();
+    assertThat(routing.getLeader(topology, PARTITION_ID)).isZero();
+  }
+
+  @Test
+  public void shouldRouteToLearnedLeader() {
+    // given
+    routing.onLeaderMismatch(topology, PARTITION_ID, 0);
+
+    // when
+    routing.onResponse(PARTITION_ID, 2);
+
+    // then
+    assertThat(IntStream.range(0, 3).map(i -> routing.getLeader(topology, PARTITION_ID)))
+        .containsOnly(2);
+  }
+
+  @Test
+  public void shouldSearchLeaderAgainIfLearnedLeaderRejects() {
+    // given
+    routing.onLeaderMismatch(topology, PARTITION_ID, 0);
+    routing.onResponse(PARTITION_ID, 2);
+
+    // when
+    routing.onLeaderMismatch(topology, PARTITION_ID, 2);
+
+    // then
+    assertThat(IntStream.range(0, 3).map(i -> routing.getLeader(topology, PARTITION_ID)))
+        .containsExactly(1, 2, 0);
+  }
+
+  @Test
+  public void shouldDropRouteIfTopologyKnowsNewLeader() {
+    // given
+    routing.onLeaderMismatch(topology, PARTITION_ID, 0);
+    routing.onResponse(PARTITION_ID, 2);
+
+    // when
+    topology.setPartitionLeader(PARTITION_ID, 1, 2);
+
+    // then
+    assertThat(routing.getLeader(topology, PARTITION_ID)).isEqualTo(1);
+    assertThat(routing.isRerouted(PARTITION_ID)).isFalse();
+  }
+
+  @Test
+  public void shouldDropRouteIfLeaderAcceptsAgain() {
+    // given
+    routing.onLeaderMismatch(topology, PARTITION_ID, 0);
+
+    // when
+    routing.onResponse(PARTITION_ID, 0);
+
+    // then
+    assertThat(routing.isRerouted(PARTITION_ID)).isFalse();
+    assertThat(routing.getLeader(topology, PARTITION_ID)).isZero();
+  }
+}
@@ -263,6 +263,57 @@ public final class TopologyUpdateTest {
             });
   }
 
+  @Test
+  public void shouldNotUpdateTopologyOnUnchangedBrokerInfo() {
+    // given
+    final BrokerInfo broker = createBroker(0);
+    broker.setFollowerForPartition(1);
+    topologyManager.event(createMemberAddedEvent(broker));
+    waitUntil(() -> topologyManager.getTopology() != null);
+    final var topology = topologyManager.getTopology();
+
+    // when
+    topologyManager.event(createMemberUpdateEvent(broker));
+    actorClock.addTime(Duration.ofSeconds(10));
+    final BrokerInfo otherBroker = createBroker(1);
+    topologyManager.event(createMemberAddedEvent(otherBroker));
+    waitUntil(() -> topologyManager.getTopology().getBrokers().contains(1));
+
+    // then
+    assertThat(topologyManager.getTopology().getFollowersForPartition(1)).containsExactly(0);
+    assertThat(topology.getBrokers()).containsExactly(0);
+  }
+
+  @Test
+  public void shouldUpdateOnlyChangedPartitions() {
+    // given
+    final BrokerInfo broker = createBroker(0);
+    broker.setLeaderForPartition(1, 1);
+    broker.setFollowerForPartition(2);
+    broker.setPartitionHealthy(1);
+    broker.setPartitionHealthy(2);
+    topologyManager.event(createMemberAddedEvent(broker));
+    waitUntil(() -> topologyManager.getTopology() != null);
+
+    // when
+    broker.setPartitionUnhealthy(2);
+    broker.setLeaderForPartition(1, 2);
+    topologyManager.event(createMemberUpdateEvent(broker));
+
+    // then
+    Awaitility.await("broker 0 is unhealthy for partition 2")
+        .atMost(Duration.ofSeconds(5))
+        .pollInterval(Duration.ofMillis(100))
+        .untilAsserted(
+            () ->
+                assertThat(topologyManager.getTopology().getPartitionHealth(0, 2))
+                    .isEqualTo(PartitionHealthStatus.UNHEALTHY));
+    final var topology = topologyManager.getTopology();
+    assertThat(topology.getLeaderForPartition(1)).isZero();
+    assertThat(topology.getPartitionHealth(0, 1)).isEqualTo(PartitionHealthStatus.HEALTHY);
+    assertThat(topology.getFollowersForPartition(2)).containsExactly(0);
+  }
+
   private BrokerInfo createBroker(final int brokerId) {
     final BrokerInfo broker =
         new BrokerInfo()
@@ -31,6 +31,27 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Adds an entry to the index regardless of its density, e.g. to restore entries which were
+   * previously passed by {@link #forEach(long, long, IndexEntryConsumer)}. Entries must be restored
+   * in ascending order of their index.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record
+   * @param position the position of the record within its segment
+   */
+  void restore(long index, long asqn, int position);
+
+  /**
+   * Passes the entries of the index between the given indexes (inclusively) to the consumer, in
+   * ascending order of their index.
+   *
+   * @param fromIndex the lowest index of the entries
+   * @param toIndex the highest index of the entries
+   * @param consumer the consumer of the entries
+   */
+  void forEach(long fromIndex, long toIndex, IndexEntryConsumer consumer);
+
   /**
    * Looks up the position of the given index.
    *
@@ -78,4 +99,16 @@ interface JournalIndex {
 
   /** Delete all index mappings */
   void clear();
+
+  /** Consumes the entries of the index. */
+  @FunctionalInterface
+  interface IndexEntryConsumer {
+
+    /**
+     * @param index the index of the record
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     * @param position the position of the record within its segment
+     */
+    void accept(long index, long asqn, int position);
+  }
 }
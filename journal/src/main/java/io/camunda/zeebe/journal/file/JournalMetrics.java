@@ -46,6 +46,14 @@ class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram SEGMENT_ROLLOVER_STALL_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_rollover_stall_time")
+          .help("Time spend waiting on rollover for the next segment to be allocated")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -79,6 +87,10 @@ class JournalMetrics {
     SEGMENT_TRUNCATE_TIME.labels(logName).time(segmentTruncation);
   }
 
+  public Histogram.Timer startSegmentRolloverStall() {
+    return SEGMENT_ROLLOVER_STALL_TIME.labels(logName).startTimer();
+  }
+
   public Timer startJournalOpenDurationTimer() {
     return JOURNAL_OPEN_DURATION.labels(logName).startTimer();
   }
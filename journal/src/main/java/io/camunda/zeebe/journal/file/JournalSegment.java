@@ -56,13 +56,14 @@ class JournalSegment implements AutoCloseable {
       final JournalSegmentDescriptor descriptor,
       final MappedByteBuffer buffer,
       final long maxWrittenIndex,
-      final JournalIndex index) {
+      final JournalIndex index,
+      final JournalSegmentSummary summary) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
 
-    writer = createWriter(maxWrittenIndex);
+    writer = createWriter(maxWrittenIndex, summary);
   }
 
   /**
@@ -152,8 +153,42 @@ class JournalSegment implements AutoCloseable {
     return reader;
   }
 
-  private MappedJournalSegmentWriter createWriter(final long lastWrittenIndex) {
-    return new MappedJournalSegmentWriter(buffer, this, index, lastWrittenIndex);
+  private MappedJournalSegmentWriter createWriter(
+      final long lastWrittenIndex, final JournalSegmentSummary summary) {
+    return new MappedJournalSegmentWriter(buffer, this, index, lastWrittenIndex, summary);
+  }
+
+  /**
+   * Persists the summary of this segment, such that it doesn't need to be scanned when it's loaded
+   * again. Must only be called once the segment is full and flushed. Failing to persist the summary
+   * is not an error, the segment is then scanned instead.
+   */
+  void persistSummary() {
+    final var summary = writer.summarize();
+    if (summary == null) {
+      return;
+    }
+
+    try {
+      summary.writeTo(file.summaryFile());
+    } catch (final IOException e) {
+      LOG.warn("Could not write the summary of segment {}", this, e);
+    }
+  }
+
+  /**
+   * Deletes the summary of this segment durably, which must be done before the segment is
+   * truncated.
+   */
+  void deleteSummary() {
+    try {
+      if (Files.deleteIfExists(file.summaryFile().toPath())) {
+        FileUtil.flushDirectory(file.file().toPath().getParent());
+      }
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to delete the summary of segment %s", this), e);
+    }
   }
 
   /**
@@ -232,6 +267,13 @@ class JournalSegment implements AutoCloseable {
     }
 
     writer.close();
+    // the id of the segment may be reused, so the deletion of its summary is made durable together
+    // with the rename below
+    try {
+      Files.deleteIfExists(file.summaryFile().toPath());
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
     final var target = file.getFileMarkedForDeletion();
     try {
       FileUtil.moveDurably(file.file().toPath(), target);
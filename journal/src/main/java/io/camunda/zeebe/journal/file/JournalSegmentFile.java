@@ -34,6 +34,8 @@ final class JournalSegmentFile {
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
+  private static final String PREALLOCATED_EXTENSION = ".preallocated";
+  private static final String SUMMARY_EXTENSION = ".summary";
   private final File file;
   private Path fileMarkedForDeletion;
 
@@ -105,6 +107,48 @@ final class JournalSegmentFile {
             EXTENSION));
   }
 
+  /**
+   * Creates the file in which the segment with the given ID is preallocated. It's renamed to the
+   * segment file once the segment is used.
+   */
+  static File createPreallocatedSegmentFile(
+      final String name, final File directory, final long id) {
+    final File segmentFile = createSegmentFile(name, directory, id);
+    return new File(directory, segmentFile.getName() + PREALLOCATED_EXTENSION);
+  }
+
+  /**
+   * Returns a boolean value indicating whether the given file is a preallocated segment file, which
+   * was never used.
+   */
+  public static boolean isPreallocatedSegmentFile(final String journalName, final String fileName) {
+    checkNotNull(journalName, "journalName cannot be null");
+    checkNotNull(fileName, "fileName cannot be null");
+
+    if (!fileName.endsWith(PREALLOCATED_EXTENSION)) {
+      return false;
+    }
+    return isSegmentFile(
+        journalName, fileName.substring(0, fileName.length() - PREALLOCATED_EXTENSION.length()));
+  }
+
+  /**
+   * Returns a boolean value indicating whether the given file is the summary of a segment, see
+   * {@link JournalSegmentSummary}.
+   */
+  public static boolean isSummaryFile(final String journalName, final String fileName) {
+    checkNotNull(journalName, "journalName cannot be null");
+    checkNotNull(fileName, "fileName cannot be null");
+
+    return fileName.endsWith(SUMMARY_EXTENSION)
+        && isSegmentFile(journalName, getSegmentFileName(fileName));
+  }
+
+  /** Returns the name of the segment file of the given summary file. */
+  static String getSegmentFileName(final String summaryFileName) {
+    return summaryFileName.substring(0, summaryFileName.length() - SUMMARY_EXTENSION.length());
+  }
+
   /**
    * Returns the segment file.
    *
@@ -118,6 +162,11 @@ final class JournalSegmentFile {
     return file.getName();
   }
 
+  /** Returns the file in which the summary of the segment is persisted. */
+  public File summaryFile() {
+    return new File(file.getParentFile(), file.getName() + SUMMARY_EXTENSION);
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
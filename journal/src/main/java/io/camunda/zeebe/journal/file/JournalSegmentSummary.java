@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.file.JournalIndex.IndexEntryConsumer;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * Summary of a full segment, which is persisted in a side file next to the segment when the journal
+ * rolls over to the next segment. When the journal is opened again, the summary replaces the scan
+ * of the segment's records: it contains the position of the segment's last record, and the entries
+ * of the journal index which point into the segment.
+ *
+ * <p>The summary is written without flushing it, so it may be missing or partially written after a
+ * crash; the checksum of its contents detects the latter. In both cases the segment is scanned as
+ * before. Since the summary describes the segment at the time it was full, it must be deleted
+ * durably before the segment is truncated or deleted.
+ */
+final class JournalSegmentSummary {
+
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final byte VERSION = 1;
+  private static final int HEADER_LENGTH =
+      Byte.BYTES
+          + Long.BYTES
+          + Long.BYTES
+          + Integer.BYTES
+          + Long.BYTES
+          + Integer.BYTES
+          + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Long.BYTES + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final long firstIndex;
+  private final long lastIndex;
+  private final int lastPosition;
+  private final long lastChecksum;
+  private final int endPosition;
+  private final LongArrayList entryIndexes;
+  private final LongArrayList entryAsqns;
+  private final IntArrayList entryPositions;
+
+  private JournalSegmentSummary(
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final long lastChecksum,
+      final int endPosition,
+      final LongArrayList entryIndexes,
+      final LongArrayList entryAsqns,
+      final IntArrayList entryPositions) {
+    this.firstIndex = firstIndex;
+    this.lastIndex = lastIndex;
+    this.lastPosition = lastPosition;
+    this.lastChecksum = lastChecksum;
+    this.endPosition = endPosition;
+    this.entryIndexes = entryIndexes;
+    this.entryAsqns = entryAsqns;
+    this.entryPositions = entryPositions;
+  }
+
+  /**
+   * Summarizes a segment, taking the entries of the given index which point into it.
+   *
+   * @param firstIndex the first index of the segment
+   * @param lastIndex the index of the segment's last record
+   * @param lastPosition the position of the segment's last record
+   * @param lastChecksum the checksum of the segment's last record
+   * @param endPosition the position after the segment's last record
+   * @param index the journal index
+   * @return the summary of the segment
+   */
+  static JournalSegmentSummary of(
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final long lastChecksum,
+      final int endPosition,
+      final JournalIndex index) {
+    final var entryIndexes = new LongArrayList();
+    final var entryAsqns = new LongArrayList();
+    final var entryPositions = new IntArrayList();
+    index.forEach(
+        firstIndex,
+        lastIndex,
+        (entryIndex, asqn, position) -> {
+          entryIndexes.addLong(entryIndex);
+          entryAsqns.addLong(asqn);
+          entryPositions.addInt(position);
+        });
+
+    return new JournalSegmentSummary(
+        firstIndex,
+        lastIndex,
+        lastPosition,
+        lastChecksum,
+        endPosition,
+        entryIndexes,
+        entryAsqns,
+        entryPositions);
+  }
+
+  /**
+   * Reads the summary from the given file.
+   *
+   * @param file the summary file
+   * @return the summary, or null if the file doesn't exist
+   * @throws IOException if the file can't be read
+   * @throws IllegalStateException if the file's contents are not a valid summary
+   */
+  static JournalSegmentSummary read(final File file) throws IOException {
+    final ByteBuffer buffer;
+    try (final var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size < HEADER_LENGTH + CHECKSUM_LENGTH || size > Integer.MAX_VALUE) {
+        throw new IllegalStateException(
+            String.format(
+                "Expected summary %s to be a valid summary, but it has %d bytes", file, size));
+      }
+
+      buffer = ByteBuffer.allocate((int) size).order(ENDIANNESS);
+      while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+        // reads until the buffer is full
+      }
+      buffer.flip();
+    } catch (final NoSuchFileException e) {
+      return null;
+    }
+
+    final int contentLength = buffer.limit() - CHECKSUM_LENGTH;
+    final long checksum = new ChecksumGenerator().compute(buffer, 0, contentLength);
+    if (buffer.getLong(contentLength) != checksum) {
+      throw new IllegalStateException(
+          String.format("Expected summary %s to match its checksum, but it doesn't", file));
+    }
+
+    final byte version = buffer.get();
+    if (version != VERSION) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected summary %s to have version %d, but got %d", file, VERSION, version));
+    }
+
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastPosition = buffer.getInt();
+    final long lastChecksum = buffer.getLong();
+    final int endPosition = buffer.getInt();
+    final int entryCount = buffer.getInt();
+    if (contentLength != HEADER_LENGTH + entryCount * ENTRY_LENGTH) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected summary %s to contain %d index entries, but it has %d bytes",
+              file, entryCount, buffer.limit()));
+    }
+
+    final var entryIndexes = new LongArrayList(entryCount, LongArrayList.DEFAULT_NULL_VALUE);
+    final var entryAsqns = new LongArrayList(entryCount, LongArrayList.DEFAULT_NULL_VALUE);
+    final var entryPositions = new IntArrayList(entryCount, IntArrayList.DEFAULT_NULL_VALUE);
+    for (int i = 0; i < entryCount; i++) {
+      entryIndexes.addLong(buffer.getLong());
+      entryAsqns.addLong(buffer.getLong());
+      entryPositions.addInt(buffer.getInt());
+    }
+
+    return new JournalSegmentSummary(
+        firstIndex,
+        lastIndex,
+        lastPosition,
+        lastChecksum,
+        endPosition,
+        entryIndexes,
+        entryAsqns,
+        entryPositions);
+  }
+
+  /**
+   * Writes the summary to the given file, replacing it if it exists. The file is not flushed.
+   *
+   * @param file the summary file
+   * @throws IOException if the file can't be written
+   */
+  void writeTo(final File file) throws IOException {
+    final int entryCount = entryIndexes.size();
+    final int contentLength = HEADER_LENGTH + entryCount * ENTRY_LENGTH;
+    final var buffer = ByteBuffer.allocate(contentLength + CHECKSUM_LENGTH).order(ENDIANNESS);
+    buffer
+        .put(VERSION)
+        .putLong(firstIndex)
+        .putLong(lastIndex)
+        .putInt(lastPosition)
+        .putLong(lastChecksum)
+        .putInt(endPosition)
+        .putInt(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      buffer
+          .putLong(entryIndexes.getLong(i))
+          .putLong(entryAsqns.getLong(i))
+          .putInt(entryPositions.getInt(i));
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, contentLength));
+    buffer.flip();
+
+    try (final var channel =
+        FileChannel.open(
+            file.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  /** Passes the summarized index entries to the given consumer, in ascending order. */
+  void forEachEntry(final IndexEntryConsumer consumer) {
+    for (int i = 0; i < entryIndexes.size(); i++) {
+      consumer.accept(entryIndexes.getLong(i), entryAsqns.getLong(i), entryPositions.getInt(i));
+    }
+  }
+
+  long firstIndex() {
+    return firstIndex;
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  int lastPosition() {
+    return lastPosition;
+  }
+
+  long lastChecksum() {
+    return lastChecksum;
+  }
+
+  int endPosition() {
+    return endPosition;
+  }
+}
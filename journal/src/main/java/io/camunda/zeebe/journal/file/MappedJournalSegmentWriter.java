@@ -42,6 +42,7 @@ class MappedJournalSegmentWriter {
   private final JournalIndex index;
   private final long firstIndex;
   private JournalRecord lastEntry;
+  private int lastEntryPosition;
   private boolean isOpen = true;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
@@ -53,7 +54,8 @@ class MappedJournalSegmentWriter {
       final MappedByteBuffer buffer,
       final JournalSegment segment,
       final JournalIndex index,
-      final long lastWrittenIndex) {
+      final long lastWrittenIndex,
+      final JournalSegmentSummary summary) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
     recordUtil = new JournalRecordReaderUtil(serializer);
@@ -61,7 +63,9 @@ class MappedJournalSegmentWriter {
     firstIndex = segment.index();
     this.buffer = buffer;
     writeBuffer.wrap(buffer);
-    reset(0, lastWrittenIndex);
+    if (summary == null || !restore(summary)) {
+      reset(0, lastWrittenIndex);
+    }
   }
 
   public long getLastIndex() {
@@ -165,6 +169,7 @@ class MappedJournalSegmentWriter {
         serializer.readData(
             writeBuffer, startPosition + frameLength + metadataLength, recordLength);
     lastEntry = new PersistedJournalRecord(metadata, data);
+    lastEntryPosition = startPosition;
     index.index(lastEntry, startPosition);
   }
 
@@ -210,6 +215,7 @@ class MappedJournalSegmentWriter {
         // read version so that buffer's position is advanced
         FrameUtil.readVersion(buffer);
         lastEntry = recordUtil.read(buffer, nextIndex);
+        lastEntryPosition = position;
         nextIndex++;
         this.index.index(lastEntry, position);
         buffer.mark();
@@ -224,6 +230,66 @@ class MappedJournalSegmentWriter {
     }
   }
 
+  /**
+   * Restores the last entry and the index entries of the segment from its summary, instead of
+   * scanning it. The summary is only used if the segment's last record is still the one it
+   * describes, and is followed by no other record.
+   *
+   * @return true if the segment was restored; false if it must be scanned
+   */
+  private boolean restore(final JournalSegmentSummary summary) {
+    if (summary.firstIndex() != firstIndex
+        || summary.lastIndex() < firstIndex
+        || summary.lastPosition() < descriptorLength
+        || summary.endPosition() <= summary.lastPosition()
+        || summary.endPosition() > buffer.capacity()) {
+      return false;
+    }
+
+    try {
+      buffer.position(summary.lastPosition());
+      if (!FrameUtil.hasValidVersion(buffer)) {
+        return false;
+      }
+
+      FrameUtil.readVersion(buffer);
+      final JournalRecord record = recordUtil.read(buffer, summary.lastIndex());
+      if (record.checksum() != summary.lastChecksum()
+          || buffer.position() != summary.endPosition()
+          || FrameUtil.hasValidVersion(buffer)) {
+        return false;
+      }
+
+      lastEntry = record;
+    } catch (final BufferUnderflowException | CorruptedLogException | InvalidIndex e) {
+      return false;
+    }
+
+    lastEntryPosition = summary.lastPosition();
+    summary.forEachEntry(index::restore);
+    return true;
+  }
+
+  /**
+   * Summarizes the segment, such that it doesn't need to be scanned when it's loaded again. Must
+   * only be called once nothing is appended to the segment anymore.
+   *
+   * @return the summary of the segment, or null if it's empty
+   */
+  JournalSegmentSummary summarize() {
+    if (lastEntry == null) {
+      return null;
+    }
+
+    return JournalSegmentSummary.of(
+        firstIndex,
+        lastEntry.index(),
+        lastEntryPosition,
+        lastEntry.checksum(),
+        buffer.position(),
+        index);
+  }
+
   private void handleChecksumMismatch(
       final CorruptedLogException e,
       final long nextIndex,
@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates and maps the file of the next segment on a background thread, such that rolling over to a
+ * new segment doesn't block the writer on file system operations.
+ *
+ * <p>The segment is preallocated in a separate file, which is not recognized as a segment. Only
+ * once it's used, the file is renamed to the segment file and its descriptor is written. The rename
+ * is not durable until the journal's directory is flushed, which the journal must do before the
+ * entries of the segment are flushed.
+ *
+ * <p>Only a single segment is preallocated at a time. This class is not thread-safe, and must only
+ * be used by the journal's writer.
+ */
+final class SegmentPreallocator implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentPreallocator.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final String name;
+  private final File directory;
+  private final int maxSegmentSize;
+  private final ExecutorService executor;
+  private CompletableFuture<PreallocatedSegment> nextSegment;
+
+  SegmentPreallocator(final String name, final File directory, final int maxSegmentSize) {
+    this.name = name;
+    this.directory = directory;
+    this.maxSegmentSize = maxSegmentSize;
+    executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              final var thread = new Thread(runnable, "journal-segment-preallocator-" + name);
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Starts preallocating the segment with the given id in the background, unless it's already
+   * preallocated. A previously preallocated segment with a different id is discarded.
+   *
+   * @param id the id of the segment to preallocate
+   */
+  void preallocate(final long id) {
+    if (nextSegment != null) {
+      final var segment = nextSegment.getNow(null);
+      if (segment != null && segment.id == id) {
+        return;
+      }
+      discard();
+    }
+
+    final var file = JournalSegmentFile.createPreallocatedSegmentFile(name, directory, id);
+    nextSegment = CompletableFuture.supplyAsync(() -> allocate(id, file), executor);
+  }
+
+  /**
+   * Takes the preallocated segment with the given id, waiting for its allocation to complete if
+   * necessary.
+   *
+   * @param id the id of the segment to take
+   * @return the preallocated segment, or {@code null} if the segment with the given id was not
+   *     preallocated
+   */
+  PreallocatedSegment take(final long id) {
+    if (nextSegment == null) {
+      return null;
+    }
+
+    final PreallocatedSegment segment;
+    try {
+      segment = nextSegment.join();
+    } catch (final CompletionException e) {
+      LOG.warn("Failed to preallocate segment {} of journal {}", id, name, e.getCause());
+      nextSegment = null;
+      return null;
+    }
+
+    if (segment.id != id) {
+      discard();
+      return null;
+    }
+
+    nextSegment = null;
+    return segment;
+  }
+
+  /** @return true if the next segment is preallocated and can be taken without waiting */
+  boolean isReady(final long id) {
+    if (nextSegment == null || !nextSegment.isDone() || nextSegment.isCompletedExceptionally()) {
+      return false;
+    }
+    return nextSegment.join().id == id;
+  }
+
+  /** Discards the preallocated segment, if any, and deletes its file. */
+  void discard() {
+    if (nextSegment != null) {
+      nextSegment.thenAccept(PreallocatedSegment::delete);
+      nextSegment = null;
+    }
+  }
+
+  @Override
+  public void close() {
+    discard();
+    executor.shutdown();
+    try {
+      // waits until the discarded segment is deleted
+      if (!executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        LOG.warn("Expected to close the segment preallocator of journal {} in time", name);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private PreallocatedSegment allocate(final long id, final File file) {
+    try (final var channel =
+        FileChannel.open(
+            file.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      final var buffer = channel.map(MapMode.READ_WRITE, 0, maxSegmentSize);
+      buffer.order(ENDIANNESS);
+      return new PreallocatedSegment(id, file, buffer);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** A segment file which is created and mapped, but has no descriptor yet. */
+  static final class PreallocatedSegment {
+    private final long id;
+    private final File file;
+    private final MappedByteBuffer buffer;
+
+    private PreallocatedSegment(final long id, final File file, final MappedByteBuffer buffer) {
+      this.id = id;
+      this.file = file;
+      this.buffer = buffer;
+    }
+
+    /**
+     * Renames the preallocated file to the given segment file, and returns its mapped buffer.
+     *
+     * @param segmentFile the file of the segment
+     * @return the mapped buffer of the segment
+     */
+    MappedByteBuffer moveTo(final File segmentFile) {
+      try {
+        Files.move(file.toPath(), segmentFile.toPath());
+      } catch (final IOException e) {
+        delete();
+        throw new JournalException(
+            String.format("Failed to use preallocated segment %s as %s", file, segmentFile), e);
+      }
+      return buffer;
+    }
+
+    private void delete() {
+      IoUtil.unmap(buffer);
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (final IOException e) {
+        LOG.warn(
+            "Could not delete preallocated segment {}. This can lead to increased disk usage.",
+            file,
+            e);
+      }
+    }
+  }
+}
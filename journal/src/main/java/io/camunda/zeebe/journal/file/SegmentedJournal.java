@@ -77,6 +77,9 @@ public final class SegmentedJournal implements Journal {
   private final SegmentedJournalWriter writer;
   private final long lastWrittenIndex;
   private final StampedLock rwlock = new StampedLock();
+  private final SegmentPreallocator preallocator;
+  // set when a segment file was created without flushing the directory afterwards
+  private volatile boolean directoryFlushPending;
 
   public SegmentedJournal(
       final String name,
@@ -84,7 +87,8 @@ public final class SegmentedJournal implements Journal {
       final int maxSegmentSize,
       final long minFreeSpace,
       final JournalIndex journalIndex,
-      final long lastWrittenIndex) {
+      final long lastWrittenIndex,
+      final boolean preallocateSegments) {
     this.name = checkNotNull(name, "name cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
     this.maxSegmentSize = maxSegmentSize;
@@ -92,8 +96,11 @@ public final class SegmentedJournal implements Journal {
     minFreeDiskSpace = minFreeSpace;
     this.journalIndex = journalIndex;
     this.lastWrittenIndex = lastWrittenIndex;
+    preallocator =
+        preallocateSegments ? new SegmentPreallocator(name, directory, maxSegmentSize) : null;
     open();
     writer = new SegmentedJournalWriter(this);
+    preallocateNextSegment();
   }
 
   /**
@@ -206,6 +213,7 @@ public final class SegmentedJournal implements Journal {
   @Override
   public void flush() {
     writer.flush();
+    flushDirectoryIfPending();
   }
 
   @Override
@@ -236,6 +244,10 @@ public final class SegmentedJournal implements Journal {
             });
     currentSegment = null;
     open = false;
+
+    if (preallocator != null) {
+      preallocator.close();
+    }
   }
 
   /** Opens the segments. */
@@ -342,6 +354,7 @@ public final class SegmentedJournal implements Journal {
     currentSegment = createSegment(descriptor);
     segments.put(index, currentSegment);
     journalMetrics.incSegmentCount();
+    preallocateNextSegment();
     return currentSegment;
   }
 
@@ -385,10 +398,11 @@ public final class SegmentedJournal implements Journal {
             .withMaxSegmentSize(maxSegmentSize)
             .build();
 
-    currentSegment = createSegment(descriptor);
+    currentSegment = createNextSegment(descriptor);
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
+    preallocateNextSegment();
     return currentSegment;
   }
 
@@ -435,6 +449,7 @@ public final class SegmentedJournal implements Journal {
     journalMetrics.decSegmentCount();
     segment.delete();
     resetCurrentSegment();
+    preallocateNextSegment();
   }
 
   /**
@@ -453,7 +468,9 @@ public final class SegmentedJournal implements Journal {
 
       try {
         log.debug("Found segment file: {}", file.getName());
-        final JournalSegment segment = loadExistingSegment(file);
+        // only the last segment may still be written to, the others are restored from their
+        // summary if possible
+        final JournalSegment segment = loadExistingSegment(file, i < files.size() - 1);
 
         if (i > 0) {
           checkForIndexGaps(segments.get(i - 1), segment);
@@ -505,6 +522,7 @@ public final class SegmentedJournal implements Journal {
       final File file = files.get(i);
       try {
         Files.delete(file.toPath());
+        Files.deleteIfExists(new JournalSegmentFile(file).summaryFile().toPath());
       } catch (final IOException e) {
         throw new JournalException(
             String.format(
@@ -536,9 +554,7 @@ public final class SegmentedJournal implements Journal {
 
   private void deleteDeferredFiles() {
     try (final DirectoryStream<Path> segmentsToDelete =
-        Files.newDirectoryStream(
-            directory.toPath(),
-            path -> JournalSegmentFile.isDeletedSegmentFile(name, path.getFileName().toString()))) {
+        Files.newDirectoryStream(directory.toPath(), this::isDeferredFile)) {
       segmentsToDelete.forEach(this::deleteDeferredFile);
     } catch (final IOException e) {
       log.warn(
@@ -548,6 +564,18 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  /**
+   * Returns true for files marked for deletion, for preallocated segments which were unused, and
+   * for summaries of segments which don't exist anymore.
+   */
+  private boolean isDeferredFile(final Path path) {
+    final var fileName = path.getFileName().toString();
+    return JournalSegmentFile.isDeletedSegmentFile(name, fileName)
+        || JournalSegmentFile.isPreallocatedSegmentFile(name, fileName)
+        || (JournalSegmentFile.isSummaryFile(name, fileName)
+            && !Files.exists(path.resolveSibling(JournalSegmentFile.getSegmentFileName(fileName))));
+  }
+
   private void deleteDeferredFile(final Path segmentFileToDelete) {
     try {
       Files.deleteIfExists(segmentFileToDelete);
@@ -647,6 +675,56 @@ public final class SegmentedJournal implements Journal {
     rwlock.unlockRead(stamp);
   }
 
+  private void preallocateNextSegment() {
+    if (preallocator != null) {
+      preallocator.preallocate(getLastSegment().id() + 1);
+    }
+  }
+
+  private void flushDirectoryIfPending() {
+    if (directoryFlushPending) {
+      try {
+        FileUtil.flushDirectory(directory.toPath());
+      } catch (final IOException e) {
+        throw new JournalException(
+            String.format("Failed to flush journal directory %s", directory), e);
+      }
+      directoryFlushPending = false;
+    }
+  }
+
+  /**
+   * Creates the segment to roll over to, using the preallocated segment if possible. If it is not
+   * allocated yet, the writer stalls until it is.
+   */
+  private JournalSegment createNextSegment(final JournalSegmentDescriptor descriptor) {
+    final var segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
+    if (preallocator == null || segmentFile.exists()) {
+      // an existing file is only overwritten if it was not written to, which createSegment checks
+      return createSegment(descriptor);
+    }
+
+    final var stallTimer =
+        preallocator.isReady(descriptor.id()) ? null : journalMetrics.startSegmentRolloverStall();
+    try {
+      final var preallocatedSegment = preallocator.take(descriptor.id());
+      if (preallocatedSegment == null) {
+        return createSegment(descriptor);
+      }
+
+      final var mappedSegment = preallocatedSegment.moveTo(segmentFile);
+      descriptor.copyTo(mappedSegment);
+      // the segment file and its descriptor are made durable with the next flush of the journal,
+      // which must happen anyway before any entry of the segment is acknowledged
+      directoryFlushPending = true;
+      return loadSegment(segmentFile, mappedSegment, descriptor);
+    } finally {
+      if (stallTimer != null) {
+        stallTimer.observeDuration();
+      }
+    }
+  }
+
   private JournalSegment createSegment(final JournalSegmentDescriptor descriptor) {
     final var segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
     final MappedByteBuffer mappedSegment;
@@ -682,7 +760,7 @@ public final class SegmentedJournal implements Journal {
     return loadSegment(segmentFile, mappedSegment, descriptor);
   }
 
-  private JournalSegment loadExistingSegment(final File segmentFile) {
+  private JournalSegment loadExistingSegment(final File segmentFile, final boolean useSummary) {
     final var descriptor = readDescriptor(segmentFile);
     final MappedByteBuffer mappedSegment;
 
@@ -693,13 +771,27 @@ public final class SegmentedJournal implements Journal {
           String.format("Failed to load existing segment %s", segmentFile), e);
     }
 
-    return loadSegment(segmentFile, mappedSegment, descriptor);
+    final JournalSegmentFile file = new JournalSegmentFile(segmentFile);
+    final JournalSegmentSummary summary = useSummary ? readSummary(file) : null;
+    return new JournalSegment(
+        file, descriptor, mappedSegment, lastWrittenIndex, journalIndex, summary);
+  }
+
+  private JournalSegmentSummary readSummary(final JournalSegmentFile segmentFile) {
+    final var summaryFile = segmentFile.summaryFile();
+    try {
+      return JournalSegmentSummary.read(summaryFile);
+    } catch (final IOException | IllegalStateException e) {
+      log.debug("Could not read summary {}, scanning segment instead", summaryFile, e);
+      return null;
+    }
   }
 
   private JournalSegment loadSegment(
       final File file, final MappedByteBuffer buffer, final JournalSegmentDescriptor descriptor) {
     final JournalSegmentFile segmentFile = new JournalSegmentFile(file);
-    return new JournalSegment(segmentFile, descriptor, buffer, lastWrittenIndex, journalIndex);
+    return new JournalSegment(
+        segmentFile, descriptor, buffer, lastWrittenIndex, journalIndex, null);
   }
 
   private MappedByteBuffer mapNewSegment(
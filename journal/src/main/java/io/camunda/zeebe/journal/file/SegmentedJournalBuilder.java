@@ -29,6 +29,7 @@ public class SegmentedJournalBuilder {
   private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENTS = false;
 
   protected String name = DEFAULT_NAME;
   protected File directory = new File(DEFAULT_DIRECTORY);
@@ -37,6 +38,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private long lastWrittenIndex = -1L;
+  private boolean preallocateSegments = DEFAULT_PREALLOCATE_SEGMENTS;
 
   protected SegmentedJournalBuilder() {}
 
@@ -128,9 +130,27 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the next segment should be preallocated in the background, such that rolling over
+   * to a new segment doesn't wait for the segment file to be created.
+   *
+   * @param preallocateSegments whether to preallocate the next segment
+   * @return the storage builder
+   */
+  public SegmentedJournalBuilder withPreallocateSegments(final boolean preallocateSegments) {
+    this.preallocateSegments = preallocateSegments;
+    return this;
+  }
+
   public SegmentedJournal build() {
     final JournalIndex journalIndex = new SparseJournalIndex(journalIndexDensity);
     return new SegmentedJournal(
-        name, directory, maxSegmentSize, freeDiskSpace, journalIndex, lastWrittenIndex);
+        name,
+        directory,
+        maxSegmentSize,
+        freeDiskSpace,
+        journalIndex,
+        lastWrittenIndex,
+        preallocateSegments);
   }
 }
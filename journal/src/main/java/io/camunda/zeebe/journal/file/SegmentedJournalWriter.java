@@ -93,7 +93,10 @@ class SegmentedJournalWriter {
       currentWriter = currentSegment.writer();
     }
 
-    // Truncate the current index.
+    // Truncate the current index. The segment's summary, if any, doesn't describe it anymore.
+    if (index < currentWriter.getLastIndex()) {
+      currentSegment.deleteSummary();
+    }
     currentWriter.truncate(index);
   }
 
@@ -107,6 +110,7 @@ class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentWriter.flush();
+    currentSegment.persistSummary();
     currentSegment = journal.getNextSegment();
     currentWriter = currentSegment.writer();
   }
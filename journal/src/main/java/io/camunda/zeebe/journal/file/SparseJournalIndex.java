@@ -16,17 +16,34 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
+/**
+ * Indexes every {@code density}-th record of the journal.
+ *
+ * <p>The entries are kept in primitive arrays which are sorted by index, as records are indexed in
+ * the order in which they are appended, and are looked up by binary search. There is one set of
+ * arrays mapping indexes to positions, and one mapping indexes to asqns, which only contains the
+ * records with an asqn; since the asqns grow with the index, it's sorted by asqn as well.
+ *
+ * <p>Records are indexed by the journal writer while readers look up entries concurrently. New
+ * entries are published by updating the volatile entry count after the entry, and a grown array,
+ * were written. All other modifications must be exclusive, i.e. done while holding the journal's
+ * write lock.
+ */
 class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final TreeMap<Long, Integer> indexToPosition = new TreeMap<>();
-  private final TreeMap<Long, Long> asqnToIndex = new TreeMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final TreeMap<Long, Long> indexToAsqn = new TreeMap<>();
+
+  private volatile long[] indexes = new long[INITIAL_CAPACITY];
+  private volatile int[] positions = new int[INITIAL_CAPACITY];
+  private volatile int positionCount;
+
+  private volatile long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private volatile long[] asqns = new long[INITIAL_CAPACITY];
+  private volatile int asqnCount;
 
   public SparseJournalIndex(final int density) {
     this.density = density;
@@ -36,19 +53,51 @@ class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
-      }
+      restore(index, indexedEntry.asqn(), position);
+    }
+  }
+
+  @Override
+  public void restore(final long index, final long asqn, final int position) {
+    final int count = positionCount;
+    if (count > 0 && indexes[count - 1] >= index) {
+      // the record replaces records which were truncated
+      deleteAfter(index - 1);
+    }
+
+    addPosition(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      addAsqn(index, asqn);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryConsumer consumer) {
+    final int count = positionCount;
+    final long[] currentIndexes = indexes;
+    final int[] currentPositions = positions;
+    final long[] currentAsqnIndexes = asqnIndexes;
+    final long[] currentAsqns = asqns;
+    final int currentAsqnCount = asqnCount;
+
+    for (int entry = floor(currentIndexes, count, fromIndex - 1) + 1;
+        entry < count && currentIndexes[entry] <= toIndex;
+        entry++) {
+      final long index = currentIndexes[entry];
+      final int asqnEntry = Arrays.binarySearch(currentAsqnIndexes, 0, currentAsqnCount, index);
+      final long asqn = asqnEntry >= 0 ? currentAsqns[asqnEntry] : SegmentedJournal.ASQN_IGNORE;
+      consumer.accept(index, asqn, currentPositions[entry]);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final int count = positionCount;
+    final long[] currentIndexes = indexes;
+    final int[] currentPositions = positions;
+
+    final int entry = floor(currentIndexes, count, index);
+    return entry >= 0 ? new IndexInfo(currentIndexes[entry], currentPositions[entry]) : null;
   }
 
   @Override
@@ -58,45 +107,83 @@ class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+    final int count = asqnCount;
+    final long[] currentIndexes = asqnIndexes;
+    final long[] currentAsqns = asqns;
+
+    final int entry = floor(currentAsqns, count, asqn);
+    if (entry < 0) {
+      return null;
     }
-    return null;
+
+    if (currentIndexes[entry] <= indexUpperBound) {
+      return currentIndexes[entry];
+    }
+
+    final int boundedEntry = floor(currentIndexes, count, indexUpperBound);
+    return boundedEntry >= 0 ? currentIndexes[boundedEntry] : null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+    positionCount = floor(indexes, positionCount, index) + 1;
+    asqnCount = floor(asqnIndexes, asqnCount, index) + 1;
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final int firstPosition = floor(indexes, positionCount, index - 1) + 1;
+    if (firstPosition > 0) {
+      final int count = positionCount - firstPosition;
+      System.arraycopy(indexes, firstPosition, indexes, 0, count);
+      System.arraycopy(positions, firstPosition, positions, 0, count);
+      positionCount = count;
+    }
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    // keeps the asqn of the last record before the index, such that asqns up to the first record
+    // are still found
+    final int firstAsqn = floor(asqnIndexes, asqnCount, index);
+    if (firstAsqn > 0) {
+      final int count = asqnCount - firstAsqn;
+      System.arraycopy(asqnIndexes, firstAsqn, asqnIndexes, 0, count);
+      System.arraycopy(asqns, firstAsqn, asqns, 0, count);
+      asqnCount = count;
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    positionCount = 0;
+    asqnCount = 0;
+  }
+
+  private void addPosition(final long index, final int position) {
+    final int count = positionCount;
+    if (count == indexes.length) {
+      indexes = Arrays.copyOf(indexes, count * 2);
+      positions = Arrays.copyOf(positions, count * 2);
+    }
+
+    indexes[count] = index;
+    positions[count] = position;
+    positionCount = count + 1;
+  }
+
+  private void addAsqn(final long index, final long asqn) {
+    final int count = asqnCount;
+    if (count == asqnIndexes.length) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, count * 2);
+      asqns = Arrays.copyOf(asqns, count * 2);
+    }
+
+    asqnIndexes[count] = index;
+    asqns[count] = asqn;
+    asqnCount = count + 1;
+  }
+
+  /** @return the position of the greatest value less than or equal to the key, or -1 if none */
+  private static int floor(final long[] values, final int count, final long key) {
+    final int position = Arrays.binarySearch(values, 0, count, key);
+    return position >= 0 ? position : -position - 2;
   }
 }
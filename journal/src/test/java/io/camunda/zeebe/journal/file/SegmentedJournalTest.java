@@ -26,7 +26,10 @@ import io.camunda.zeebe.journal.file.record.SBESerializer;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -650,6 +653,204 @@ class SegmentedJournalTest {
     assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
   }
 
+  @Test
+  void shouldRollOverToPreallocatedSegments() {
+    // given
+    final var journal = openPreallocatingJournal();
+
+    // when
+    final var records = new ArrayList<JournalRecord>();
+    for (int i = 0; i < 5; i++) {
+      records.add(JournalTest.copyRecord(journal.append(data)));
+    }
+
+    // then
+    final var reader = journal.openReader();
+    for (final JournalRecord record : records) {
+      assertThat(reader.next()).isEqualTo(record);
+    }
+    assertThat(reader.hasNext()).isFalse();
+    assertThat(
+            directory
+                .resolve("data")
+                .toFile()
+                .listFiles(file -> JournalSegmentFile.isSegmentFile(JOURNAL_NAME, file.getName())))
+        .hasSize(5);
+    journal.close();
+  }
+
+  @Test
+  void shouldRecoverEntriesOfPreallocatedSegments() {
+    // given
+    var journal = openPreallocatingJournal();
+    final var records = new ArrayList<JournalRecord>();
+    for (int i = 0; i < 3; i++) {
+      records.add(JournalTest.copyRecord(journal.append(data)));
+    }
+    journal.flush();
+    journal.close();
+
+    // when
+    journal = openPreallocatingJournal();
+
+    // then
+    final var reader = journal.openReader();
+    for (final JournalRecord record : records) {
+      assertThat(reader.next()).isEqualTo(record);
+    }
+    assertThat(reader.hasNext()).isFalse();
+    journal.close();
+  }
+
+  @Test
+  void shouldDeleteUnusedPreallocatedSegments() throws Exception {
+    // given
+    final File dataDirectory = directory.resolve("data").toFile();
+    assertThat(dataDirectory.mkdirs()).isTrue();
+    final File leftOver =
+        JournalSegmentFile.createPreallocatedSegmentFile(JOURNAL_NAME, dataDirectory, 5);
+    assertThat(leftOver.createNewFile()).isTrue();
+
+    // when
+    final var journal = openPreallocatingJournal();
+    journal.append(data);
+    journal.close();
+
+    // then
+    assertThat(leftOver).doesNotExist();
+    assertThat(
+            dataDirectory.listFiles(
+                file -> JournalSegmentFile.isPreallocatedSegmentFile(JOURNAL_NAME, file.getName())))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldAppendAfterTruncatingPreallocatedSegments() {
+    // given
+    final var journal = openPreallocatingJournal();
+    final var firstRecord = JournalTest.copyRecord(journal.append(data));
+    for (int i = 0; i < 3; i++) {
+      journal.append(data);
+    }
+
+    // when
+    journal.deleteAfter(firstRecord.index());
+    final var secondRecord = JournalTest.copyRecord(journal.append(data));
+    final var thirdRecord = JournalTest.copyRecord(journal.append(data));
+
+    // then
+    final var reader = journal.openReader();
+    assertThat(reader.next()).isEqualTo(firstRecord);
+    assertThat(reader.next()).isEqualTo(secondRecord);
+    assertThat(reader.next()).isEqualTo(thirdRecord);
+    assertThat(reader.hasNext()).isFalse();
+    assertThat(secondRecord.index()).isEqualTo(firstRecord.index() + 1);
+    journal.close();
+  }
+
+  @Test
+  void shouldRestoreFullSegmentsFromSummaryOnRestart() {
+    // given
+    var journal = openJournal(2);
+    final var records = new ArrayList<JournalRecord>();
+    for (int i = 0; i < 5; i++) {
+      records.add(JournalTest.copyRecord(journal.append(i + 1, data)));
+    }
+    final var indexBeforeClose = journal.getJournalIndex();
+    final var positionsBeforeClose = new ArrayList<Integer>();
+    for (final JournalRecord record : records) {
+      positionsBeforeClose.add(indexBeforeClose.lookup(record.index()).position());
+    }
+    journal.close();
+
+    // when
+    journal = openJournal(2);
+
+    // then
+    final File dataDirectory = directory.resolve("data").toFile();
+    assertThat(
+            dataDirectory.listFiles(
+                file -> JournalSegmentFile.isSummaryFile(JOURNAL_NAME, file.getName())))
+        .extracting(File::getName)
+        .containsExactlyInAnyOrder("journal-1.log.summary", "journal-2.log.summary");
+
+    assertThat(journal.getLastIndex()).isEqualTo(records.get(4).index());
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    for (int i = 0; i < records.size(); i++) {
+      assertThat(indexAfterRestart.lookup(records.get(i).index()).position())
+          .isEqualTo(positionsBeforeClose.get(i));
+    }
+    assertThat(indexAfterRestart.lookupAsqn(3)).isEqualTo(records.get(2).index());
+
+    final var reader = journal.openReader();
+    for (final JournalRecord record : records) {
+      assertThat(reader.next()).isEqualTo(record);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldScanSegmentIfSummaryIsCorrupted() throws Exception {
+    // given
+    var journal = openJournal(2);
+    final var records = new ArrayList<JournalRecord>();
+    for (int i = 0; i < 3; i++) {
+      records.add(JournalTest.copyRecord(journal.append(data)));
+    }
+    journal.close();
+    final File summary =
+        JournalSegmentFile.createSegmentFile(JOURNAL_NAME, directory.resolve("data").toFile(), 1)
+            .toPath()
+            .resolveSibling("journal-1.log.summary")
+            .toFile();
+    assertThat(summary).exists();
+    Files.write(summary.toPath(), new byte[] {1, 2, 3, 4}, StandardOpenOption.APPEND);
+
+    // when
+    journal = openJournal(2);
+
+    // then
+    assertThat(journal.getLastIndex()).isEqualTo(records.get(2).index());
+    final var reader = journal.openReader();
+    for (final JournalRecord record : records) {
+      assertThat(reader.next()).isEqualTo(record);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldNotRestoreTruncatedSegmentFromSummary() {
+    // given
+    var journal = openJournal(2);
+    for (int i = 0; i < 5; i++) {
+      journal.append(data);
+    }
+    journal.deleteAfter(3);
+    final var otherData = new UnsafeBuffer("other".getBytes(StandardCharsets.UTF_8));
+    final var appendedRecord = JournalTest.copyRecord(journal.append(otherData));
+    journal.close();
+
+    // when
+    journal = openJournal(2);
+
+    // then
+    assertThat(journal.getLastIndex()).isEqualTo(appendedRecord.index());
+    final var reader = journal.openReader();
+    reader.seek(appendedRecord.index());
+    assertThat(reader.next()).isEqualTo(appendedRecord);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  private SegmentedJournal openPreallocatingJournal() {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.resolve("data").toFile())
+        .withMaxSegmentSize(entrySize + JournalSegmentDescriptor.getEncodingLength())
+        .withJournalIndexDensity(journalIndexDensity)
+        .withName(JOURNAL_NAME)
+        .withPreallocateSegments(true)
+        .build();
+  }
+
   private SegmentedJournal openJournal(final float entriesPerSegment) {
     return openJournal(entriesPerSegment, entrySize);
   }
@@ -238,4 +238,62 @@ class SparseJournalIndexTest {
     assertEquals(4, index.lookupAsqn(Long.MAX_VALUE, 5));
     assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
   }
+
+  @Test
+  void shouldFindEntriesBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    for (int i = 1; i <= 1_000; i++) {
+      assertEquals(i, index.lookup(i).index());
+      assertEquals(i * 2, index.lookup(i).position());
+      assertEquals(i, index.lookupAsqn(i * 10L + 5));
+    }
+    assertEquals(1_000, index.lookup(Long.MAX_VALUE).index());
+  }
+
+  @Test
+  void shouldReplaceTruncatedEntriesWhenIndexingAgain() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(6, 60), 12);
+
+    // when - the entry at index 4 is written again, without the index being truncated
+    index.index(asJournalRecord(4, 45), 9);
+
+    // then
+    assertEquals(4, index.lookup(6).index());
+    assertEquals(9, index.lookup(6).position());
+    assertEquals(4, index.lookupAsqn(60));
+    assertEquals(2, index.lookupAsqn(44));
+  }
+
+  @Test
+  void shouldFindEntriesAfterCompaction() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(2);
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteUntil(5);
+    index.index(asJournalRecord(12, 120), 24);
+
+    // then
+    assertNull(index.lookup(5));
+    assertEquals(6, index.lookup(7).index());
+    assertEquals(12, index.lookup(12).index());
+    assertEquals(4, index.lookupAsqn(55));
+    assertEquals(8, index.lookupAsqn(85));
+    assertEquals(12, index.lookupAsqn(120));
+  }
 }
@@ -394,15 +394,25 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
   }
 
   public static BrokerInfo fromProperties(final Properties properties) {
-    final String property = properties.getProperty(BROKER_INFO_PROPERTY_NAME);
+    final String property = getEncodedProperty(properties);
     if (property != null) {
-      return readFromString(property);
+      return fromEncodedProperty(property);
     } else {
       return null;
     }
   }
 
-  private static BrokerInfo readFromString(final String property) {
+  /**
+   * Returns the broker info of the given member properties in its encoded form. It can be compared
+   * with a previously received one to detect changes without decoding it.
+   *
+   * @return the encoded broker info, or {@code null} if the properties contain none
+   */
+  public static String getEncodedProperty(final Properties properties) {
+    return properties.getProperty(BROKER_INFO_PROPERTY_NAME);
+  }
+
+  public static BrokerInfo fromEncodedProperty(final String property) {
     final byte[] bytes = BASE_64_DECODER.decode(property.getBytes(BASE_64_CHARSET));
 
     final BrokerInfo brokerInfo = new BrokerInfo();
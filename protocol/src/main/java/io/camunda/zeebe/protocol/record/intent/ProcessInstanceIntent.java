@@ -32,11 +32,12 @@ public enum ProcessInstanceIntent implements ProcessInstanceRelatedIntent {
 
   ACTIVATE_ELEMENT((short) 8),
   COMPLETE_ELEMENT((short) 9),
-  TERMINATE_ELEMENT((short) 10);
+  TERMINATE_ELEMENT((short) 10),
+  TERMINATE_CHILD_ELEMENTS((short) 11);
 
   private static final Set<ProcessInstanceIntent> PROCESS_INSTANCE_COMMANDS = EnumSet.of(CANCEL);
   private static final Set<ProcessInstanceIntent> BPMN_ELEMENT_COMMANDS =
-      EnumSet.of(ACTIVATE_ELEMENT, COMPLETE_ELEMENT, TERMINATE_ELEMENT);
+      EnumSet.of(ACTIVATE_ELEMENT, COMPLETE_ELEMENT, TERMINATE_ELEMENT, TERMINATE_CHILD_ELEMENTS);
 
   private final short value;
   private final boolean shouldBlacklist;
@@ -78,6 +79,8 @@ public enum ProcessInstanceIntent implements ProcessInstanceRelatedIntent {
         return COMPLETE_ELEMENT;
       case 10:
         return TERMINATE_ELEMENT;
+      case 11:
+        return TERMINATE_CHILD_ELEMENTS;
       default:
         return Intent.UNKNOWN;
     }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -35,6 +36,21 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of the given keys in a single batch, which is cheaper than looking them up
+   * one by one with {@link #get(DbKey)}. The keys are written before the lookup, so each key must
+   * be a separate instance.
+   *
+   * <p>The given visitor accepts the keys which exist in the column family together with their
+   * values, in the order of the given keys. Be aware that the given DbValue wraps the stored value
+   * and reflects the current visit. The DbValue should not be stored, since it will change his
+   * internal value during the visits.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which accepts the found key-value pairs
+   */
+  void multiGet(Collection<KeyType> keys, BiConsumer<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -34,4 +34,26 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Returns a transaction which collects its changes in a write batch and writes them to the
+   * database on commit. It's cheaper than {@link #getCurrentTransaction()}, because it doesn't
+   * detect conflicts with other transactions, so it must only be used while no other transaction
+   * writes the same keys, e.g. to replay events.
+   *
+   * <p>While the transaction is open, the operations of this context run in it. It can't be opened
+   * while another transaction of this context is open.
+   *
+   * @return the transaction object
+   * @throws IllegalStateException if another transaction of this context is open
+   */
+  ZeebeDbTransaction getCurrentWriteBatchTransaction();
+
+  /**
+   * Registers a listener which is notified whenever a transaction of this context is committed or
+   * rolled back.
+   *
+   * @param listener the listener to notify
+   */
+  void addTransactionListener(TransactionListener listener);
 }
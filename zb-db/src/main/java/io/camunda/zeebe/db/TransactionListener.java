@@ -0,0 +1,24 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified when a transaction of a {@link TransactionContext} ends. This allows to keep
+ * in-memory state, like caches of column family content, consistent with the database.
+ */
+public interface TransactionListener {
+
+  /** Called after the current transaction was committed successfully. */
+  default void onCommit() {}
+
+  /**
+   * Called after the current transaction was rolled back, or otherwise ended without being
+   * committed, such that all of its changes are discarded.
+   */
+  default void onRollback() {}
+}
@@ -11,6 +11,8 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Queue;
 import java.util.function.ObjIntConsumer;
 import org.agrona.DirectBuffer;
@@ -31,6 +33,7 @@ public class ColumnFamilyContext {
   private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
   private int keyLength;
   private final long columnFamilyPrefix;
+  private byte[][] multiGetKeys = new byte[0][];
 
   ColumnFamilyContext(final long columnFamilyPrefix) {
     this.columnFamilyPrefix = columnFamilyPrefix;
@@ -47,6 +50,34 @@ public class ColumnFamilyContext {
     keyLength += key.getLength();
   }
 
+  /**
+   * Writes the given keys into separate arrays of the exact key length, as expected by a multi-get.
+   * The arrays are reused by the next call if the keys have the same length, e.g. for fixed-size
+   * keys.
+   *
+   * @param keys the keys to write
+   * @return the written keys, in the order of the given keys
+   */
+  public byte[][] writeKeys(final Collection<? extends DbKey> keys) {
+    if (multiGetKeys.length != keys.size()) {
+      multiGetKeys = Arrays.copyOf(multiGetKeys, keys.size());
+    }
+
+    int index = 0;
+    for (final DbKey key : keys) {
+      writeKey(key);
+
+      byte[] keyArray = multiGetKeys[index];
+      if (keyArray == null || keyArray.length != keyLength) {
+        keyArray = new byte[keyLength];
+        multiGetKeys[index] = keyArray;
+      }
+      keyBuffer.getBytes(0, keyArray, 0, keyLength);
+      index++;
+    }
+    return multiGetKeys;
+  }
+
   public int getKeyLength() {
     return keyLength;
   }
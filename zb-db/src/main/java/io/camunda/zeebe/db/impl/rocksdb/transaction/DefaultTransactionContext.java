@@ -10,6 +10,7 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.RECOVERABLE_ERROR_CODES;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
@@ -20,15 +21,18 @@ import org.rocksdb.Status;
 public final class DefaultTransactionContext implements TransactionContext {
 
   private final ZeebeTransaction transaction;
+  private final ZeebeWriteBatchTransaction writeBatchTransaction;
 
-  DefaultTransactionContext(final ZeebeTransaction transaction) {
+  DefaultTransactionContext(
+      final ZeebeTransaction transaction, final ZeebeWriteBatchTransaction writeBatchTransaction) {
     this.transaction = transaction;
+    this.writeBatchTransaction = writeBatchTransaction;
   }
 
   @Override
   public void runInTransaction(final TransactionOperation operations) {
     try {
-      if (transaction.isInCurrentTransaction()) {
+      if (transaction.isInCurrentTransaction() || writeBatchTransaction.isInCurrentTransaction()) {
         operations.run();
       } else {
         runInNewTransaction(operations);
@@ -50,12 +54,35 @@ public final class DefaultTransactionContext implements TransactionContext {
 
   @Override
   public ZeebeDbTransaction getCurrentTransaction() {
+    if (writeBatchTransaction.isInCurrentTransaction()) {
+      return writeBatchTransaction;
+    }
+
     if (!transaction.isInCurrentTransaction()) {
       transaction.resetTransaction();
     }
     return transaction;
   }
 
+  @Override
+  public ZeebeDbTransaction getCurrentWriteBatchTransaction() {
+    if (transaction.isInCurrentTransaction()) {
+      throw new IllegalStateException(
+          "Expected to open a write batch transaction, but another transaction is still open.");
+    }
+
+    if (!writeBatchTransaction.isInCurrentTransaction()) {
+      writeBatchTransaction.resetTransaction();
+    }
+    return writeBatchTransaction;
+  }
+
+  @Override
+  public void addTransactionListener(final TransactionListener listener) {
+    transaction.addListener(listener);
+    writeBatchTransaction.addListener(listener);
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
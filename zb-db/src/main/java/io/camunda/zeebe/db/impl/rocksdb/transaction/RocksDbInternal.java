@@ -27,6 +27,7 @@ import org.rocksdb.RocksObject;
 import org.rocksdb.Status;
 import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatchWithIndex;
 
 public final class RocksDbInternal {
 
@@ -39,6 +40,10 @@ public final class RocksDbInternal {
   static Method getWithHandle;
   static Method removeWithHandle;
 
+  static Method batchPutWithHandle;
+  static Method batchGetWithHandle;
+  static Method batchRemoveWithHandle;
+
   static Method seekMethod;
 
   static {
@@ -58,6 +63,10 @@ public final class RocksDbInternal {
     getWithHandle();
     removeWithHandle();
 
+    batchPutWithHandle();
+    batchGetWithHandle();
+    batchRemoveWithHandle();
+
     seekWithHandle();
   }
 
@@ -98,6 +107,39 @@ public final class RocksDbInternal {
     removeWithHandle.setAccessible(true);
   }
 
+  //    final native void put(final long handle, final byte[] key, final int keyLen,
+  //      final byte[] value, final int valueLen, final long cfHandle)
+
+  private static void batchPutWithHandle() throws NoSuchMethodException {
+    batchPutWithHandle =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "put", Long.TYPE, byte[].class, Integer.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    batchPutWithHandle.setAccessible(true);
+  }
+
+  //    private native byte[] getFromBatchAndDB(final long handle, final long dbHandle,
+  //      final long readOptHandle, final byte[] key, final int keyLen, final long cfHandle)
+
+  private static void batchGetWithHandle() throws NoSuchMethodException {
+    batchGetWithHandle =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "getFromBatchAndDB",
+            Long.TYPE,
+            Long.TYPE,
+            Long.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Long.TYPE);
+    batchGetWithHandle.setAccessible(true);
+  }
+
+  private static void batchRemoveWithHandle() throws NoSuchMethodException {
+    batchRemoveWithHandle =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "delete", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    batchRemoveWithHandle.setAccessible(true);
+  }
+
   private static void seekWithHandle() throws NoSuchMethodException {
     seekMethod =
         RocksIterator.class.getDeclaredMethod("seek0", long.class, byte[].class, int.class);
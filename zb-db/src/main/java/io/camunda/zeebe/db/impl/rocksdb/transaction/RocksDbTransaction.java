@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.List;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksIterator;
+
+/**
+ * The operations of the column families on the current transaction of their context. Reading
+ * key-value pairs reflects the changes which are made in the transaction.
+ */
+interface RocksDbTransaction {
+
+  void put(long columnFamilyHandle, byte[] key, int keyLength, byte[] value, int valueLength)
+      throws Exception;
+
+  byte[] get(long columnFamilyHandle, long readOptionsHandle, byte[] key, int keyLength)
+      throws Exception;
+
+  byte[][] multiGet(
+      ReadOptions readOptions, List<ColumnFamilyHandle> columnFamilyHandles, byte[][] keys)
+      throws Exception;
+
+  void delete(long columnFamilyHandle, byte[] key, int keyLength) throws Exception;
+
+  RocksIterator newIterator(ReadOptions options, ColumnFamilyHandle handle);
+}
@@ -16,5 +16,5 @@ interface TransactionConsumer {
    * @param transaction the to consumed transaction
    * @throws Exception if an unexpected exception occurs, on opening a new transaction for example
    */
-  void run(ZeebeTransaction transaction) throws Exception;
+  void run(RocksDbTransaction transaction) throws Exception;
 }
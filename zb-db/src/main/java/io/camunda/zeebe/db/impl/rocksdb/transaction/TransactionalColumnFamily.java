@@ -14,10 +14,15 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -34,6 +39,10 @@ class TransactionalColumnFamily<
   private final KeyType keyInstance;
   private final ColumnFamilyContext columnFamilyContext;
 
+  // a multi-get expects a column family handle per key, all keys are in the default column family
+  private final List<ColumnFamilyHandle> multiGetHandles = new ArrayList<>();
+  private byte[][] multiGetValues;
+
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
       final ColumnFamilyNames columnFamily,
@@ -50,7 +59,7 @@ class TransactionalColumnFamily<
   private void ensureInOpenTransaction(
       final TransactionContext context, final TransactionConsumer operation) {
     context.runInTransaction(
-        () -> operation.run((ZeebeTransaction) context.getCurrentTransaction()));
+        () -> operation.run((RocksDbTransaction) context.getCurrentTransaction()));
   }
 
   @Override
@@ -97,6 +106,41 @@ class TransactionalColumnFamily<
     return columnFamilyContext.getValueView();
   }
 
+  @Override
+  public void multiGet(
+      final Collection<KeyType> keys, final BiConsumer<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    while (multiGetHandles.size() < keys.size()) {
+      multiGetHandles.add(transactionDb.getDefaultHandle());
+    }
+
+    ensureInOpenTransaction(
+        context,
+        transaction ->
+            multiGetValues =
+                transaction.multiGet(
+                    transactionDb.getDefaultReadOptions(),
+                    multiGetHandles.subList(0, keys.size()),
+                    columnFamilyContext.writeKeys(keys)));
+
+    final byte[][] values = multiGetValues;
+    multiGetValues = null;
+
+    final Iterator<KeyType> keyIterator = keys.iterator();
+    for (final byte[] value : values) {
+      final KeyType key = keyIterator.next();
+      columnFamilyContext.wrapValueView(value);
+      final DirectBuffer valueBuffer = columnFamilyContext.getValueView();
+      if (valueBuffer != null) {
+        valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+        visitor.accept(key, valueInstance);
+      }
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     forEach(context, consumer);
@@ -195,7 +239,7 @@ class TransactionalColumnFamily<
   }
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
-    final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
+    final var currentTransaction = (RocksDbTransaction) context.getCurrentTransaction();
     return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
   }
 
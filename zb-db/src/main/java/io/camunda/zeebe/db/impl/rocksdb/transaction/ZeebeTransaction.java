@@ -9,21 +9,27 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
+public class ZeebeTransaction implements ZeebeDbTransaction, RocksDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
+  // true from the start of a transaction until the listeners are notified about its end
+  private boolean isTransactionPending;
   private Transaction transaction;
 
   public ZeebeTransaction(
@@ -37,6 +43,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
   public void put(
       final long columnFamilyHandle,
       final byte[] key,
@@ -48,6 +55,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
         transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
   }
 
+  @Override
   public byte[] get(
       final long columnFamilyHandle,
       final long readOptionsHandle,
@@ -59,19 +67,38 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
             transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
   }
 
+  @Override
+  public byte[][] multiGet(
+      final ReadOptions readOptions,
+      final List<ColumnFamilyHandle> columnFamilyHandles,
+      final byte[][] keys)
+      throws Exception {
+    return transaction.multiGet(readOptions, columnFamilyHandles, keys);
+  }
+
+  @Override
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     RocksDbInternal.removeWithHandle.invoke(
         transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
   }
 
+  @Override
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
 
   void resetTransaction() {
+    // a transaction which is renewed before it was committed discards its changes
+    notifyRollback();
+
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    isTransactionPending = true;
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
   }
 
   boolean isInCurrentTransaction() {
@@ -120,11 +147,24 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+
+    if (isTransactionPending) {
+      isTransactionPending = false;
+      listeners.forEach(TransactionListener::onCommit);
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.rollback();
+    notifyRollback();
+  }
+
+  private void notifyRollback() {
+    if (isTransactionPending) {
+      isTransactionPending = false;
+      listeners.forEach(TransactionListener::onRollback);
+    }
   }
 
   public void close() {
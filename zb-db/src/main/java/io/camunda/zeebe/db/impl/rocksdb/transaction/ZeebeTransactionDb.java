@@ -103,6 +103,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return defaultHandle;
   }
 
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
@@ -149,7 +153,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
     final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
     closables.add(zeebeTransaction);
-    return new DefaultTransactionContext(zeebeTransaction);
+    final var writeBatchTransaction =
+        new ZeebeWriteBatchTransaction(optimisticTransactionDB, defaultWriteOptions);
+    closables.add(writeBatchTransaction);
+    return new DefaultTransactionContext(zeebeTransaction, writeBatchTransaction);
   }
 
   @Override
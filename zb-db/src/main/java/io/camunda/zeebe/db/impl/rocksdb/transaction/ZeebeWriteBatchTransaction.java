@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.db.TransactionOperation;
+import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A transaction which collects its changes in a {@link WriteBatchWithIndex}, and writes them
+ * atomically to the database on commit. Reads reflect the changes of the batch.
+ *
+ * <p>Unlike {@link ZeebeTransaction}, it doesn't track the keys which were read or written to
+ * detect conflicts on commit, which makes it cheaper. It must only be used if no other transaction
+ * writes the same keys concurrently, e.g. to replay events.
+ */
+class ZeebeWriteBatchTransaction implements ZeebeDbTransaction, RocksDbTransaction, AutoCloseable {
+
+  private final RocksDB database;
+  private final long databaseNativeHandle;
+  private final WriteOptions writeOptions;
+  private final List<TransactionListener> listeners = new ArrayList<>();
+
+  // allocated when the transaction is opened for the first time, most contexts never open it
+  private WriteBatchWithIndex batch;
+  private long batchNativeHandle;
+
+  private boolean inCurrentTransaction;
+  // true from the start of a transaction until the listeners are notified about its end
+  private boolean isTransactionPending;
+
+  ZeebeWriteBatchTransaction(final RocksDB database, final WriteOptions writeOptions) {
+    this.database = database;
+    this.writeOptions = writeOptions;
+    databaseNativeHandle = ZeebeTransactionDb.getNativeHandle(database);
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    RocksDbInternal.batchPutWithHandle.invoke(
+        batch, batchNativeHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    return (byte[])
+        RocksDbInternal.batchGetWithHandle.invoke(
+            batch,
+            batchNativeHandle,
+            databaseNativeHandle,
+            readOptionsHandle,
+            key,
+            keyLength,
+            columnFamilyHandle);
+  }
+
+  @Override
+  public byte[][] multiGet(
+      final ReadOptions readOptions,
+      final List<ColumnFamilyHandle> columnFamilyHandles,
+      final byte[][] keys)
+      throws Exception {
+    // the batch has no multi get, but the keys are looked up in memory first
+    final byte[][] values = new byte[keys.length][];
+    for (int i = 0; i < keys.length; i++) {
+      values[i] =
+          batch.getFromBatchAndDB(database, columnFamilyHandles.get(i), readOptions, keys[i]);
+    }
+    return values;
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    RocksDbInternal.batchRemoveWithHandle.invoke(
+        batch, batchNativeHandle, key, keyLength, columnFamilyHandle);
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the returned iterator owns the base iterator and closes it
+    return batch.newIteratorWithBase(handle, database.newIterator(handle, options), options);
+  }
+
+  void resetTransaction() {
+    // a transaction which is renewed before it was committed discards its changes
+    notifyRollback();
+
+    if (batch == null) {
+      // overwriting the entries of a key is required to iterate over the batch and the database
+      batch = new WriteBatchWithIndex(true);
+      batchNativeHandle = ZeebeTransactionDb.getNativeHandle(batch);
+    } else {
+      batch.clear();
+    }
+    inCurrentTransaction = true;
+    isTransactionPending = true;
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
+  boolean isInCurrentTransaction() {
+    return inCurrentTransaction;
+  }
+
+  @Override
+  public void run(final TransactionOperation operations) throws Exception {
+    try {
+      operations.run();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred during RocksDB write batch.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void commit() throws RocksDBException {
+    try {
+      inCurrentTransaction = false;
+      database.write(writeOptions, batch);
+      batch.clear();
+
+      if (isTransactionPending) {
+        isTransactionPending = false;
+        listeners.forEach(TransactionListener::onCommit);
+      }
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred during RocksDB write batch commit.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollback() {
+    inCurrentTransaction = false;
+    batch.clear();
+    notifyRollback();
+  }
+
+  private void notifyRollback() {
+    if (isTransactionPending) {
+      isTransactionPending = false;
+      listeners.forEach(TransactionListener::onRollback);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (batch != null) {
+      batch.close();
+    }
+  }
+}
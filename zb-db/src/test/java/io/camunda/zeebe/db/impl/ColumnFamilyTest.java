@@ -146,6 +146,57 @@ public final class ColumnFamilyTest {
     assertThat(exists).isFalse();
   }
 
+  @Test
+  public void shouldMultiGetValues() {
+    // given
+    putKeyValuePair(1, 10);
+    putKeyValuePair(2, 20);
+    putKeyValuePair(4, 40);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        List.of(longKey(4), longKey(3), longKey(1)),
+        (key, value) -> values.add(key.getValue() * 100 + value.getValue()));
+
+    // then
+    assertThat(values).containsExactly(440L, 110L);
+  }
+
+  @Test
+  public void shouldMultiGetNothingIfNotExist() {
+    // given
+    putKeyValuePair(1, 10);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        List.of(longKey(2), longKey(3)), (key, value) -> values.add(key.getValue()));
+    columnFamily.multiGet(List.of(), (key, value) -> values.add(key.getValue()));
+
+    // then
+    assertThat(values).isEmpty();
+  }
+
+  @Test
+  public void shouldMultiGetRepeatedly() {
+    // given
+    putKeyValuePair(1, 10);
+    putKeyValuePair(2, 20);
+    putKeyValuePair(3, 30);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        List.of(longKey(1), longKey(2), longKey(3)), (key, value) -> values.add(value.getValue()));
+    columnFamily.multiGet(List.of(longKey(3)), (key, value) -> values.add(value.getValue()));
+    columnFamily.multiGet(
+        List.of(longKey(2), longKey(1)), (key, value) -> values.add(value.getValue()));
+
+    // then
+    assertThat(values).containsExactly(10L, 20L, 30L, 30L, 20L, 10L);
+  }
+
   @Test
   public void shouldDelete() {
     // given
@@ -328,6 +379,12 @@ public final class ColumnFamilyTest {
     assertThat(columnFamily.isEmpty()).isTrue();
   }
 
+  private static DbLong longKey(final long value) {
+    final DbLong key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
   private void putKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -63,6 +63,32 @@ public final class DbStringColumnFamilyTest {
     assertThat(value.toString()).isEqualTo("baring");
   }
 
+  @Test
+  public void shouldMultiGetValuesOfDifferentKeyLength() {
+    // given
+    putKeyValuePair("foo", "baring");
+    putKeyValuePair("this is the one", "as you know");
+    putKeyValuePair("hello", "world");
+
+    // when
+    final List<String> values = new ArrayList<>();
+    columnFamily.multiGet(
+        List.of(stringKey("hello"), stringKey("foo"), stringKey("fo")),
+        (key, value) -> values.add(key + "=" + value));
+    columnFamily.multiGet(
+        List.of(stringKey("this is the one"), stringKey("hello"), stringKey("foo")),
+        (key, value) -> values.add(key + "=" + value));
+
+    // then
+    assertThat(values)
+        .containsExactly(
+            "hello=world",
+            "foo=baring",
+            "this is the one=as you know",
+            "hello=world",
+            "foo=baring");
+  }
+
   @Test
   public void shouldUseForeachValue() {
     // given
@@ -225,6 +251,12 @@ public final class DbStringColumnFamilyTest {
             "Currently nested prefix iterations are not supported! This will cause unexpected behavior.");
   }
 
+  private static DbString stringKey(final String value) {
+    final DbString key = new DbString();
+    key.wrapString(value);
+    return key;
+  }
+
   private void putKeyValuePair(final String key, final String value) {
     this.key.wrapString(key);
     this.value.wrapString(value);
@@ -8,15 +8,20 @@
 package io.camunda.zeebe.db.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
 import org.junit.Rule;
@@ -119,6 +124,28 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isTrue();
   }
 
+  @Test
+  public void shouldMultiGetUncommittedValues() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    final DbLong otherKey = new DbLong();
+    otherKey.wrapLong(2);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    transaction.run(
+        () ->
+            oneColumnFamily.multiGet(
+                List.of(oneKey, otherKey), (key, value) -> values.add(value.getValue())));
+
+    // then
+    assertThat(values).containsExactly(-1L);
+  }
+
   @Test
   public void shouldAccessOnOpenTransaction() throws Exception {
     // given
@@ -459,6 +486,245 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final RecordingTransactionListener listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+    transaction.commit();
+
+    // then
+    assertThat(listener.commits).hasValue(1);
+    assertThat(listener.rollbacks).hasValue(0);
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final RecordingTransactionListener listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+    transaction.rollback();
+
+    // then
+    assertThat(listener.commits).hasValue(0);
+    assertThat(listener.rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotifyListenerOnceWhenRunInTransaction() {
+    // given
+    final RecordingTransactionListener listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    transactionContext.runInTransaction(() -> oneColumnFamily.put(oneKey, oneValue));
+
+    // then
+    assertThat(listener.commits).hasValue(1);
+    assertThat(listener.rollbacks).hasValue(0);
+  }
+
+  @Test
+  public void shouldNotifyListenerOnError() {
+    // given
+    final RecordingTransactionListener listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    try {
+      transactionContext.runInTransaction(
+          () -> {
+            oneColumnFamily.put(oneKey, oneValue);
+            throw new RuntimeException();
+          });
+    } catch (final Exception e) {
+      // ignore
+    }
+
+    // then
+    assertThat(listener.commits).hasValue(0);
+    assertThat(listener.rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldCommitWriteBatch() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentWriteBatchTransaction();
+    transaction.run(
+        () -> {
+          oneColumnFamily.put(oneKey, oneValue);
+          twoColumnFamily.put(twoKey, twoValue);
+        });
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
+    assertThat(twoColumnFamily.get(twoKey).getValue()).isEqualTo(192313);
+  }
+
+  @Test
+  public void shouldStartNewWriteBatchAfterCommit() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentWriteBatchTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+    transaction.commit();
+
+    // when
+    final ZeebeDbTransaction newTransaction = transactionContext.getCurrentWriteBatchTransaction();
+    newTransaction.run(() -> oneColumnFamily.delete(oneKey));
+    newTransaction.rollback();
+
+    // then
+    assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldRollbackWriteBatch() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentWriteBatchTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+  }
+
+  @Test
+  public void shouldReadUncommittedValuesInWriteBatch() throws Exception {
+    // given
+    final Map<Long, Long> actualValues = new HashMap<>();
+    final List<Long> multiGetValues = new ArrayList<>();
+
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    oneColumnFamily.put(oneKey, oneValue);
+
+    oneKey.wrapLong(2);
+    oneValue.wrapLong(-2);
+    oneColumnFamily.put(oneKey, oneValue);
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentWriteBatchTransaction();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneColumnFamily.delete(oneKey);
+
+          oneKey.wrapLong(2);
+          oneValue.wrapLong(-5);
+          oneColumnFamily.put(oneKey, oneValue);
+
+          oneKey.wrapLong(3);
+          oneValue.wrapLong(-3);
+          oneColumnFamily.put(oneKey, oneValue);
+
+          oneColumnFamily.forEach((k, v) -> actualValues.put(k.getValue(), v.getValue()));
+
+          final DbLong otherKey = new DbLong();
+          otherKey.wrapLong(1);
+          oneColumnFamily.multiGet(
+              List.of(oneKey, otherKey), (key, value) -> multiGetValues.add(value.getValue()));
+        });
+
+    // then
+    assertThat(actualValues).containsOnly(Map.entry(2L, -5L), Map.entry(3L, -3L));
+    assertThat(multiGetValues).containsExactly(-3L);
+  }
+
+  @Test
+  public void shouldRunInOpenWriteBatch() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentWriteBatchTransaction();
+
+    // when
+    transactionContext.runInTransaction(() -> oneColumnFamily.put(oneKey, oneValue));
+
+    // then
+    assertThat(transactionContext.getCurrentTransaction()).isSameAs(transaction);
+
+    transaction.rollback();
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+  }
+
+  @Test
+  public void shouldNotOpenWriteBatchWhileTransactionIsOpen() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+
+    // when - then
+    assertThatThrownBy(transactionContext::getCurrentWriteBatchTransaction)
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void shouldNotifyListenerOnWriteBatchCommit() throws Exception {
+    // given
+    final RecordingTransactionListener listener = new RecordingTransactionListener();
+    transactionContext.addTransactionListener(listener);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentWriteBatchTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+    transaction.commit();
+
+    // then
+    assertThat(listener.commits).hasValue(1);
+    assertThat(listener.rollbacks).hasValue(0);
+  }
+
+  private static final class RecordingTransactionListener implements TransactionListener {
+    private final AtomicInteger commits = new AtomicInteger();
+    private final AtomicInteger rollbacks = new AtomicInteger();
+
+    @Override
+    public void onCommit() {
+      commits.incrementAndGet();
+    }
+
+    @Override
+    public void onRollback() {
+      rollbacks.incrementAndGet();
+    }
+  }
+
   private enum ColumnFamilies {
     DEFAULT, // rocksDB needs a default column family
     ONE,